@@ -31,6 +31,7 @@ dependencies {
   implementation("org.flywaydb:flyway-database-postgresql")
   implementation("io.micrometer:micrometer-registry-prometheus")
   testImplementation("org.springframework.boot:spring-boot-starter-test")
+  testImplementation(libs.testcontainers.postgresql)
   compileOnly(libs.spotbugs.annotations)
 }
 
@@ -1,12 +1,19 @@
 package net.particify.arsnova.comments;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.core.AmqpTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import net.particify.arsnova.comments.model.Comment;
@@ -14,43 +21,66 @@ import net.particify.arsnova.comments.model.event.CommentPatched;
 import net.particify.arsnova.comments.model.event.CommentPatchedPayload;
 import net.particify.arsnova.common.uuid.UuidHelper;
 import net.particify.arsnova.comments.service.CommentService;
-import net.particify.arsnova.comments.service.VoteService;
 
+/**
+ * Sends changes of comments to the comment stream of the room.
+ *
+ * <p>
+ * Score changes are not sent immediately. They are collected and sent
+ * periodically, grouped by room, so a burst of votes for a comment results
+ * in a single event with the latest score.
+ * </p>
+ */
 @Component
 public class CommentEventSource {
   private static final Logger logger = LoggerFactory.getLogger(CommentEventSource.class);
+  private static final long SCORE_BROADCAST_INTERVAL_MS = 1000;
 
   private final AmqpTemplate messagingTemplate;
   private final CommentService service;
-  private final VoteService voteService;
+  private final Set<UUID> changedScoreIds = ConcurrentHashMap.newKeySet();
 
   @Autowired
   public CommentEventSource(
       AmqpTemplate messagingTemplate,
-      CommentService service,
-      VoteService voteService
+      CommentService service
   ) {
     this.messagingTemplate = messagingTemplate;
     this.service = service;
-    this.voteService = voteService;
   }
 
   public void scoreChanged(UUID id) {
-    Comment c = service.getWithScore(id);
-    int score = c.getScore();
+    changedScoreIds.add(id);
+  }
+
+  @Scheduled(fixedDelay = SCORE_BROADCAST_INTERVAL_MS)
+  public void sendScoreChanges() {
+    final List<UUID> ids = new ArrayList<>();
+    final Iterator<UUID> iterator = changedScoreIds.iterator();
+    while (iterator.hasNext()) {
+      ids.add(iterator.next());
+      iterator.remove();
+    }
+    if (ids.isEmpty()) {
+      return;
+    }
 
-    Map<String, Object> changeMap = new HashMap<>();
-    changeMap.put("score", score);
+    final Map<UUID, List<Comment>> commentsByRoom = service.getWithScore(ids).stream()
+        .collect(Collectors.groupingBy(Comment::getRoomId));
+    logger.debug("Sending score changes of {} comments for {} rooms.", ids.size(), commentsByRoom.size());
+    commentsByRoom.forEach((roomId, comments) -> {
+      final String routingKey = UuidHelper.uuidToString(roomId) + ".comment.stream";
+      for (final Comment c : comments) {
+        Map<String, Object> changeMap = new HashMap<>();
+        changeMap.put("score", c.getScore());
 
-    CommentPatchedPayload p = new CommentPatchedPayload(id, changeMap);
-    CommentPatched event = new CommentPatched(p, c.getRoomId());
+        CommentPatchedPayload p = new CommentPatchedPayload(c.getId(), changeMap);
+        CommentPatched event = new CommentPatched(p, roomId);
 
-    logger.debug("Sending event to comment stream: {}", event);
+        logger.debug("Sending event to comment stream: {}", event);
 
-    messagingTemplate.convertAndSend(
-        "amq.topic",
-        UuidHelper.uuidToString(event.getRoomId()) + ".comment.stream",
-        event
-    );
+        messagingTemplate.convertAndSend("amq.topic", routingKey, event);
+      }
+    });
   }
 }
@@ -0,0 +1,26 @@
+package net.particify.arsnova.comments.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.flyway.autoconfigure.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FlywayConfig {
+  public static final String TEXT_SEARCH_CONFIGURATION_PLACEHOLDER = "textSearchConfiguration";
+  public static final String DEFAULT_TEXT_SEARCH_CONFIGURATION = "simple";
+
+  /**
+   * Sets defaults for placeholders used by migrations, so migrations do not
+   * fail if a placeholder is not set by the properties.
+   */
+  @Bean
+  public FlywayConfigurationCustomizer placeholderDefaultsCustomizer() {
+    return configuration -> {
+      final Map<String, String> placeholders = new HashMap<>(configuration.getPlaceholders());
+      placeholders.putIfAbsent(TEXT_SEARCH_CONFIGURATION_PLACEHOLDER, DEFAULT_TEXT_SEARCH_CONFIGURATION);
+      configuration.placeholders(placeholders);
+    };
+  }
+}
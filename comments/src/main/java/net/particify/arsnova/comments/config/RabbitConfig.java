@@ -30,6 +30,8 @@ public class RabbitConfig {
   public static final String ROOM_DELETED_FANOUT_NAME = "backend.event.room.afterdeletion";
   public static final String ROOM_DELETED_QUEUE_NAME = ROOM_DELETED_FANOUT_NAME + ".consumer.comment-service";
   public static final String ROOM_DELETED_DLQ_NAME = ROOM_DELETED_QUEUE_NAME + ".dlq";
+  public static final String USER_DELETED_FANOUT_NAME = "backend.event.userprofile.afterdeletion";
+  public static final String USER_DELETED_QUEUE_NAME = USER_DELETED_FANOUT_NAME + ".consumer.comment-service";
 
   @Value("${spring.rabbitmq.host}") private String rabbitmqHost;
   @Value("${spring.rabbitmq.port}") private int rabbitmqPort;
@@ -88,6 +90,10 @@ public class RabbitConfig {
         .build();
     final Binding roomDeletedBinding = BindingBuilder.bind(roomDeletedQueue).to(roomDeletedFanoutExchange);
 
+    final FanoutExchange userDeletedFanoutExchange = new FanoutExchange(USER_DELETED_FANOUT_NAME);
+    final Queue userDeletedQueue = new Queue(USER_DELETED_QUEUE_NAME, true, false, false);
+    final Binding userDeletedBinding = BindingBuilder.bind(userDeletedQueue).to(userDeletedFanoutExchange);
+
     final FanoutExchange deleteFanoutExchange = new FanoutExchange(COMMENT_SERVICE_COMMENT_DELETE_FANOUT_NAME);
 
     return new Declarables(
@@ -105,7 +111,10 @@ public class RabbitConfig {
         roomDeletedBinding,
         roomDuplicatedFanoutExchange,
         roomDuplicatedQueue,
-        roomDuplicatedBinding
+        roomDuplicatedBinding,
+        userDeletedFanoutExchange,
+        userDeletedQueue,
+        userDeletedBinding
     );
   }
 }
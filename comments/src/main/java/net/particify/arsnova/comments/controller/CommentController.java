@@ -2,10 +2,8 @@ package net.particify.arsnova.comments.controller;
 
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,10 +25,13 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import net.particify.arsnova.comments.handler.CommentCommandHandler;
 import net.particify.arsnova.comments.model.Comment;
+import net.particify.arsnova.comments.model.CommentSearchResult;
 import net.particify.arsnova.comments.model.command.CreateComment;
 import net.particify.arsnova.comments.model.command.CreateCommentPayload;
 import net.particify.arsnova.comments.model.command.DeleteComment;
 import net.particify.arsnova.comments.model.command.DeleteCommentPayload;
+import net.particify.arsnova.comments.model.command.DeleteComments;
+import net.particify.arsnova.comments.model.command.DeleteCommentsPayload;
 import net.particify.arsnova.comments.model.command.DeleteCommentsByRoom;
 import net.particify.arsnova.comments.model.command.DeleteCommentsByRoomPayload;
 import net.particify.arsnova.comments.model.command.HighlightComment;
@@ -41,6 +42,7 @@ import net.particify.arsnova.comments.model.command.UpdateComment;
 import net.particify.arsnova.comments.model.command.UpdateCommentPayload;
 import net.particify.arsnova.common.uuid.UuidHelper;
 import net.particify.arsnova.comments.service.CommentFindQueryService;
+import net.particify.arsnova.comments.service.CommentSearchService;
 import net.particify.arsnova.comments.service.CommentService;
 import net.particify.arsnova.comments.service.FindQuery;
 
@@ -52,6 +54,7 @@ public class CommentController extends AbstractEntityController {
   protected static final String REQUEST_MAPPING = "/room/{roomId}/comment";
   private static final String BULK_DELETE_MAPPING = POST_MAPPING + "bulkdelete";
   private static final String DELETE_BY_ROOM_MAPPING = POST_MAPPING + "byRoom";
+  private static final String SEARCH_MAPPING = "/search";
   private static final String COMMAND_MAPPING = DEFAULT_ID_MAPPING + "/_command";
   private static final String HIGHLIGHT_COMMAND_MAPPING = COMMAND_MAPPING + "/highlight";
   private static final String LOWLIGHT_COMMAND_MAPPING = COMMAND_MAPPING + "/lowlight";
@@ -59,16 +62,19 @@ public class CommentController extends AbstractEntityController {
   private final CommentCommandHandler commandHandler;
   private final CommentService service;
   private final CommentFindQueryService findQueryService;
+  private final CommentSearchService searchService;
 
   @Autowired
   public CommentController(
       CommentCommandHandler commandHandler,
       CommentService service,
-      CommentFindQueryService findQueryService
+      CommentFindQueryService findQueryService,
+      CommentSearchService searchService
   ) {
     this.commandHandler = commandHandler;
     this.service = service;
     this.findQueryService = findQueryService;
+    this.searchService = searchService;
   }
 
   @GetMapping(GET_MAPPING)
@@ -109,25 +115,33 @@ public class CommentController extends AbstractEntityController {
   }
 
   @PostMapping(FIND_MAPPING)
-  public List<Comment> find(@RequestBody final FindQuery<Comment> findQuery) {
+  public List<Comment> find(
+      @RequestBody final FindQuery<Comment> findQuery,
+      @RequestParam(required = false) final CommentFindQueryService.SortOrder sort,
+      @RequestParam(required = false) final Integer limit,
+      @RequestParam(required = false) final UUID after
+  ) {
     logger.debug("Resolving find query: {}", findQuery);
 
-    Set<UUID> ids = findQueryService.resolveQuery(findQuery);
-
-    logger.debug("Resolved find query to IDs: {}", ids);
-
-    return service.getWithScore(new ArrayList<>(ids));
+    return findQueryService.find(findQuery, sort, limit, after);
   }
 
   @PostMapping(FIND_MAPPING + COUNT_MAPPING)
   public int findAndCount(@RequestBody final FindQuery<Comment> findQuery) {
     logger.debug("Resolving find query: {}", findQuery);
 
-    Set<UUID> ids = findQueryService.resolveQuery(findQuery);
+    return (int) findQueryService.count(findQuery);
+  }
 
-    logger.debug("Resolved find query to IDs: {}", ids);
+  @GetMapping(SEARCH_MAPPING)
+  public List<CommentSearchResult> search(
+      @PathVariable final UUID roomId,
+      @RequestParam final String query,
+      @RequestParam(defaultValue = "" + CommentSearchService.DEFAULT_LIMIT) final int limit
+  ) {
+    logger.debug("Searching comments of room {}: {}", roomId, query);
 
-    return ids.size();
+    return searchService.search(roomId, query, limit);
   }
 
   @PatchMapping(PATCH_MAPPING)
@@ -153,14 +167,13 @@ public class CommentController extends AbstractEntityController {
 
   @PostMapping(BULK_DELETE_MAPPING)
   public void bulkDelete(
+      @PathVariable final UUID roomId,
       @RequestBody final UUID[] ids
   ) {
-    for (UUID id : ids) {
-      DeleteCommentPayload p = new DeleteCommentPayload(id);
-      DeleteComment command = new DeleteComment(p);
+    DeleteCommentsPayload p = new DeleteCommentsPayload(roomId, List.of(ids));
+    DeleteComments command = new DeleteComments(p);
 
-      commandHandler.handle(command);
-    }
+    commandHandler.handle(command);
   }
 
   @DeleteMapping(DELETE_BY_ROOM_MAPPING)
@@ -31,6 +31,12 @@ public class AmqpEventDispatcher {
     eventPublisher.publishEvent(event);
   }
 
+  @RabbitListener(queues = RabbitConfig.USER_DELETED_QUEUE_NAME)
+  public void dispatchUserDeletedEvent(final UserDeletedEvent event) {
+    logger.debug("Dispatching UserDeletedEvent: {}", event);
+    eventPublisher.publishEvent(event);
+  }
+
   @RabbitListener(queues = RabbitConfig.BACKEND_COMMENT_QUEUE_NAME)
   public void dispatchImportEvent(final ImportEvent event) {
     logger.debug("Dispatching ImportEvent: {}", event);
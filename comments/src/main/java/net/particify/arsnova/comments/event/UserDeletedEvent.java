@@ -0,0 +1,24 @@
+package net.particify.arsnova.comments.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.UUID;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+class UserDeletedEvent {
+  private UUID id;
+
+  public UUID getId() {
+    return id;
+  }
+
+  public void setId(final UUID id) {
+    this.id = id;
+  }
+
+  @Override
+  public String toString() {
+    return "UserDeletedEvent{" +
+      "id='" + id + '\'' +
+      '}';
+  }
+}
@@ -0,0 +1,26 @@
+package net.particify.arsnova.comments.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import net.particify.arsnova.comments.security.JwtService;
+import net.particify.arsnova.common.uuid.UuidHelper;
+
+@Component
+public class UserDeletedListener {
+  private static final Logger logger = LoggerFactory.getLogger(UserDeletedListener.class);
+
+  private final JwtService jwtService;
+
+  public UserDeletedListener(final JwtService jwtService) {
+    this.jwtService = jwtService;
+  }
+
+  @EventListener
+  public void handleUserDeletedEvent(final UserDeletedEvent event) {
+    logger.debug("Received user deleted event {}", event);
+    jwtService.invalidateUser(UuidHelper.uuidToString(event.getId()));
+  }
+}
@@ -22,6 +22,7 @@ import net.particify.arsnova.comments.model.command.CalculateStats;
 import net.particify.arsnova.comments.model.command.CreateComment;
 import net.particify.arsnova.comments.model.command.CreateCommentPayload;
 import net.particify.arsnova.comments.model.command.DeleteComment;
+import net.particify.arsnova.comments.model.command.DeleteComments;
 import net.particify.arsnova.comments.model.command.DeleteCommentsByRoom;
 import net.particify.arsnova.comments.model.command.HighlightComment;
 import net.particify.arsnova.comments.model.command.ImportComment;
@@ -329,6 +330,24 @@ public class CommentCommandHandler {
     }
   }
 
+  public void handle(DeleteComments command) {
+    logger.debug("Got new command: {}", command);
+
+    UUID roomId = command.getPayload().getRoomId();
+    List<UUID> ids = command.getPayload().getIds();
+
+    if (!permissionEvaluator.isOwnerOrEditorForRoom(roomId)) {
+      // Creators are allowed to delete their own comments
+      boolean permitted = service.get(ids).stream().allMatch(permissionEvaluator::checkCommentDeletePermission);
+      if (!permitted) {
+        throw new ForbiddenException();
+      }
+    }
+
+    List<Comment> deletedComments = service.deleteByRoomIdAndIds(roomId, ids);
+    sendCommentsDeleted(roomId, deletedComments);
+  }
+
   public void handle(DeleteCommentsByRoom command) {
     logger.debug("Got new command: {}", command);
 
@@ -339,16 +358,20 @@ public class CommentCommandHandler {
     }
 
     List<Comment> deletedComments = service.deleteByRoomId(roomId);
+    sendCommentsDeleted(roomId, deletedComments);
+  }
+
+  private void sendCommentsDeleted(UUID roomId, List<Comment> deletedComments) {
     for (Comment c : deletedComments) {
       CommentDeletedPayload p = new CommentDeletedPayload();
       p.setId(c.getId());
-      CommentDeleted event = new CommentDeleted(p, c.getRoomId());
+      CommentDeleted event = new CommentDeleted(p, roomId);
 
       logger.debug("Sending event to comment stream: {}", event);
 
       messagingTemplate.convertAndSend(
           "amq.topic",
-          UuidHelper.uuidToString(c.getRoomId()) +  ".comment"  + (!c.isAck() ? ".moderator" : "") + ".stream",
+          UuidHelper.uuidToString(roomId) +  ".comment"  + (!c.isAck() ? ".moderator" : "") + ".stream",
           event
       );
 
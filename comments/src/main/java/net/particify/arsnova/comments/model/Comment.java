@@ -4,7 +4,6 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
-import jakarta.persistence.Transient;
 import java.util.Date;
 import java.util.Objects;
 import java.util.UUID;
@@ -31,7 +30,12 @@ public class Comment {
   @Column(columnDefinition = "TEXT")
   private String answer;
 
-  @Transient
+  /**
+   * The sum of all votes. It is only modified by {@link
+   * net.particify.arsnova.comments.service.VoteService} together with the
+   * votes.
+   */
+  @Column(insertable = false, updatable = false)
   private int score;
 
   public Comment() {
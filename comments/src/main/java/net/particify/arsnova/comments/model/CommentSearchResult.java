@@ -0,0 +1,39 @@
+package net.particify.arsnova.comments.model;
+
+/**
+ * A comment matching a search query. The highlights contain the matching
+ * fragments of the HTML-escaped text with matches enclosed in mark elements.
+ */
+public class CommentSearchResult {
+  private Comment comment;
+  private float rank;
+  private String bodyHighlight;
+  private String answerHighlight;
+
+  public CommentSearchResult(
+      final Comment comment,
+      final float rank,
+      final String bodyHighlight,
+      final String answerHighlight) {
+    this.comment = comment;
+    this.rank = rank;
+    this.bodyHighlight = bodyHighlight;
+    this.answerHighlight = answerHighlight;
+  }
+
+  public Comment getComment() {
+    return comment;
+  }
+
+  public float getRank() {
+    return rank;
+  }
+
+  public String getBodyHighlight() {
+    return bodyHighlight;
+  }
+
+  public String getAnswerHighlight() {
+    return answerHighlight;
+  }
+}
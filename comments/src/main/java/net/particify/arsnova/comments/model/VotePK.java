@@ -16,6 +16,14 @@ public class VotePK implements Serializable {
     this.commentId = commentId;
   }
 
+  public UUID getUserId() {
+    return userId;
+  }
+
+  public UUID getCommentId() {
+    return commentId;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) return true;
@@ -0,0 +1,12 @@
+package net.particify.arsnova.comments.model.command;
+
+public class DeleteComments extends WebSocketCommand<DeleteCommentsPayload> {
+  public DeleteComments() {
+    super(DeleteComments.class.getSimpleName());
+  }
+
+  public DeleteComments(DeleteCommentsPayload p) {
+    super(DeleteComments.class.getSimpleName());
+    this.payload = p;
+  }
+}
@@ -0,0 +1,58 @@
+package net.particify.arsnova.comments.model.command;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import net.particify.arsnova.comments.model.WebSocketPayload;
+
+public class DeleteCommentsPayload implements WebSocketPayload {
+  private UUID roomId;
+  private List<UUID> ids;
+
+  public DeleteCommentsPayload() {
+  }
+
+  public DeleteCommentsPayload(UUID roomId, List<UUID> ids) {
+    this.roomId = roomId;
+    this.ids = ids;
+  }
+
+  public UUID getRoomId() {
+    return roomId;
+  }
+
+  public void setRoomId(UUID roomId) {
+    this.roomId = roomId;
+  }
+
+  public List<UUID> getIds() {
+    return ids;
+  }
+
+  public void setIds(List<UUID> ids) {
+    this.ids = ids;
+  }
+
+  @Override
+  public String toString() {
+    return "DeleteCommentsPayload{" +
+        "roomId='" + roomId + '\'' +
+        ", ids=" + ids +
+        '}';
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    DeleteCommentsPayload that = (DeleteCommentsPayload) o;
+    return Objects.equals(roomId, that.roomId) &&
+        Objects.equals(ids, that.ids);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(roomId, ids);
+  }
+}
@@ -5,6 +5,7 @@ import com.auth0.jwt.JWT;
 import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.stream.Collectors;
 import org.springframework.security.core.GrantedAuthority;
@@ -12,15 +13,20 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Service;
 
 import net.particify.arsnova.comments.config.properties.SecurityProperties;
+import net.particify.arsnova.common.security.VerifiedTokenCache;
 
 @Service
 public class JwtService {
   private static final String ROLE_PREFIX = "ROLE_";
   private static final String ROLES_CLAIM_NAME = "roles";
+  private static final long TOKEN_CACHE_SIZE = 10000;
+  private static final Duration TOKEN_CACHE_MAX_AGE = Duration.ofMinutes(10);
 
   private Algorithm algorithm;
   private JWTVerifier verifier;
   private String jwtSecret;
+  private final VerifiedTokenCache<AuthenticatedUser> verifiedTokenCache =
+      new VerifiedTokenCache<>(TOKEN_CACHE_SIZE, TOKEN_CACHE_MAX_AGE);
 
   public JwtService(final SecurityProperties securityProperties) {
     jwtSecret = securityProperties.getJwt().getSecret();
@@ -30,12 +36,24 @@ public class JwtService {
   }
 
   public AuthenticatedUser verifyToken(final String token) {
+    return verifiedTokenCache.get(token, this::verifyUncachedToken);
+  }
+
+  /**
+   * Removes cached verification results for tokens of the user.
+   */
+  public void invalidateUser(final String userId) {
+    verifiedTokenCache.invalidateSubject(userId);
+  }
+
+  private VerifiedTokenCache.VerifiedToken<AuthenticatedUser> verifyUncachedToken(final String token) {
     final DecodedJWT decodedJwt = verifier.verify(token);
     String userId = decodedJwt.getSubject();
 
     final Collection<GrantedAuthority> authorities = decodedJwt.getClaim(ROLES_CLAIM_NAME).asList(String.class).stream()
         .map(role -> new SimpleGrantedAuthority(ROLE_PREFIX + role)).collect(Collectors.toList());
 
-    return new AuthenticatedUser(userId, authorities, token);
+    return new VerifiedTokenCache.VerifiedToken<>(
+        new AuthenticatedUser(userId, authorities, token), userId, decodedJwt.getExpiresAtAsInstant());
   }
 }
@@ -1,39 +1,200 @@
 package net.particify.arsnova.comments.service;
 
-import java.util.HashSet;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import net.particify.arsnova.comments.exception.BadRequestException;
+import net.particify.arsnova.comments.exception.ForbiddenException;
 import net.particify.arsnova.comments.model.Comment;
+import net.particify.arsnova.comments.security.PermissionEvaluator;
+import net.particify.arsnova.comments.service.persistence.CommentRepository;
 
+/**
+ * Translates find queries for comments into a single database query.
+ *
+ * <p>
+ * The room ID and the ack flag of the query's properties are always used as
+ * criteria. The archive ID, tag and creator ID are used if they are set.
+ * Comments which are not archived are selected if no archive ID is set. The
+ * favorite and read flags can be set as external filters because the
+ * properties cannot express that they are unset.
+ * </p>
+ *
+ * <p>
+ * Results are sorted in descending order with comments without a sort key
+ * last and the ID as tie-breaker. They support keyset pagination: the ID of
+ * the last comment of the previous page is passed to continue after it.
+ * </p>
+ */
 @Service
 public class CommentFindQueryService {
+  public enum SortOrder {
+    TIME("timestamp"),
+    SCORE("score");
+
+    private final String property;
+
+    SortOrder(final String property) {
+      this.property = property;
+    }
+  }
 
   private static final Logger logger = LoggerFactory.getLogger(CommentFindQueryService.class);
+  private static final List<String> EXTERNAL_FLAG_FILTERS = List.of("favorite", "read");
 
-  private final CommentService commentService;
+  private final CommentRepository repository;
+  private final PermissionEvaluator permissionEvaluator;
 
   @Autowired
-  public CommentFindQueryService(final CommentService commentService) {
-    this.commentService = commentService;
+  public CommentFindQueryService(
+      final CommentRepository repository,
+      final PermissionEvaluator permissionEvaluator) {
+    this.repository = repository;
+    this.permissionEvaluator = permissionEvaluator;
   }
 
-  public Set<UUID> resolveQuery(final FindQuery<Comment> findQuery) {
-    Set<UUID> commentIds = new HashSet<>();
-    if (findQuery.getProperties().getRoomId() != null) {
-      List<Comment> contentList = commentService.getByRoomIdAndArchiveIdNull(findQuery.getProperties().getRoomId());
-      for (Comment c : contentList) {
-        if (findQuery.getProperties().isAck() == c.isAck()) {
-          commentIds.add(c.getId());
+  public List<Comment> find(
+      final FindQuery<Comment> findQuery,
+      final SortOrder sortOrder,
+      final Integer limit,
+      final UUID afterId) {
+    if (findQuery.getProperties() == null || findQuery.getProperties().getRoomId() == null) {
+      return Collections.emptyList();
+    }
+    if (limit != null && limit <= 0) {
+      throw new BadRequestException("Limit has to be positive.");
+    }
+    final SortOrder order = sortOrder != null ? sortOrder : SortOrder.TIME;
+    Specification<Comment> specification = buildSpecification(findQuery);
+    if (afterId != null) {
+      specification = specification.and(buildKeysetSpecification(order, afterId));
+    }
+    final Sort sort = Sort.by(Sort.Order.desc(order.property).nullsLast(), Sort.Order.desc("id"));
+    logger.debug("Finding comments (sort order: {}, limit: {}, after: {}).", order, limit, afterId);
+
+    return repository.findBy(specification, q -> limit != null
+        ? q.sortBy(sort).limit(limit).all()
+        : q.sortBy(sort).all());
+  }
+
+  public long count(final FindQuery<Comment> findQuery) {
+    if (findQuery.getProperties() == null || findQuery.getProperties().getRoomId() == null) {
+      return 0;
+    }
+
+    return repository.count(buildSpecification(findQuery));
+  }
+
+  private Specification<Comment> buildSpecification(final FindQuery<Comment> findQuery) {
+    final Comment properties = findQuery.getProperties();
+    final Map<String, Object> externalFilters = findQuery.getExternalFilters() != null
+        ? findQuery.getExternalFilters()
+        : Collections.emptyMap();
+    if (properties.getCreatorId() != null
+        && !permissionEvaluator.checkCommentOwnerPermission(properties)
+        && !permissionEvaluator.isOwnerOrAnyTypeOfModeratorForRoom(properties.getRoomId())) {
+      throw new ForbiddenException();
+    }
+
+    return (root, query, cb) -> {
+      final List<Predicate> predicates = new ArrayList<>();
+      predicates.add(cb.equal(root.get("roomId"), properties.getRoomId()));
+      predicates.add(cb.equal(root.get("ack"), properties.isAck()));
+      predicates.add(properties.getArchiveId() != null
+          ? cb.equal(root.get("archiveId"), properties.getArchiveId())
+          : cb.isNull(root.get("archiveId")));
+      if (properties.getTag() != null) {
+        predicates.add(cb.equal(root.get("tag"), properties.getTag()));
+      }
+      if (properties.getCreatorId() != null) {
+        predicates.add(cb.equal(root.get("creatorId"), properties.getCreatorId()));
+      }
+      for (final String flag : EXTERNAL_FLAG_FILTERS) {
+        if (externalFilters.get(flag) instanceof Boolean value) {
+          predicates.add(cb.equal(root.get(flag), value));
         }
       }
-    }
 
-    return commentIds;
+      return cb.and(predicates.toArray(new Predicate[0]));
+    };
+  }
+
+  /**
+   * Selects the comments which follow the comment with the passed ID in the
+   * sort order. The sort key of that comment is selected by a subquery, so
+   * no additional query is needed. Comments without a sort key follow all
+   * other comments. Comments with the same sort key are ordered by their IDs.
+   */
+  private Specification<Comment> buildKeysetSpecification(final SortOrder sortOrder, final UUID afterId) {
+    return (root, query, cb) -> switch (sortOrder) {
+      case TIME -> buildKeysetPredicate(root, query, cb, sortOrder.property, Date.class, afterId);
+      case SCORE -> buildKeysetPredicate(root, query, cb, sortOrder.property, Integer.class, afterId);
+    };
+  }
+
+  private <T extends Comparable<? super T>> Predicate buildKeysetPredicate(
+      final Root<Comment> root,
+      final CriteriaQuery<?> query,
+      final CriteriaBuilder cb,
+      final String property,
+      final Class<T> type,
+      final UUID afterId) {
+    final Path<T> value = root.get(property);
+    final Path<UUID> id = root.get("id");
+
+    return cb.or(
+        cb.lessThan(value, selectAnchorValue(query, cb, property, type, afterId)),
+        cb.and(
+            cb.equal(value, selectAnchorValue(query, cb, property, type, afterId)),
+            cb.lessThan(id, afterId)),
+        cb.and(
+            cb.isNull(value),
+            cb.isNotNull(selectAnchorValue(query, cb, property, type, afterId))),
+        cb.and(
+            cb.isNull(value),
+            cb.lessThan(id, afterId),
+            cb.exists(selectAnchorWithoutValue(query, cb, property, afterId))));
+  }
+
+  private <T> Expression<T> selectAnchorValue(
+      final CriteriaQuery<?> query,
+      final CriteriaBuilder cb,
+      final String property,
+      final Class<T> type,
+      final UUID afterId) {
+    final Subquery<T> subquery = query.subquery(type);
+    final Root<Comment> anchor = subquery.from(Comment.class);
+
+    return subquery.select(anchor.get(property)).where(cb.equal(anchor.get("id"), afterId));
+  }
+
+  private Subquery<UUID> selectAnchorWithoutValue(
+      final CriteriaQuery<?> query,
+      final CriteriaBuilder cb,
+      final String property,
+      final UUID afterId) {
+    final Subquery<UUID> subquery = query.subquery(UUID.class);
+    final Root<Comment> anchor = subquery.from(Comment.class);
+
+    return subquery.select(anchor.get("id")).where(
+        cb.equal(anchor.get("id"), afterId),
+        cb.isNull(anchor.get(property)));
   }
 }
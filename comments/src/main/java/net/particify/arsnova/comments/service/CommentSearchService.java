@@ -0,0 +1,72 @@
+package net.particify.arsnova.comments.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import net.particify.arsnova.comments.exception.BadRequestException;
+import net.particify.arsnova.comments.exception.ForbiddenException;
+import net.particify.arsnova.comments.model.Comment;
+import net.particify.arsnova.comments.model.CommentSearchResult;
+import net.particify.arsnova.comments.security.PermissionEvaluator;
+import net.particify.arsnova.comments.service.persistence.CommentRepository;
+
+/**
+ * Searches the text of a room's comments, including archived comments.
+ *
+ * <p>
+ * The query supports the web search syntax of PostgreSQL (quoted phrases,
+ * "or" and "-" for exclusion). Matches in tags are ranked higher than
+ * matches in bodies, which are ranked higher than matches in answers. The
+ * search is only available to owners and moderators of the room.
+ * </p>
+ */
+@Service
+public class CommentSearchService {
+  public static final int DEFAULT_LIMIT = 50;
+  private static final int MAX_LIMIT = 200;
+  private static final int MAX_QUERY_LENGTH = 200;
+
+  private final CommentRepository repository;
+  private final PermissionEvaluator permissionEvaluator;
+
+  @Autowired
+  public CommentSearchService(
+      final CommentRepository repository,
+      final PermissionEvaluator permissionEvaluator) {
+    this.repository = repository;
+    this.permissionEvaluator = permissionEvaluator;
+  }
+
+  public List<CommentSearchResult> search(final UUID roomId, final String query, final int limit) {
+    if (!permissionEvaluator.isOwnerOrAnyTypeOfModeratorForRoom(roomId)) {
+      throw new ForbiddenException();
+    }
+    if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+      throw new BadRequestException("Invalid search query.");
+    }
+    if (limit <= 0 || limit > MAX_LIMIT) {
+      throw new BadRequestException("Limit has to be between 1 and " + MAX_LIMIT + ".");
+    }
+
+    final List<CommentRepository.SearchHit> hits = repository.search(roomId, query, limit);
+    final Map<UUID, Comment> comments = StreamSupport.stream(
+        repository.findAllById(hits.stream().map(CommentRepository.SearchHit::getId).toList()).spliterator(),
+        false
+    ).collect(Collectors.toMap(Comment::getId, Function.identity()));
+
+    return hits.stream()
+        .filter(hit -> comments.containsKey(hit.getId()))
+        .map(hit -> new CommentSearchResult(
+            comments.get(hit.getId()),
+            hit.getRank(),
+            hit.getBodyHighlight(),
+            hit.getAnswerHighlight()))
+        .toList();
+  }
+}
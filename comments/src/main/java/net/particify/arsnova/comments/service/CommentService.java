@@ -1,7 +1,10 @@
 package net.particify.arsnova.comments.service;
 
+import jakarta.persistence.EntityManager;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,6 +16,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectReader;
 import tools.jackson.databind.json.JsonMapper;
@@ -32,17 +36,20 @@ public class CommentService {
   final VoteRepository voteRepository;
   final VoteService voteService;
   private JsonMapper jsonMapper;
+  private final EntityManager entityManager;
 
   @Autowired
   public CommentService(
       CommentRepository repository,
       VoteRepository voteRepository,
       VoteService voteService,
-      JsonMapper jsonMapper) {
+      JsonMapper jsonMapper,
+      EntityManager entityManager) {
     this.repository = repository;
     this.voteRepository = voteRepository;
     this.voteService = voteService;
     this.jsonMapper = jsonMapper;
+    this.entityManager = entityManager;
   }
 
   public Comment get(UUID id) {
@@ -50,21 +57,21 @@ public class CommentService {
     return repository.findById(id).orElse(new Comment());
   }
 
+  public List<Comment> get(final Collection<UUID> ids) {
+    final List<Comment> list = new ArrayList<>();
+    repository.findAllById(ids).forEach(list::add);
+
+    return list;
+  }
+
   public Comment getWithScore(UUID id) {
     // ToDo: error handling
-    Comment c = repository.findById(id).orElse(new Comment());
-    c.setScore(voteService.getSumByCommentId(id));
-
-    return c;
+    return repository.findById(id).orElse(new Comment());
   }
 
   public List<Comment> getWithScore(final List<UUID> ids) {
     final List<Comment> list = new ArrayList<>();
-    final Map<UUID, Integer> voteSums = voteService.getSumsByCommentIds(ids);
-    repository.findAllById(ids).forEach(c -> {
-      c.setScore(voteSums.getOrDefault(c.getId(), 0));
-      list.add(c);
-    });
+    repository.findAllById(ids).forEach(list::add);
 
     return list;
   }
@@ -153,8 +160,23 @@ public class CommentService {
     repository.deleteById(id);
   }
 
+  @Transactional
   public List<Comment> deleteByRoomId(UUID roomId) {
-    return repository.deleteByRoomId(roomId);
+    final List<Comment> deletedComments = repository.deleteByRoomId(roomId);
+    // The deleted comments and their votes would still be managed otherwise.
+    entityManager.clear();
+    return deletedComments;
+  }
+
+  @Transactional
+  public List<Comment> deleteByRoomIdAndIds(final UUID roomId, final Collection<UUID> ids) {
+    if (ids.isEmpty()) {
+      return Collections.emptyList();
+    }
+    final List<Comment> deletedComments = repository.deleteByRoomIdAndIdIn(roomId, ids);
+    // The deleted comments and their votes would still be managed otherwise.
+    entityManager.clear();
+    return deletedComments;
   }
 
   public Map<UUID, Comment> duplicateComments(final UUID originalRoomId, final UUID duplicatedRoomId) {
@@ -7,23 +7,26 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import net.particify.arsnova.comments.model.Comment;
 import net.particify.arsnova.comments.model.Vote;
 import net.particify.arsnova.comments.model.VotePK;
+import net.particify.arsnova.comments.service.persistence.CommentRepository;
 import net.particify.arsnova.comments.service.persistence.VoteRepository;
 
 @Service
 public class VoteService {
   private static final UUID NIL_UUID = UUID.fromString("00000000-0000-0000-0000-000000000000");
+  private static final int MAX_IDS_PER_QUERY = 1000;
 
   final VoteRepository repository;
+  final CommentRepository commentRepository;
 
   @Autowired
-  public VoteService(VoteRepository repository) {
+  public VoteService(VoteRepository repository, CommentRepository commentRepository) {
     this.repository = repository;
+    this.commentRepository = commentRepository;
   }
 
   public Vote get(VotePK id) {
@@ -32,28 +35,40 @@ public class VoteService {
   }
 
   public List<Vote> get(List<VotePK> ids) {
-    Iterable<Vote> it = repository.findAllById(ids);
+    // findAllById loads entities with composite IDs one by one
+    final Map<UUID, List<UUID>> commentIdsByUserId = ids.stream().collect(Collectors.groupingBy(
+        VotePK::getUserId,
+        Collectors.mapping(VotePK::getCommentId, Collectors.toList())
+    ));
     List<Vote> list = new ArrayList<Vote>();
-    it.forEach(list::add);
+    commentIdsByUserId.forEach((userId, commentIds) -> list.addAll(getForCommentsAndUser(commentIds, userId)));
 
     return list;
   }
 
-  @Transactional(isolation = Isolation.SERIALIZABLE)
+  /**
+   * Creates or updates the vote and updates the comment's score by the
+   * difference in the same transaction. Changes of votes for the same comment
+   * are serialized by locking the comment.
+   */
+  @Transactional
   public Vote create(Vote v) {
-    return repository.createOrUpdate(v.getCommentId(), v.getUserId(), v.getVote(), v.getVote());
-  }
+    commentRepository.lockById(v.getCommentId());
+    final int previousVote = repository.findVoteByCommentIdAndUserId(v.getCommentId(), v.getUserId()).orElse(0);
+    final Vote saved = repository.createOrUpdate(v.getCommentId(), v.getUserId(), v.getVote(), v.getVote());
+    updateScore(v.getCommentId(), v.getVote() - previousVote);
 
-  public void delete(Vote v) {
-    repository.delete(v);
+    return saved;
   }
 
-  @Transactional(isolation = Isolation.SERIALIZABLE)
+  @Transactional
   public Vote delete(UUID commentId, UUID userId) {
+    commentRepository.lockById(commentId);
     Vote v = repository.findById(new VotePK(userId, commentId)).orElse(null);
 
     if (v != null) {
       repository.delete(v);
+      updateScore(commentId, -v.getVote());
     }
 
     return v;
@@ -62,12 +77,11 @@ public class VoteService {
   public List<Vote> getForCommentsAndUser(List<UUID> commentIds, UUID userId) {
     List<Vote> voteList = new ArrayList<>();
 
-    commentIds.forEach((id) -> {
-      Vote tmp = repository.findById(new VotePK(userId, id)).orElse(null);
-      if (tmp != null) {
-        voteList.add(tmp);
-      }
-    });
+    // Chunked to limit the number of bind parameters per query
+    for (int i = 0; i < commentIds.size(); i += MAX_IDS_PER_QUERY) {
+      final List<UUID> chunk = commentIds.subList(i, Math.min(i + MAX_IDS_PER_QUERY, commentIds.size()));
+      voteList.addAll(repository.findByUserIdAndCommentIdIn(userId, chunk));
+    }
 
     return voteList;
   }
@@ -76,17 +90,6 @@ public class VoteService {
     return repository.findById(new VotePK(commentId, userId)).orElse(null);
   }
 
-  public int getSumByCommentId(final UUID commentId) {
-    return repository.sumByCommentId(commentId);
-  }
-
-  public Map<UUID, Integer> getSumsByCommentIds(final List<UUID> commentIds) {
-    return repository.sumByCommentIdFindByCommentIdAndArchiveIdNull(commentIds).stream().collect(Collectors.toMap(
-        voteSum -> voteSum.getCommentId(),
-        voteSum -> voteSum.getSum()
-    ));
-  }
-
   public Map<UUID, Integer> getSumByCommentForRoom(final UUID roomId) {
     return repository.sumByCommentIdFindByRoomIdAndArchiveIdNull(roomId).stream().collect(Collectors.toMap(
         voteSum -> voteSum.getCommentId(),
@@ -94,17 +97,12 @@ public class VoteService {
     ));
   }
 
-  @Transactional(isolation = Isolation.SERIALIZABLE)
+  @Transactional
   public Vote resetVote(UUID commentId, UUID userId) {
-    Vote v = repository.findById(new VotePK(userId, commentId)).orElse(null);
-
-    if (v != null) {
-      repository.delete(v);
-    }
-
-    return v;
+    return delete(commentId, userId);
   }
 
+  @Transactional
   public void duplicateVotes(final UUID originalRoomId, Map<UUID, Comment> commentMapping) {
     final Map<UUID, Integer> voteSums = getSumByCommentForRoom(originalRoomId);
     for (final Map.Entry<UUID, Integer> voteSum : voteSums.entrySet()) {
@@ -118,4 +116,10 @@ public class VoteService {
       create(vote);
     }
   }
+
+  private void updateScore(final UUID commentId, final int delta) {
+    if (delta != 0) {
+      commentRepository.addToScore(commentId, delta);
+    }
+  }
 }
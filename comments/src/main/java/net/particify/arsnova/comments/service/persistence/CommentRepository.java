@@ -1,19 +1,56 @@
 package net.particify.arsnova.comments.service.persistence;
 
 import jakarta.transaction.Transactional;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
 import net.particify.arsnova.comments.model.Comment;
 
-public interface CommentRepository extends CrudRepository<Comment, UUID> {
+public interface CommentRepository extends CrudRepository<Comment, UUID>, JpaSpecificationExecutor<Comment> {
   List<Comment> findByRoomIdAndArchiveIdNull(UUID roomId);
   List<Comment> findByIdInAndRoomIdAndArchiveIdNull(Set<String> ids, UUID roomId);
   long countByArchiveId(UUID archiveId);
+  // Votes are deleted by the foreign key's ON DELETE CASCADE
   @Transactional
-  List<Comment> deleteByRoomId(UUID roomId);
+  @Query(value = "DELETE FROM comment WHERE room_id = :roomId RETURNING *", nativeQuery = true)
+  List<Comment> deleteByRoomId(@Param("roomId") UUID roomId);
+  @Transactional
+  @Query(value = "DELETE FROM comment WHERE room_id = :roomId AND id IN (:ids) RETURNING *", nativeQuery = true)
+  List<Comment> deleteByRoomIdAndIdIn(@Param("roomId") UUID roomId, @Param("ids") Collection<UUID> ids);
   long countByRoomIdAndAckAndArchiveIdNull(UUID roomId, boolean ack);
   List<Comment> findByArchiveId(UUID archiveId);
+
+  // Serializes vote changes for a comment until the end of the transaction
+  @Query(value = "SELECT id FROM comment WHERE id = :id FOR UPDATE", nativeQuery = true)
+  Optional<UUID> lockById(@Param("id") UUID id);
+
+  @Modifying
+  @Query(value = "UPDATE comment SET score = score + :delta WHERE id = :id", nativeQuery = true)
+  int addToScore(@Param("id") UUID id, @Param("delta") int delta);
+
+  @Query(value = "SELECT c.id AS \"id\", " +
+      "ts_rank_cd(c.search_vector, q.query) AS \"rank\", " +
+      "comment_search_headline(c.body, q.query) AS \"bodyHighlight\", " +
+      "comment_search_headline(c.answer, q.query) AS \"answerHighlight\" " +
+      "FROM comment AS c, websearch_to_tsquery(comment_text_search_config(), :query) AS q(query) " +
+      "WHERE c.room_id = :roomId AND c.search_vector @@ q.query " +
+      "ORDER BY \"rank\" DESC, c.timestamp DESC " +
+      "LIMIT :limit",
+      nativeQuery = true)
+  List<SearchHit> search(@Param("roomId") UUID roomId, @Param("query") String query, @Param("limit") int limit);
+
+  interface SearchHit {
+    UUID getId();
+    float getRank();
+    String getBodyHighlight();
+    String getAnswerHighlight();
+  }
 }
@@ -1,6 +1,8 @@
 package net.particify.arsnova.comments.service.persistence;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
@@ -12,6 +14,7 @@ import net.particify.arsnova.comments.model.VoteSum;
 
 public interface VoteRepository extends CrudRepository<Vote, VotePK> {
   List<Vote> findByCommentId(UUID commentId);
+  List<Vote> findByUserIdAndCommentIdIn(UUID userId, Collection<UUID> commentIds);
   // The two vote params are needed because otherwise Hibernate can't find the second usage
   @Query(value = "INSERT INTO vote (comment_id, user_id, vote) " +
       "VALUES (:commentId, :userId, :vote) " +
@@ -25,16 +28,14 @@ public interface VoteRepository extends CrudRepository<Vote, VotePK> {
       @Param("updateVote") int updateVote
   );
 
-  @Query("SELECT COALESCE(SUM(vote), 0) AS sum " +
+  // Selects the value only, so no stale entity is left in the persistence context before an upsert
+  @Query("SELECT vote " +
       "FROM Vote " +
-      "WHERE commentId = :commentId")
-  int sumByCommentId(@Param("commentId") UUID commentId);
-
-  @Query("SELECT new net.particify.arsnova.comments.model.VoteSum(commentId AS key, SUM(vote) AS sum) " +
-      "FROM Vote " +
-      "WHERE commentId IN (:commentIds) " +
-      "GROUP BY commentId")
-  List<VoteSum> sumByCommentIdFindByCommentIdAndArchiveIdNull(@Param("commentIds") List<UUID> commentIds);
+      "WHERE commentId = :commentId AND userId = :userId")
+  Optional<Integer> findVoteByCommentIdAndUserId(
+      @Param("commentId") UUID commentId,
+      @Param("userId") UUID userId
+  );
 
   @Query("SELECT new net.particify.arsnova.comments.model.VoteSum(v.commentId AS key, SUM(v.vote) AS sum) " +
       "FROM Vote AS v JOIN Comment AS c ON v.commentId = c.id " +
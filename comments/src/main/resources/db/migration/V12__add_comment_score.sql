@@ -0,0 +1,7 @@
+ALTER TABLE comment
+    ADD COLUMN score integer NOT NULL DEFAULT 0;
+
+UPDATE comment
+    SET score = vote_sum.sum
+    FROM (SELECT comment_id, SUM(vote) AS sum FROM vote GROUP BY comment_id) AS vote_sum
+    WHERE comment.id = vote_sum.comment_id;
@@ -0,0 +1,6 @@
+-- Comments without a sort key are sorted last by find queries.
+CREATE INDEX idx_comment_room_id_timestamp ON comment (room_id, archive_id, timestamp DESC NULLS LAST, id DESC);
+CREATE INDEX idx_comment_room_id_score ON comment (room_id, archive_id, score DESC NULLS LAST, id DESC);
+
+-- Covered by the new indexes
+DROP INDEX idx_comment_room_id;
@@ -0,0 +1,25 @@
+-- The text search configuration is set by the textSearchConfiguration
+-- placeholder. Search queries use the same function, so the configuration of
+-- the indexed and the queried text always matches.
+CREATE FUNCTION comment_text_search_config() RETURNS regconfig
+    AS $$ SELECT '${textSearchConfiguration}'::regconfig $$
+    LANGUAGE sql IMMUTABLE;
+
+ALTER TABLE comment
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector(comment_text_search_config(), coalesce(tag, '')), 'A') ||
+        setweight(to_tsvector(comment_text_search_config(), coalesce(body, '')), 'B') ||
+        setweight(to_tsvector(comment_text_search_config(), coalesce(answer, '')), 'C')
+    ) STORED;
+
+CREATE INDEX idx_comment_search_vector ON comment USING GIN (search_vector);
+
+-- Returns the matching fragments of the HTML-escaped document with matches
+-- enclosed in mark elements.
+CREATE FUNCTION comment_search_headline(document text, query tsquery) RETURNS text
+    AS $$ SELECT ts_headline(
+        comment_text_search_config(),
+        replace(replace(replace(document, '&', '&amp;'), '<', '&lt;'), '>', '&gt;'),
+        query,
+        'StartSel=<mark>, StopSel=</mark>, MaxFragments=3, MinWords=5, MaxWords=20') $$
+    LANGUAGE sql STABLE;
@@ -0,0 +1,32 @@
+package net.particify.arsnova.comments.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.Test;
+
+public class FlywayConfigTest {
+  @Test
+  public void testTextSearchConfigurationIsSetIfAbsent() {
+    final FluentConfiguration configuration = Flyway.configure();
+
+    new FlywayConfig().placeholderDefaultsCustomizer().customize(configuration);
+
+    assertEquals(
+        FlywayConfig.DEFAULT_TEXT_SEARCH_CONFIGURATION,
+        configuration.getPlaceholders().get(FlywayConfig.TEXT_SEARCH_CONFIGURATION_PLACEHOLDER));
+  }
+
+  @Test
+  public void testConfiguredTextSearchConfigurationIsKept() {
+    final FluentConfiguration configuration = Flyway.configure()
+        .placeholders(Map.of(FlywayConfig.TEXT_SEARCH_CONFIGURATION_PLACEHOLDER, "german", "other", "value"));
+
+    new FlywayConfig().placeholderDefaultsCustomizer().customize(configuration);
+
+    assertEquals("german", configuration.getPlaceholders().get(FlywayConfig.TEXT_SEARCH_CONFIGURATION_PLACEHOLDER));
+    assertEquals("value", configuration.getPlaceholders().get("other"));
+  }
+}
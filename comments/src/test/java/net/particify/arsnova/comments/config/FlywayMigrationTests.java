@@ -0,0 +1,38 @@
+package net.particify.arsnova.comments.config;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Runs the migrations against an empty database without the placeholders of
+ * the properties files. The test is skipped if Docker is not available.
+ */
+@EnabledIf("isDockerAvailable")
+public class FlywayMigrationTests {
+  @Test
+  public void testMigrationsRunWithoutPlaceholderProperties() {
+    try (PostgreSQLContainer postgres = new PostgreSQLContainer(DockerImageName.parse("postgres:18-alpine"))) {
+      postgres.start();
+      final FluentConfiguration configuration = Flyway.configure()
+          .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+      new FlywayConfig().placeholderDefaultsCustomizer().customize(configuration);
+
+      final MigrateResult result = configuration.load().migrate();
+
+      assertTrue(result.success);
+      assertTrue(result.migrationsExecuted > 0);
+    }
+  }
+
+  static boolean isDockerAvailable() {
+    return DockerClientFactory.instance().isDockerAvailable();
+  }
+}
@@ -1,13 +1,18 @@
 package net.particify.arsnova.comments.handler;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,12 +23,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.amqp.core.AmqpTemplate;
 
 import net.particify.arsnova.comments.config.RabbitConfig;
+import net.particify.arsnova.comments.exception.ForbiddenException;
 import net.particify.arsnova.comments.model.Comment;
 import net.particify.arsnova.comments.model.Settings;
 import net.particify.arsnova.comments.model.command.CreateComment;
 import net.particify.arsnova.comments.model.command.CreateCommentPayload;
 import net.particify.arsnova.comments.model.command.DeleteComment;
 import net.particify.arsnova.comments.model.command.DeleteCommentPayload;
+import net.particify.arsnova.comments.model.command.DeleteComments;
+import net.particify.arsnova.comments.model.command.DeleteCommentsPayload;
 import net.particify.arsnova.comments.model.command.DeleteCommentsByRoom;
 import net.particify.arsnova.comments.model.command.DeleteCommentsByRoomPayload;
 import net.particify.arsnova.comments.model.command.HighlightComment;
@@ -228,35 +236,88 @@ public class CommentCommandHandlerTest {
     UUID secondCommentId = UUID.fromString("52f08e83-14ab-a247-c50f-aacef60025fe");
     DeleteCommentsByRoomPayload payload = new DeleteCommentsByRoomPayload(roomId);
     DeleteCommentsByRoom command = new DeleteCommentsByRoom(payload);
-    List<Comment> commentList = new ArrayList<>();
+    List<Comment> commentList = createDeletedComments(roomId, firstCommentId, secondCommentId);
+
+    when(commentService.deleteByRoomId(roomId)).thenReturn(commentList);
+    when(permissionEvaluator.isOwnerOrEditorForRoom(any())).thenReturn(true);
+
+    commandHandler.handle(command);
+
+    verifyCommentsDeletedEvents(roomId, firstCommentId, secondCommentId);
+  }
+
+  @Test
+  public void handleDeleteComments() {
+    UUID roomId = UUID.fromString("52f08e83-14ab-a247-c50f-aacef600254c");
+    UUID firstCommentId = UUID.fromString("52f08e83-14ab-a247-c50f-aacef60025ff");
+    UUID secondCommentId = UUID.fromString("52f08e83-14ab-a247-c50f-aacef60025fe");
+    List<UUID> ids = List.of(firstCommentId, secondCommentId);
+    DeleteComments command = new DeleteComments(new DeleteCommentsPayload(roomId, ids));
+    List<Comment> commentList = createDeletedComments(roomId, firstCommentId, secondCommentId);
+
+    when(commentService.deleteByRoomIdAndIds(roomId, ids)).thenReturn(commentList);
+    when(permissionEvaluator.isOwnerOrEditorForRoom(roomId)).thenReturn(true);
+
+    commandHandler.handle(command);
+
+    verifyCommentsDeletedEvents(roomId, firstCommentId, secondCommentId);
+  }
+
+  @Test
+  public void handleDeleteCommentsByCreator() {
+    UUID roomId = UUID.fromString("52f08e83-14ab-a247-c50f-aacef600254c");
+    UUID firstCommentId = UUID.fromString("52f08e83-14ab-a247-c50f-aacef60025ff");
+    UUID secondCommentId = UUID.fromString("52f08e83-14ab-a247-c50f-aacef60025fe");
+    List<UUID> ids = List.of(firstCommentId, secondCommentId);
+    DeleteComments command = new DeleteComments(new DeleteCommentsPayload(roomId, ids));
+    List<Comment> commentList = createDeletedComments(roomId, firstCommentId, secondCommentId);
+
+    when(permissionEvaluator.isOwnerOrEditorForRoom(roomId)).thenReturn(false);
+    when(commentService.get(ids)).thenReturn(commentList);
+    when(permissionEvaluator.checkCommentDeletePermission(any())).thenReturn(true);
+    when(commentService.deleteByRoomIdAndIds(roomId, ids)).thenReturn(commentList);
+
+    commandHandler.handle(command);
+
+    verify(permissionEvaluator, times(2)).checkCommentDeletePermission(any());
+    verifyCommentsDeletedEvents(roomId, firstCommentId, secondCommentId);
+  }
+
+  @Test
+  public void handleDeleteCommentsWithoutPermission() {
+    UUID roomId = UUID.fromString("52f08e83-14ab-a247-c50f-aacef600254c");
+    UUID firstCommentId = UUID.fromString("52f08e83-14ab-a247-c50f-aacef60025ff");
+    UUID secondCommentId = UUID.fromString("52f08e83-14ab-a247-c50f-aacef60025fe");
+    List<UUID> ids = List.of(firstCommentId, secondCommentId);
+    DeleteComments command = new DeleteComments(new DeleteCommentsPayload(roomId, ids));
+    List<Comment> commentList = createDeletedComments(roomId, firstCommentId, secondCommentId);
+
+    when(permissionEvaluator.isOwnerOrEditorForRoom(roomId)).thenReturn(false);
+    when(commentService.get(ids)).thenReturn(commentList);
+    when(permissionEvaluator.checkCommentDeletePermission(commentList.get(0))).thenReturn(true);
+    when(permissionEvaluator.checkCommentDeletePermission(commentList.get(1))).thenReturn(false);
+
+    assertThrows(ForbiddenException.class, () -> commandHandler.handle(command));
+    verify(commentService, never()).deleteByRoomIdAndIds(any(), any());
+  }
+
+  private List<Comment> createDeletedComments(UUID roomId, UUID ackCommentId, UUID unackCommentId) {
     Comment one = new Comment();
-    one.setId(firstCommentId);
+    one.setId(ackCommentId);
     one.setRoomId(roomId);
     one.setAck(true);
     Comment two = new Comment();
-    two.setId(secondCommentId);
+    two.setId(unackCommentId);
     two.setRoomId(roomId);
     two.setAck(false);
-    commentList.add(one);
-    commentList.add(two);
 
+    return List.of(one, two);
+  }
+
+  private void verifyCommentsDeletedEvents(UUID roomId, UUID ackCommentId, UUID unackCommentId) {
     ArgumentCaptor<String> topicCaptor = ArgumentCaptor.forClass(String.class);
     ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
-    ArgumentCaptor<CommentDeleted> eventCaptor =
-        ArgumentCaptor.forClass(CommentDeleted.class);
-
-    when(commentService.deleteByRoomId(roomId)).thenReturn(commentList);
-    when(permissionEvaluator.isOwnerOrEditorForRoom(any())).thenReturn(true);
-
-    commandHandler.handle(command);
-
-    CommentDeletedPayload p1 = new CommentDeletedPayload();
-    p1.setId(one.getId());
-    CommentDeleted e1 = new CommentDeleted(p1, roomId);
-    CommentDeletedPayload p2 = new CommentDeletedPayload();
-    p2.setId(two.getId());
-    CommentDeleted e2 = new CommentDeleted(p2, roomId);
-
+    ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
 
     verify(messagingTemplate, times(4)).convertAndSend(
         keyCaptor.capture(),
@@ -264,14 +325,25 @@ public class CommentCommandHandlerTest {
         eventCaptor.capture()
     );
 
-    List<String> capturedTopics = topicCaptor.getAllValues();
-    assertThat(capturedTopics.get(0)).isEqualTo(
-        roomId.toString().replace("-", "") + ".comment.stream");
-    assertThat(capturedTopics.get(2)).isEqualTo(
-        roomId.toString().replace("-", "") + ".comment.moderator.stream");
-    List<CommentDeleted> capturedEvents = eventCaptor.getAllValues();
-    assertThat(capturedEvents.get(0)).isEqualTo(e1);
-    assertThat(capturedEvents.get(2)).isEqualTo(e2);
+    Map<String, Object> streamEvents = new HashMap<>();
+    List<Object> fanoutEvents = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      if (keyCaptor.getAllValues().get(i).equals(RabbitConfig.COMMENT_SERVICE_COMMENT_DELETE_FANOUT_NAME)) {
+        fanoutEvents.add(eventCaptor.getAllValues().get(i));
+      } else {
+        streamEvents.put(topicCaptor.getAllValues().get(i), eventCaptor.getAllValues().get(i));
+      }
+    }
+
+    String roomPrefix = roomId.toString().replace("-", "");
+    assertThat(streamEvents).containsOnly(
+        entry(roomPrefix + ".comment.stream",
+            new CommentDeleted(new CommentDeletedPayload(ackCommentId), roomId)),
+        entry(roomPrefix + ".comment.moderator.stream",
+            new CommentDeleted(new CommentDeletedPayload(unackCommentId), roomId)));
+    assertThat(fanoutEvents).containsExactly(
+        new CommentDeleted(new CommentDeletedPayload(ackCommentId), roomId),
+        new CommentDeleted(new CommentDeletedPayload(unackCommentId), roomId));
   }
 
 }
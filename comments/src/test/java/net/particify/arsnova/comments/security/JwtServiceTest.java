@@ -0,0 +1,66 @@
+package net.particify.arsnova.comments.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import net.particify.arsnova.comments.config.properties.SecurityProperties;
+import net.particify.arsnova.common.uuid.UuidHelper;
+
+public class JwtServiceTest {
+  private static final String SECRET = "secret";
+  private static final String USER_ID = UuidHelper.uuidToString(UUID.randomUUID());
+
+  private JwtService jwtService;
+
+  @BeforeEach
+  public void setUp() {
+    jwtService = new JwtService(new SecurityProperties(new SecurityProperties.Jwt(SECRET)));
+  }
+
+  @Test
+  public void testVerifiedTokenIsCached() {
+    final String token = createToken(SECRET, Instant.now().plus(1, ChronoUnit.HOURS));
+    final AuthenticatedUser user = jwtService.verifyToken(token);
+
+    assertEquals(UuidHelper.stringToUuid(USER_ID), user.getId());
+    assertSame(user, jwtService.verifyToken(token));
+  }
+
+  @Test
+  public void testInvalidatedUserIsVerifiedAgain() {
+    final String token = createToken(SECRET, Instant.now().plus(1, ChronoUnit.HOURS));
+    final AuthenticatedUser user = jwtService.verifyToken(token);
+    jwtService.invalidateUser(USER_ID);
+
+    assertNotSame(user, jwtService.verifyToken(token));
+  }
+
+  @Test
+  public void testInvalidTokensAreRejected() {
+    final String expiredToken = createToken(SECRET, Instant.now().minus(1, ChronoUnit.HOURS));
+    final String foreignToken = createToken("other-secret", Instant.now().plus(1, ChronoUnit.HOURS));
+
+    assertThrows(JWTVerificationException.class, () -> jwtService.verifyToken(expiredToken));
+    assertThrows(JWTVerificationException.class, () -> jwtService.verifyToken(foreignToken));
+    assertThrows(JWTVerificationException.class, () -> jwtService.verifyToken(foreignToken));
+  }
+
+  private String createToken(final String secret, final Instant expiresAt) {
+    return JWT.create()
+        .withSubject(USER_ID)
+        .withExpiresAt(expiresAt)
+        .withArrayClaim("roles", new String[] {"USER"})
+        .sign(Algorithm.HMAC256(secret));
+  }
+}
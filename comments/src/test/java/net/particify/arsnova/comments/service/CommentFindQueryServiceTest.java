@@ -0,0 +1,438 @@
+package net.particify.arsnova.comments.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor.SpecificationFluentQuery;
+
+import net.particify.arsnova.comments.exception.BadRequestException;
+import net.particify.arsnova.comments.exception.ForbiddenException;
+import net.particify.arsnova.comments.model.Comment;
+import net.particify.arsnova.comments.security.PermissionEvaluator;
+import net.particify.arsnova.comments.service.persistence.CommentRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class CommentFindQueryServiceTest {
+  private static final UUID ROOM_ID = UUID.fromString("52f08e83-14ab-a247-c50f-aacef600254c");
+  private static final UUID OTHER_ROOM_ID = UUID.fromString("6e8b1a55-0c1d-4f5e-9a3b-2d7c9e0f1a2b");
+  private static final UUID ARCHIVE_ID = UUID.fromString("a1c3e5f7-0000-0000-0000-000000000001");
+  private static final UUID CREATOR_ID = UUID.fromString("c0000000-0000-0000-0000-000000000001");
+  private static final UUID OTHER_CREATOR_ID = UUID.fromString("c0000000-0000-0000-0000-000000000002");
+
+  @Mock
+  CommentRepository repository;
+
+  @Mock
+  PermissionEvaluator permissionEvaluator;
+
+  private CommentFindQueryService service;
+  private final List<Comment> comments = new ArrayList<>();
+
+  @BeforeEach
+  public void setup() {
+    service = new CommentFindQueryService(repository, permissionEvaluator);
+    lenient().when(repository.findBy(any(Specification.class), any())).thenAnswer(invocation -> {
+      final List<Comment> matches = new InMemoryCriteria(comments).filter(invocation.getArgument(0));
+      final Function<SpecificationFluentQuery<Comment>, ?> queryFunction = invocation.getArgument(1);
+      return queryFunction.apply(createFluentQuery(matches));
+    });
+    lenient().when(repository.count(any(Specification.class))).thenAnswer(invocation ->
+        (long) new InMemoryCriteria(comments).filter(invocation.getArgument(0)).size());
+  }
+
+  @Test
+  public void testPropertiesAreUsedAsCriteria() {
+    final Comment match = addComment(1, 10, 0);
+    addComment(2, 20, 0).setRoomId(OTHER_ROOM_ID);
+    addComment(3, 30, 0).setAck(false);
+    addComment(4, 40, 0).setArchiveId(ARCHIVE_ID);
+    final Comment taggedMatch = addComment(5, 50, 0);
+    taggedMatch.setTag("tag");
+
+    assertThat(service.find(createQuery(), null, null, null)).containsExactly(taggedMatch, match);
+
+    final FindQuery<Comment> tagQuery = createQuery();
+    tagQuery.getProperties().setTag("tag");
+    assertThat(service.find(tagQuery, null, null, null)).containsExactly(taggedMatch);
+
+    final FindQuery<Comment> archiveQuery = createQuery();
+    archiveQuery.getProperties().setArchiveId(ARCHIVE_ID);
+    assertThat(service.find(archiveQuery, null, null, null)).extracting(Comment::getArchiveId)
+        .containsExactly(ARCHIVE_ID);
+  }
+
+  @Test
+  public void testExternalFlagFiltersAreApplied() {
+    final Comment favorite = addComment(1, 10, 0);
+    favorite.setFavorite(true);
+    final Comment read = addComment(2, 20, 0);
+    read.setRead(true);
+    final FindQuery<Comment> findQuery = createQuery();
+
+    findQuery.setExternalFilters(Map.of("favorite", true));
+    assertThat(service.find(findQuery, null, null, null)).containsExactly(favorite);
+
+    findQuery.setExternalFilters(Map.of("read", false, "ignored", true));
+    assertThat(service.find(findQuery, null, null, null)).containsExactly(favorite);
+  }
+
+  @Test
+  public void testCommentsAreSortedByTime() {
+    final Comment oldest = addComment(1, 10, 5);
+    final Comment newest = addComment(2, 30, 0);
+    final Comment middle = addComment(3, 20, 9);
+
+    assertThat(service.find(createQuery(), CommentFindQueryService.SortOrder.TIME, null, null))
+        .containsExactly(newest, middle, oldest);
+  }
+
+  @Test
+  public void testCommentsAreSortedByScoreWithIdAsTieBreaker() {
+    final Comment first = addComment(1, 10, 5);
+    final Comment second = addComment(2, 30, 1);
+    final Comment third = addComment(3, 20, 5);
+
+    assertThat(service.find(createQuery(), CommentFindQueryService.SortOrder.SCORE, null, null))
+        .containsExactly(third, first, second);
+  }
+
+  @Test
+  public void testLimitIsApplied() {
+    addComment(1, 10, 0);
+    final Comment newest = addComment(2, 20, 0);
+
+    assertThat(service.find(createQuery(), null, 1, null)).containsExactly(newest);
+    assertThrows(BadRequestException.class, () -> service.find(createQuery(), null, 0, null));
+  }
+
+  @Test
+  public void testCommentsAfterAnchorAreSelected() {
+    final Comment oldest = addComment(1, 10, 0);
+    final Comment anchor = addComment(2, 20, 0);
+    addComment(3, 30, 0);
+
+    assertThat(service.find(createQuery(), CommentFindQueryService.SortOrder.TIME, null, anchor.getId()))
+        .containsExactly(oldest);
+  }
+
+  @Test
+  public void testScoreTiesArePagedWithoutGapsOrDuplicates() {
+    for (int i = 1; i <= 7; i++) {
+      addComment(i, i, i % 2 == 0 ? 3 : 1);
+    }
+
+    final List<Comment> pages = findAllPages(CommentFindQueryService.SortOrder.SCORE, 2);
+
+    assertThat(pages).containsExactlyElementsOf(service.find(createQuery(), CommentFindQueryService.SortOrder.SCORE,
+        null, null));
+    assertThat(pages).extracting(Comment::getScore).containsExactly(3, 3, 3, 1, 1, 1, 1);
+  }
+
+  @Test
+  public void testCommentsWithoutTimestampArePagedLast() {
+    final Comment newest = addComment(1, 30, 0);
+    final Comment withoutTimestamp = addComment(2, 0, 0);
+    withoutTimestamp.setTimestamp(null);
+    final Comment oldest = addComment(3, 10, 0);
+    final Comment otherWithoutTimestamp = addComment(4, 0, 0);
+    otherWithoutTimestamp.setTimestamp(null);
+    final Comment middle = addComment(5, 20, 0);
+
+    final List<Comment> pages = findAllPages(CommentFindQueryService.SortOrder.TIME, 2);
+
+    assertThat(pages).containsExactly(newest, middle, oldest, otherWithoutTimestamp, withoutTimestamp);
+  }
+
+  @Test
+  public void testCreatorIdRequiresPermission() {
+    addComment(1, 10, 0);
+    final FindQuery<Comment> findQuery = createQuery();
+    findQuery.getProperties().setCreatorId(OTHER_CREATOR_ID);
+    when(permissionEvaluator.checkCommentOwnerPermission(findQuery.getProperties())).thenReturn(false);
+    when(permissionEvaluator.isOwnerOrAnyTypeOfModeratorForRoom(ROOM_ID)).thenReturn(false);
+
+    assertThrows(ForbiddenException.class, () -> service.find(findQuery, null, null, null));
+    assertThrows(ForbiddenException.class, () -> service.count(findQuery));
+    verify(repository, never()).findBy(any(Specification.class), any());
+  }
+
+  @Test
+  public void testNonModeratorsCanFilterOwnComments() {
+    final Comment own = addComment(1, 10, 0);
+    addComment(2, 20, 0).setCreatorId(OTHER_CREATOR_ID);
+    final FindQuery<Comment> findQuery = createQuery();
+    findQuery.getProperties().setCreatorId(CREATOR_ID);
+    when(permissionEvaluator.checkCommentOwnerPermission(findQuery.getProperties())).thenReturn(true);
+
+    assertThat(service.find(findQuery, null, null, null)).containsExactly(own);
+    assertEquals(1, service.count(findQuery));
+  }
+
+  @Test
+  public void testCountUsesCriteria() {
+    addComment(1, 10, 0);
+    addComment(2, 20, 0);
+    addComment(3, 30, 0).setAck(false);
+
+    assertEquals(2, service.count(createQuery()));
+  }
+
+  @Test
+  public void testQueryWithoutRoomIdIsEmpty() {
+    final FindQuery<Comment> findQuery = createQuery();
+    findQuery.getProperties().setRoomId(null);
+
+    assertThat(service.find(findQuery, null, null, null)).isEmpty();
+    assertEquals(0, service.count(findQuery));
+    verify(repository, never()).count(any(Specification.class));
+  }
+
+  private List<Comment> findAllPages(final CommentFindQueryService.SortOrder sortOrder, final int limit) {
+    final List<Comment> results = new ArrayList<>();
+    UUID afterId = null;
+    List<Comment> page;
+    do {
+      page = service.find(createQuery(), sortOrder, limit, afterId);
+      results.addAll(page);
+      afterId = page.isEmpty() ? null : page.get(page.size() - 1).getId();
+    } while (page.size() == limit);
+
+    return results;
+  }
+
+  private FindQuery<Comment> createQuery() {
+    final Comment properties = new Comment();
+    properties.setRoomId(ROOM_ID);
+    properties.setAck(true);
+    final FindQuery<Comment> findQuery = new FindQuery<>();
+    findQuery.setProperties(properties);
+
+    return findQuery;
+  }
+
+  private Comment addComment(final int index, final long timestamp, final int score) {
+    final Comment comment = new Comment();
+    comment.setId(UUID.fromString(String.format("00000000-0000-0000-0000-%012d", index)));
+    comment.setRoomId(ROOM_ID);
+    comment.setCreatorId(CREATOR_ID);
+    comment.setAck(true);
+    comment.setTimestamp(new Date(timestamp));
+    comment.setScore(score);
+    comments.add(comment);
+
+    return comment;
+  }
+
+  @SuppressWarnings("unchecked")
+  private SpecificationFluentQuery<Comment> createFluentQuery(final List<Comment> matches) {
+    final Sort[] sort = {Sort.unsorted()};
+    final int[] limit = {Integer.MAX_VALUE};
+    return mock(SpecificationFluentQuery.class, invocation -> switch (invocation.getMethod().getName()) {
+      case "sortBy" -> {
+        sort[0] = invocation.getArgument(0);
+        yield invocation.getMock();
+      }
+      case "limit" -> {
+        limit[0] = invocation.getArgument(0);
+        yield invocation.getMock();
+      }
+      case "all" -> matches.stream().sorted(toComparator(sort[0])).limit(limit[0]).toList();
+      default -> throw new UnsupportedOperationException(invocation.getMethod().getName());
+    });
+  }
+
+  /**
+   * Sorts like PostgreSQL: Without explicit null handling, null values are
+   * sorted first in descending order.
+   */
+  @SuppressWarnings("unchecked")
+  private static Comparator<Comment> toComparator(final Sort sort) {
+    Comparator<Comment> comparator = (a, b) -> 0;
+    for (final Sort.Order order : sort) {
+      Comparator<Object> values = (a, b) -> ((Comparable<Object>) a).compareTo(b);
+      if (order.isDescending()) {
+        values = values.reversed();
+      }
+      final boolean nullsLast = order.getNullHandling() == Sort.NullHandling.NATIVE
+          ? order.isAscending()
+          : order.getNullHandling() == Sort.NullHandling.NULLS_LAST;
+      values = nullsLast ? Comparator.nullsLast(values) : Comparator.nullsFirst(values);
+      comparator = comparator.thenComparing(c -> getProperty(c, order.getProperty()), values);
+    }
+
+    return comparator;
+  }
+
+  private static Object getProperty(final Comment comment, final String property) {
+    return new BeanWrapperImpl(comment).getPropertyValue(property);
+  }
+
+  /**
+   * Evaluates the criteria of specifications for comments in memory.
+   * Expressions created by the mocked criteria API are mapped to functions of
+   * the rows which are bound to the roots of the query and its subqueries.
+   * Comparisons with null values are false like in SQL.
+   */
+  private static class InMemoryCriteria {
+    private final List<Comment> comments;
+    private final Map<Object, Function<Map<Root<?>, Comment>, Object>> expressions = new IdentityHashMap<>();
+    private final Map<Object, Function<Map<Root<?>, Comment>, Optional<Map<Root<?>, Comment>>>> subqueries =
+        new IdentityHashMap<>();
+    private final CriteriaBuilder cb = mock(CriteriaBuilder.class, invocation -> {
+      final List<Object> args = flatten(invocation.getArguments());
+      return switch (invocation.getMethod().getName()) {
+        case "equal" -> predicate(row -> compare(args, row) == 0);
+        case "lessThan" -> predicate(row -> compare(args, row) < 0);
+        case "isNull" -> predicate(row -> evaluate(args.get(0), row) == null);
+        case "isNotNull" -> predicate(row -> evaluate(args.get(0), row) != null);
+        case "and" -> predicate(row -> args.stream().allMatch(p -> isTrue(p, row)));
+        case "or" -> predicate(row -> args.stream().anyMatch(p -> isTrue(p, row)));
+        case "exists" -> predicate(row -> subqueries.get(args.get(0)).apply(row).isPresent());
+        default -> throw new UnsupportedOperationException(invocation.getMethod().getName());
+      };
+    });
+
+    InMemoryCriteria(final List<Comment> comments) {
+      this.comments = comments;
+    }
+
+    @SuppressWarnings("unchecked")
+    List<Comment> filter(final Specification<Comment> specification) {
+      final Root<Comment> root = createRoot();
+      final CriteriaQuery<Object> query = mock(CriteriaQuery.class, invocation -> {
+        if (invocation.getMethod().getName().equals("subquery")) {
+          return createSubquery();
+        }
+        throw new UnsupportedOperationException(invocation.getMethod().getName());
+      });
+      final Predicate predicate = specification.toPredicate(root, query, cb);
+
+      return comments.stream().filter(c -> isTrue(predicate, Map.of(root, c))).toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Root<Comment> createRoot() {
+      final Root<Comment>[] root = new Root[1];
+      root[0] = mock(Root.class, invocation -> {
+        if (invocation.getMethod().getName().equals("get")) {
+          final String property = invocation.getArgument(0);
+          return register(mock(Path.class), row -> getProperty(row.get(root[0]), property));
+        }
+        throw new UnsupportedOperationException(invocation.getMethod().getName());
+      });
+
+      return root[0];
+    }
+
+    @SuppressWarnings("unchecked")
+    private Subquery<Object> createSubquery() {
+      final Root<Comment> anchor = createRoot();
+      final Object[] selection = new Object[1];
+      final List<Object> restrictions = new ArrayList<>();
+      final Subquery<Object> subquery = mock(Subquery.class, invocation -> switch (invocation.getMethod().getName()) {
+        case "from" -> anchor;
+        case "select" -> {
+          selection[0] = invocation.getArgument(0);
+          yield invocation.getMock();
+        }
+        case "where" -> {
+          restrictions.addAll(flatten(invocation.getArguments()));
+          yield invocation.getMock();
+        }
+        default -> throw new UnsupportedOperationException(invocation.getMethod().getName());
+      });
+      final Function<Map<Root<?>, Comment>, Optional<Map<Root<?>, Comment>>> match = row -> comments.stream()
+          .map(c -> {
+            final Map<Root<?>, Comment> subqueryRow = new HashMap<>(row);
+            subqueryRow.put(anchor, c);
+            return subqueryRow;
+          })
+          .filter(subqueryRow -> restrictions.stream().allMatch(p -> isTrue(p, subqueryRow)))
+          .findFirst();
+      subqueries.put(subquery, match);
+
+      return register(subquery, row -> match.apply(row).map(r -> evaluate(selection[0], r)).orElse(null));
+    }
+
+    private <T> T register(final T expression, final Function<Map<Root<?>, Comment>, Object> function) {
+      expressions.put(expression, function);
+
+      return expression;
+    }
+
+    private Predicate predicate(final java.util.function.Predicate<Map<Root<?>, Comment>> condition) {
+      return register(mock(Predicate.class), condition::test);
+    }
+
+    private boolean isTrue(final Object predicate, final Map<Root<?>, Comment> row) {
+      return Boolean.TRUE.equals(evaluate(predicate, row));
+    }
+
+    private Object evaluate(final Object expression, final Map<Root<?>, Comment> row) {
+      return expressions.containsKey(expression) ? expressions.get(expression).apply(row) : expression;
+    }
+
+    /**
+     * Compares the first two arguments. Null values are not comparable, so
+     * they are never equal or less than another value.
+     */
+    @SuppressWarnings("unchecked")
+    private int compare(final List<Object> args, final Map<Root<?>, Comment> row) {
+      final Object left = evaluate(args.get(0), row);
+      final Object right = evaluate(args.get(1), row);
+      if (left == null || right == null) {
+        return Integer.MAX_VALUE;
+      }
+
+      return Objects.equals(left, right) ? 0 : ((Comparable<Object>) left).compareTo(right);
+    }
+
+    private static List<Object> flatten(final Object[] args) {
+      final List<Object> flattened = new ArrayList<>();
+      for (final Object arg : args) {
+        if (arg instanceof Object[] array) {
+          flattened.addAll(List.of(array));
+        } else if (arg instanceof Collection<?> collection) {
+          flattened.addAll(collection);
+        } else {
+          flattened.add(arg);
+        }
+      }
+
+      return flattened;
+    }
+  }
+}
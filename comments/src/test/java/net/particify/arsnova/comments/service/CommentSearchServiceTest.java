@@ -0,0 +1,105 @@
+package net.particify.arsnova.comments.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import net.particify.arsnova.comments.exception.BadRequestException;
+import net.particify.arsnova.comments.exception.ForbiddenException;
+import net.particify.arsnova.comments.model.Comment;
+import net.particify.arsnova.comments.model.CommentSearchResult;
+import net.particify.arsnova.comments.security.PermissionEvaluator;
+import net.particify.arsnova.comments.service.persistence.CommentRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class CommentSearchServiceTest {
+  private static final UUID ROOM_ID = UUID.fromString("52f08e83-14ab-a247-c50f-aacef600254c");
+
+  @Mock
+  CommentRepository repository;
+
+  @Mock
+  PermissionEvaluator permissionEvaluator;
+
+  private CommentSearchService service;
+
+  @BeforeEach
+  public void setup() {
+    service = new CommentSearchService(repository, permissionEvaluator);
+  }
+
+  @Test
+  public void testShouldReturnCommentsInOrderOfRank() {
+    final Comment first = createComment();
+    final Comment second = createComment();
+    when(permissionEvaluator.isOwnerOrAnyTypeOfModeratorForRoom(ROOM_ID)).thenReturn(true);
+    when(repository.search(ROOM_ID, "lecture", 50)).thenReturn(List.of(
+        createHit(first.getId(), 0.5f, "<mark>lecture</mark>"),
+        createHit(second.getId(), 0.2f, "next <mark>lecture</mark>")));
+    when(repository.findAllById(List.of(first.getId(), second.getId()))).thenReturn(List.of(second, first));
+
+    final List<CommentSearchResult> results = service.search(ROOM_ID, "lecture", 50);
+
+    assertThat(results).extracting(CommentSearchResult::getComment).containsExactly(first, second);
+    assertThat(results).extracting(CommentSearchResult::getBodyHighlight)
+        .containsExactly("<mark>lecture</mark>", "next <mark>lecture</mark>");
+  }
+
+  @Test
+  public void testShouldRejectSearchOfParticipants() {
+    when(permissionEvaluator.isOwnerOrAnyTypeOfModeratorForRoom(ROOM_ID)).thenReturn(false);
+
+    assertThrows(ForbiddenException.class, () -> service.search(ROOM_ID, "lecture", 50));
+    verify(repository, never()).search(any(), any(), anyInt());
+  }
+
+  @Test
+  public void testShouldRejectBlankQuery() {
+    when(permissionEvaluator.isOwnerOrAnyTypeOfModeratorForRoom(ROOM_ID)).thenReturn(true);
+
+    assertThrows(BadRequestException.class, () -> service.search(ROOM_ID, " ", 50));
+  }
+
+  private Comment createComment() {
+    final Comment comment = new Comment();
+    comment.setId(UUID.randomUUID());
+    comment.setRoomId(ROOM_ID);
+    return comment;
+  }
+
+  private CommentRepository.SearchHit createHit(final UUID id, final float rank, final String bodyHighlight) {
+    return new CommentRepository.SearchHit() {
+      @Override
+      public UUID getId() {
+        return id;
+      }
+
+      @Override
+      public float getRank() {
+        return rank;
+      }
+
+      @Override
+      public String getBodyHighlight() {
+        return bodyHighlight;
+      }
+
+      @Override
+      public String getAnswerHighlight() {
+        return null;
+      }
+    };
+  }
+}
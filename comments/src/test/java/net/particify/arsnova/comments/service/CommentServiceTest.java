@@ -7,6 +7,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import jakarta.persistence.EntityManager;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -39,11 +40,14 @@ public class CommentServiceTest {
   @Mock
   JsonMapper jsonMapper;
 
+  @Mock
+  EntityManager entityManager;
+
   private CommentService service;
 
   @BeforeEach
   public void setup() {
-    service = new CommentService(repository, voteRepository, voteService, jsonMapper);
+    service = new CommentService(repository, voteRepository, voteService, jsonMapper, entityManager);
   }
 
   @Test
@@ -103,4 +107,20 @@ public class CommentServiceTest {
     assertThat(voteListCaptor.getValue()).isEqualTo(voteList);
   }
 
+  @Test
+  public void testShouldDetachCommentsDeletedByRoomIdAndIds() {
+    UUID roomId = UUID.fromString("52f08e83-14ab-a247-c50f-aacef600254c");
+    List<UUID> ids = List.of(UUID.fromString("52f08e83-14ab-a247-c50f-aacef60025ff"));
+    Comment c = new Comment();
+    c.setId(ids.get(0));
+    c.setRoomId(roomId);
+
+    when(repository.deleteByRoomIdAndIdIn(roomId, ids)).thenReturn(List.of(c));
+
+    List<Comment> deletedComments = service.deleteByRoomIdAndIds(roomId, ids);
+
+    assertThat(deletedComments).containsExactly(c);
+    verify(entityManager, times(1)).clear();
+  }
+
 }
@@ -0,0 +1,157 @@
+package net.particify.arsnova.comments.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import net.particify.arsnova.comments.model.Vote;
+import net.particify.arsnova.comments.model.VotePK;
+import net.particify.arsnova.comments.service.persistence.CommentRepository;
+import net.particify.arsnova.comments.service.persistence.VoteRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class VoteServiceTest {
+  private static final UUID COMMENT_ID = UUID.fromString("52f08e83-14ab-a247-c50f-aacef60025ff");
+  private static final UUID USER_ID = UUID.fromString("52f08e83-14ab-a247-c50f-aacef600254c");
+
+  @Mock
+  VoteRepository repository;
+
+  @Mock
+  CommentRepository commentRepository;
+
+  private VoteService service;
+
+  @BeforeEach
+  public void setup() {
+    service = new VoteService(repository, commentRepository);
+  }
+
+  @Test
+  public void testShouldAddNewVoteToScore() {
+    final Vote vote = createVote(1);
+    when(repository.findVoteByCommentIdAndUserId(COMMENT_ID, USER_ID)).thenReturn(Optional.empty());
+    when(repository.createOrUpdate(COMMENT_ID, USER_ID, 1, 1)).thenReturn(vote);
+
+    final Vote saved = service.create(vote);
+
+    assertThat(saved).isEqualTo(vote);
+    verify(commentRepository).lockById(COMMENT_ID);
+    verify(commentRepository).addToScore(COMMENT_ID, 1);
+  }
+
+  @Test
+  public void testShouldAddDifferenceOfChangedVoteToScore() {
+    final Vote vote = createVote(-1);
+    when(repository.findVoteByCommentIdAndUserId(COMMENT_ID, USER_ID)).thenReturn(Optional.of(1));
+    when(repository.createOrUpdate(COMMENT_ID, USER_ID, -1, -1)).thenReturn(vote);
+
+    service.create(vote);
+
+    verify(commentRepository).addToScore(COMMENT_ID, -2);
+  }
+
+  @Test
+  public void testShouldNotUpdateScoreForRepeatedVote() {
+    final Vote vote = createVote(1);
+    when(repository.findVoteByCommentIdAndUserId(COMMENT_ID, USER_ID)).thenReturn(Optional.of(1));
+    when(repository.createOrUpdate(COMMENT_ID, USER_ID, 1, 1)).thenReturn(vote);
+
+    service.create(vote);
+
+    verify(commentRepository, never()).addToScore(any(), anyInt());
+  }
+
+  @Test
+  public void testShouldSubtractResetVoteFromScore() {
+    final Vote vote = createVote(-1);
+    when(repository.findById(new VotePK(USER_ID, COMMENT_ID))).thenReturn(Optional.of(vote));
+
+    final Vote reset = service.resetVote(COMMENT_ID, USER_ID);
+
+    assertThat(reset).isEqualTo(vote);
+    verify(repository).delete(vote);
+    verify(commentRepository).addToScore(COMMENT_ID, 1);
+  }
+
+  @Test
+  public void testShouldNotUpdateScoreIfNoVoteIsReset() {
+    when(repository.findById(new VotePK(USER_ID, COMMENT_ID))).thenReturn(Optional.empty());
+
+    service.resetVote(COMMENT_ID, USER_ID);
+
+    verify(commentRepository, never()).addToScore(any(), anyInt());
+  }
+
+  @Test
+  public void testShouldLoadVotesForCommentsWithSingleQuery() {
+    final List<UUID> commentIds = createCommentIds(300);
+    final Vote vote = createVote(1);
+    when(repository.findByUserIdAndCommentIdIn(USER_ID, commentIds)).thenReturn(List.of(vote));
+
+    final List<Vote> votes = service.getForCommentsAndUser(commentIds, USER_ID);
+
+    assertThat(votes).containsExactly(vote);
+    verify(repository, times(1)).findByUserIdAndCommentIdIn(any(), any());
+    verifyNoMoreInteractions(repository);
+  }
+
+  @Test
+  public void testShouldLoadVotesForLargeCommentListsInChunks() {
+    final List<UUID> commentIds = createCommentIds(2500);
+
+    service.getForCommentsAndUser(commentIds, USER_ID);
+
+    verify(repository).findByUserIdAndCommentIdIn(USER_ID, commentIds.subList(0, 1000));
+    verify(repository).findByUserIdAndCommentIdIn(USER_ID, commentIds.subList(1000, 2000));
+    verify(repository).findByUserIdAndCommentIdIn(USER_ID, commentIds.subList(2000, 2500));
+    verifyNoMoreInteractions(repository);
+  }
+
+  @Test
+  public void testShouldLoadVotesByIdsWithOneQueryPerUser() {
+    final UUID otherUserId = UUID.fromString("52f08e83-14ab-a247-c50f-aacef6002500");
+    final List<UUID> commentIds = createCommentIds(3);
+    final List<VotePK> ids = List.of(
+        new VotePK(USER_ID, commentIds.get(0)),
+        new VotePK(USER_ID, commentIds.get(1)),
+        new VotePK(otherUserId, commentIds.get(2)));
+
+    service.get(ids);
+
+    verify(repository).findByUserIdAndCommentIdIn(USER_ID, commentIds.subList(0, 2));
+    verify(repository).findByUserIdAndCommentIdIn(otherUserId, commentIds.subList(2, 3));
+    verifyNoMoreInteractions(repository);
+  }
+
+  private List<UUID> createCommentIds(final int count) {
+    final List<UUID> commentIds = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      commentIds.add(UUID.randomUUID());
+    }
+    return commentIds;
+  }
+
+  private Vote createVote(final int value) {
+    final Vote vote = new Vote();
+    vote.setCommentId(COMMENT_ID);
+    vote.setUserId(USER_ID);
+    vote.setVote(value);
+    return vote;
+  }
+}
@@ -0,0 +1,98 @@
+package net.particify.arsnova.common.security;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded cache for the results of token verifications.
+ *
+ * <p>
+ * Entries are keyed by a digest of the token, so the tokens themselves are not
+ * kept in memory. An entry is not used after the expiration time of its token
+ * or after the maximum age of the cache. Entries of a subject have to be
+ * invalidated when tokens issued for it should no longer be accepted before
+ * they expire, e.g. because the user has been deleted.
+ * </p>
+ *
+ * @param <T> Type of the principal which is created for a verified token
+ */
+public class VerifiedTokenCache<T> {
+  private final Cache<HashCode, VerifiedToken<T>> cache;
+  private final AtomicLong invalidationCount = new AtomicLong();
+
+  public VerifiedTokenCache(final long maximumSize, final Duration maximumAge) {
+    cache = CacheBuilder.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(maximumAge)
+        .build();
+  }
+
+  /**
+   * Returns the principal for the token. The verifier is only called if no
+   * valid entry exists for the token. Exceptions thrown by the verifier are
+   * passed on and the result is not cached.
+   */
+  public T get(final String token, final Function<String, VerifiedToken<T>> verifier) {
+    final HashCode key = digest(token);
+    final VerifiedToken<T> cached = cache.getIfPresent(key);
+    if (cached != null) {
+      if (!cached.isExpired(Instant.now())) {
+        return cached.principal();
+      }
+      cache.invalidate(key);
+    }
+
+    final long invalidationCountBefore = invalidationCount.get();
+    final VerifiedToken<T> verified = verifier.apply(token);
+    if (!verified.isExpired(Instant.now())) {
+      cache.put(key, verified);
+      /* An invalidation might have been missed while the token was verified. */
+      if (invalidationCount.get() != invalidationCountBefore) {
+        cache.invalidate(key);
+      }
+    }
+
+    return verified.principal();
+  }
+
+  /**
+   * Removes the entries for all tokens of the subject.
+   */
+  public void invalidateSubject(final String subject) {
+    invalidationCount.incrementAndGet();
+    cache.asMap().values().removeIf(v -> subject.equals(v.subject()));
+  }
+
+  public void invalidateAll() {
+    invalidationCount.incrementAndGet();
+    cache.invalidateAll();
+  }
+
+  public long size() {
+    return cache.size();
+  }
+
+  private static HashCode digest(final String token) {
+    return Hashing.sha256().hashString(token, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Result of a successful token verification.
+   *
+   * @param principal Principal created for the token
+   * @param subject Subject of the token
+   * @param expiresAt Expiration time of the token or null if it does not expire
+   */
+  public record VerifiedToken<T>(T principal, String subject, Instant expiresAt) {
+    private boolean isExpired(final Instant now) {
+      return expiresAt != null && !expiresAt.isAfter(now);
+    }
+  }
+}
@@ -38,6 +38,8 @@ import net.particify.arsnova.core.persistence.ContentGroupTemplateRepository;
 import net.particify.arsnova.core.persistence.ContentRepository;
 import net.particify.arsnova.core.persistence.ContentTemplateRepository;
 import net.particify.arsnova.core.persistence.DeletionRepository;
+import net.particify.arsnova.core.persistence.LeaseRepository;
+import net.particify.arsnova.core.persistence.RoomDeletionJobRepository;
 import net.particify.arsnova.core.persistence.RoomRepository;
 import net.particify.arsnova.core.persistence.RoomSettingsRepository;
 import net.particify.arsnova.core.persistence.RoomUserAliasRepository;
@@ -53,6 +55,8 @@ import net.particify.arsnova.core.persistence.couchdb.CouchDbContentGroupTemplat
 import net.particify.arsnova.core.persistence.couchdb.CouchDbContentRepository;
 import net.particify.arsnova.core.persistence.couchdb.CouchDbContentTemplateRepository;
 import net.particify.arsnova.core.persistence.couchdb.CouchDbDeletionRepository;
+import net.particify.arsnova.core.persistence.couchdb.CouchDbLeaseRepository;
+import net.particify.arsnova.core.persistence.couchdb.CouchDbRoomDeletionJobRepository;
 import net.particify.arsnova.core.persistence.couchdb.CouchDbRoomRepository;
 import net.particify.arsnova.core.persistence.couchdb.CouchDbRoomSettingsRepository;
 import net.particify.arsnova.core.persistence.couchdb.CouchDbRoomUserAliasRepository;
@@ -193,4 +197,14 @@ public class PersistenceConfig {
   public DeletionRepository deletionRepository() throws Exception {
     return new CouchDbDeletionRepository(couchDbConnector(), false);
   }
+
+  @Bean
+  public RoomDeletionJobRepository roomDeletionJobRepository() throws Exception {
+    return new CouchDbRoomDeletionJobRepository(couchDbConnector(), false);
+  }
+
+  @Bean
+  public LeaseRepository leaseRepository() throws Exception {
+    return new CouchDbLeaseRepository(couchDbConnector());
+  }
 }
@@ -5,16 +5,54 @@ import static java.lang.annotation.ElementType.METHOD;
 import static java.lang.annotation.ElementType.PARAMETER;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+import net.particify.arsnova.core.config.properties.SystemProperties;
+import net.particify.arsnova.core.management.MonitoredTaskScheduler;
+
+/**
+ * Configures the executors and schedulers of the application.
+ *
+ * <p>
+ * If virtual threads are enabled via {@code spring.threads.virtual.enabled},
+ * all executors and schedulers defined here use virtual threads. Request
+ * handling by the servlet container is configured by Spring Boot based on the
+ * same property. Executors with a limited pool size keep their limit, so they
+ * still bound the concurrency of the tasks they run.
+ * </p>
+ */
 @Configuration
 public class TaskExecutorConfig {
+  /**
+   * Scheduler for short tasks which directly affect the latency of user
+   * interactions, e.g. flushing queued answers.
+   */
+  public static final String LATENCY_CRITICAL_SCHEDULER = "latencyCriticalTaskScheduler";
+
+  /**
+   * Scheduler for background maintenance tasks which might run for a longer
+   * time, e.g. deletion of expired data.
+   */
+  public static final String MAINTENANCE_SCHEDULER = "maintenanceTaskScheduler";
+
+  private static final int DEFAULT_SCHEDULER_POOL_SIZE = 2;
+  private static final int LATENCY_CRITICAL_SCHEDULER_POOL_SIZE = 2;
+  private static final int MAINTENANCE_SCHEDULER_POOL_SIZE = 1;
+
+  private final boolean virtualThreads;
+
   @Target({FIELD, PARAMETER, METHOD})
   @Retention(RUNTIME)
   @Qualifier
@@ -25,6 +63,15 @@ public class TaskExecutorConfig {
   @Qualifier
   public @interface RabbitListenerExecutor {}
 
+  @Target({FIELD, PARAMETER, METHOD})
+  @Retention(RUNTIME)
+  @Qualifier
+  public @interface AnswerBulkWriteExecutor {}
+
+  public TaskExecutorConfig(final Environment environment) {
+    this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+  }
+
   /**
    * "The executor’s thread pool should be unbounded, or set appropriately for
    * the expected utilization (usually, at least one thread per connection).
@@ -41,13 +88,15 @@ public class TaskExecutorConfig {
   public TaskExecutor rabbitConnectionExecutor() {
     final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
     executor.setThreadNamePrefix("RabbitConnection");
+    executor.setVirtualThreads(virtualThreads);
     executor.afterPropertiesSet();
     return executor;
   }
 
   /**
-   * Listeners would use a SimpleAsyncTaskExecutor by default (creates a new
-   * thread for each task).
+   * Listener containers run each consumer as a long-running task, so the
+   * executor creates a new thread for each task instead of pooling threads.
+   * The number of threads is limited by the maximum number of consumers.
    *
    * <p>Reference:
    * http://docs.spring.io/spring-amqp/reference/htmlsingle/#_threading_and_asynchronous_consumers
@@ -56,9 +105,52 @@ public class TaskExecutorConfig {
   @Bean
   @RabbitListenerExecutor
   public TaskExecutor rabbitListenerExecutor() {
+    final SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("RabbitListener");
+    executor.setVirtualThreads(virtualThreads);
+    return executor;
+  }
+
+  /**
+   * Limits the number of bulk requests for answers which are sent to the
+   * database concurrently.
+   */
+  @Bean
+  @AnswerBulkWriteExecutor
+  public TaskExecutor answerBulkWriteExecutor(final SystemProperties systemProperties) {
+    final int concurrency = systemProperties.getAnswerQueue().getConcurrency();
     final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-    executor.setThreadNamePrefix("RabbitListener");
+    executor.setThreadNamePrefix("AnswerBulkWrite");
+    executor.setCorePoolSize(concurrency);
+    executor.setMaxPoolSize(concurrency);
+    executor.setVirtualThreads(virtualThreads);
     executor.afterPropertiesSet();
     return executor;
   }
+
+  /**
+   * Default scheduler for tasks which are not assigned to a dedicated
+   * scheduler and for one-time tasks.
+   */
+  @Bean
+  @Primary
+  public ThreadPoolTaskScheduler taskScheduler(final MeterRegistry meterRegistry) {
+    return createScheduler("TaskScheduler", DEFAULT_SCHEDULER_POOL_SIZE, meterRegistry);
+  }
+
+  @Bean(LATENCY_CRITICAL_SCHEDULER)
+  public ThreadPoolTaskScheduler latencyCriticalTaskScheduler(final MeterRegistry meterRegistry) {
+    return createScheduler("LatencyCriticalTaskScheduler", LATENCY_CRITICAL_SCHEDULER_POOL_SIZE, meterRegistry);
+  }
+
+  @Bean(MAINTENANCE_SCHEDULER)
+  public ThreadPoolTaskScheduler maintenanceTaskScheduler(final MeterRegistry meterRegistry) {
+    return createScheduler("MaintenanceTaskScheduler", MAINTENANCE_SCHEDULER_POOL_SIZE, meterRegistry);
+  }
+
+  private ThreadPoolTaskScheduler createScheduler(
+      final String name, final int poolSize, final MeterRegistry meterRegistry) {
+    final MonitoredTaskScheduler scheduler = new MonitoredTaskScheduler(name, poolSize, meterRegistry);
+    scheduler.setVirtualThreads(virtualThreads);
+    return scheduler;
+  }
 }
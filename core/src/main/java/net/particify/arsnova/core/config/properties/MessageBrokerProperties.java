@@ -117,6 +117,18 @@ public class MessageBrokerProperties {
     }
   }
 
+  public static class Publishing {
+    private double maxFrequency;
+
+    public double getMaxFrequency() {
+      return maxFrequency;
+    }
+
+    public void setMaxFrequency(final double maxFrequency) {
+      this.maxFrequency = maxFrequency;
+    }
+  }
+
   public static class PublishedEvent {
     public String entityType;
     public String eventType;
@@ -148,6 +160,7 @@ public class MessageBrokerProperties {
   }
 
   private Rabbitmq rabbitmq;
+  private Publishing publishing;
   private List<PublishedEvent> publishedEvents;
 
   public Rabbitmq getRabbitmq() {
@@ -158,6 +171,14 @@ public class MessageBrokerProperties {
     this.rabbitmq = rabbitmq;
   }
 
+  public Publishing getPublishing() {
+    return publishing;
+  }
+
+  public void setPublishing(final Publishing publishing) {
+    this.publishing = publishing;
+  }
+
   public List<PublishedEvent> getPublishedEvents() {
     return publishedEvents;
   }
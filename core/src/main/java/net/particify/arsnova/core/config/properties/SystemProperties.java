@@ -167,6 +167,37 @@ public class SystemProperties {
   public static class FormattingService {
     private boolean enabled;
     private String hostUrl;
+    private boolean renderOnWrite;
+    private String rendererVersion;
+
+    @DurationUnit(ChronoUnit.MILLIS)
+    private Duration timeout;
+
+    private int maxConcurrentRequests;
+    private CircuitBreaker circuitBreaker;
+
+    public static class CircuitBreaker {
+      private int failureThreshold;
+
+      @DurationUnit(ChronoUnit.SECONDS)
+      private Duration openDuration;
+
+      public int getFailureThreshold() {
+        return failureThreshold;
+      }
+
+      public void setFailureThreshold(final int failureThreshold) {
+        this.failureThreshold = failureThreshold;
+      }
+
+      public Duration getOpenDuration() {
+        return openDuration;
+      }
+
+      public void setOpenDuration(final Duration openDuration) {
+        this.openDuration = openDuration;
+      }
+    }
 
     public boolean isEnabled() {
       return enabled;
@@ -183,6 +214,46 @@ public class SystemProperties {
     public void setHostUrl(final String hostUrl) {
       this.hostUrl = hostUrl;
     }
+
+    public boolean isRenderOnWrite() {
+      return renderOnWrite;
+    }
+
+    public void setRenderOnWrite(final boolean renderOnWrite) {
+      this.renderOnWrite = renderOnWrite;
+    }
+
+    public String getRendererVersion() {
+      return rendererVersion;
+    }
+
+    public void setRendererVersion(final String rendererVersion) {
+      this.rendererVersion = rendererVersion;
+    }
+
+    public Duration getTimeout() {
+      return timeout;
+    }
+
+    public void setTimeout(final Duration timeout) {
+      this.timeout = timeout;
+    }
+
+    public int getMaxConcurrentRequests() {
+      return maxConcurrentRequests;
+    }
+
+    public void setMaxConcurrentRequests(final int maxConcurrentRequests) {
+      this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+      return circuitBreaker;
+    }
+
+    public void setCircuitBreaker(final CircuitBreaker circuitBreaker) {
+      this.circuitBreaker = circuitBreaker;
+    }
   }
 
   public static class LmsConnector {
@@ -247,6 +318,118 @@ public class SystemProperties {
     }
   }
 
+  public static class AnswerJournal {
+    private boolean enabled;
+    private String path;
+
+    @DurationUnit(ChronoUnit.MILLIS)
+    private Duration syncInterval;
+
+    @DurationUnit(ChronoUnit.MILLIS)
+    private Duration replayBackoff;
+
+    private int maxReplayAttempts;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(final boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public String getPath() {
+      return path;
+    }
+
+    public void setPath(final String path) {
+      this.path = path;
+    }
+
+    public Duration getSyncInterval() {
+      return syncInterval;
+    }
+
+    public void setSyncInterval(final Duration syncInterval) {
+      this.syncInterval = syncInterval;
+    }
+
+    public Duration getReplayBackoff() {
+      return replayBackoff;
+    }
+
+    public void setReplayBackoff(final Duration replayBackoff) {
+      this.replayBackoff = replayBackoff;
+    }
+
+    public int getMaxReplayAttempts() {
+      return maxReplayAttempts;
+    }
+
+    public void setMaxReplayAttempts(final int maxReplayAttempts) {
+      this.maxReplayAttempts = maxReplayAttempts;
+    }
+  }
+
+  public static class AnswerQueue {
+    @DurationUnit(ChronoUnit.MILLIS)
+    private Duration maxAge;
+
+    private int flushSize;
+    private int chunkSize;
+    private int concurrency;
+    private int maxRetries;
+    private int highWaterMark;
+
+    public Duration getMaxAge() {
+      return maxAge;
+    }
+
+    public void setMaxAge(final Duration maxAge) {
+      this.maxAge = maxAge;
+    }
+
+    public int getFlushSize() {
+      return flushSize;
+    }
+
+    public void setFlushSize(final int flushSize) {
+      this.flushSize = flushSize;
+    }
+
+    public int getChunkSize() {
+      return chunkSize;
+    }
+
+    public void setChunkSize(final int chunkSize) {
+      this.chunkSize = chunkSize;
+    }
+
+    public int getConcurrency() {
+      return concurrency;
+    }
+
+    public void setConcurrency(final int concurrency) {
+      this.concurrency = concurrency;
+    }
+
+    public int getMaxRetries() {
+      return maxRetries;
+    }
+
+    public void setMaxRetries(final int maxRetries) {
+      this.maxRetries = maxRetries;
+    }
+
+    public int getHighWaterMark() {
+      return highWaterMark;
+    }
+
+    public void setHighWaterMark(final int highWaterMark) {
+      this.highWaterMark = highWaterMark;
+    }
+  }
+
   private String rootUrl;
   private boolean readOnly;
   private boolean externalDataManagement;
@@ -257,6 +440,8 @@ public class SystemProperties {
   private FormattingService formattingService;
   private LmsConnector lmsConnector;
   private AutoDeletionThresholds autoDeletionThresholds;
+  private AnswerJournal answerJournal;
+  private AnswerQueue answerQueue;
 
   public String getRootUrl() {
     return rootUrl;
@@ -337,4 +522,20 @@ public class SystemProperties {
   public void setAutoDeletionThresholds(final AutoDeletionThresholds autoDeletionThresholds) {
     this.autoDeletionThresholds = autoDeletionThresholds;
   }
+
+  public AnswerJournal getAnswerJournal() {
+    return answerJournal;
+  }
+
+  public void setAnswerJournal(final AnswerJournal answerJournal) {
+    this.answerJournal = answerJournal;
+  }
+
+  public AnswerQueue getAnswerQueue() {
+    return answerQueue;
+  }
+
+  public void setAnswerQueue(final AnswerQueue answerQueue) {
+    this.answerQueue = answerQueue;
+  }
 }
@@ -19,7 +19,8 @@
 package net.particify.arsnova.core.controller;
 
 import com.fasterxml.jackson.annotation.JsonView;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -34,14 +35,18 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import net.particify.arsnova.core.config.AppConfig;
 import net.particify.arsnova.core.model.AnswerStatistics;
 import net.particify.arsnova.core.model.Content;
 import net.particify.arsnova.core.model.WordContent;
+import net.particify.arsnova.core.model.export.AnswerExport;
+import net.particify.arsnova.core.model.export.ContentExport;
 import net.particify.arsnova.core.model.serialization.View;
 import net.particify.arsnova.core.service.AnswerService;
 import net.particify.arsnova.core.service.ContentService;
+import net.particify.arsnova.core.service.CsvService;
 import net.particify.arsnova.core.service.DuplicationService;
 import net.particify.arsnova.core.web.exceptions.BadRequestException;
 import net.particify.arsnova.core.web.exceptions.NotFoundException;
@@ -57,6 +62,7 @@ public class ContentController extends AbstractEntityController<Content> {
   private static final String DUPLICATE_MAPPING = DEFAULT_ID_MAPPING + "/duplicate";
   private static final String CONTENT_COUNT_MAPPING = NO_ID_MAPPING + "/count";
   private static final String EXPORT_MAPPING = NO_ID_MAPPING + "/export";
+  private static final String ANSWERS_EXPORT_MAPPING = NO_ID_MAPPING + "/export/answers";
   private static final String BANNED_KEYWORDS_MAPPING = DEFAULT_ID_MAPPING + "/banned-keywords";
   private static final String STOP_MAPPING = DEFAULT_ID_MAPPING + "/stop";
   private static final String START_ROUND_MAPPING = DEFAULT_ID_MAPPING + "/start-round";
@@ -64,15 +70,18 @@ public class ContentController extends AbstractEntityController<Content> {
   private ContentService contentService;
   private AnswerService answerService;
   private DuplicationService duplicationService;
+  private CsvService csvService;
 
   public ContentController(
       @Qualifier("securedContentService") final ContentService contentService,
       @Qualifier("securedAnswerService") final AnswerService answerService,
-      @Qualifier("securedDuplicationService") final DuplicationService duplicationService) {
+      @Qualifier("securedDuplicationService") final DuplicationService duplicationService,
+      final CsvService csvService) {
     super(contentService);
     this.contentService = contentService;
     this.answerService = answerService;
     this.duplicationService = duplicationService;
+    this.csvService = csvService;
   }
 
   @Override
@@ -119,22 +128,21 @@ public class ContentController extends AbstractEntityController<Content> {
   }
 
   @PostMapping(value = EXPORT_MAPPING, produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
-  public ResponseEntity<?> export(@RequestBody final ExportRequestEntity exportRequestEntity)
-      throws JsonProcessingException {
-    final ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
-        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment");
-    switch (exportRequestEntity.fileType) {
-      case CSV:
-        return builder
-            .contentType(AppConfig.CSV_MEDIA_TYPE)
-            .body(contentService.exportToCsv(exportRequestEntity.contentIds, exportRequestEntity.charset));
-      case TSV:
-        return builder
-            .contentType(AppConfig.TSV_MEDIA_TYPE)
-            .body(contentService.exportToTsv(exportRequestEntity.contentIds, exportRequestEntity.charset));
-      default:
-        throw new BadRequestException("Unsupported export type.");
-    }
+  public ResponseEntity<StreamingResponseBody> export(@RequestBody final ExportRequestEntity exportRequestEntity) {
+    return createExportResponse(
+        contentService.exportContents(exportRequestEntity.contentIds),
+        ContentExport.class,
+        exportRequestEntity);
+  }
+
+  @PostMapping(value = ANSWERS_EXPORT_MAPPING, produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+  public ResponseEntity<StreamingResponseBody> exportAnswers(
+      @PathVariable final String roomId,
+      @RequestBody final ExportRequestEntity exportRequestEntity) {
+    return createExportResponse(
+        answerService.exportAnswersByRoomId(roomId),
+        AnswerExport.class,
+        exportRequestEntity);
   }
 
   @PostMapping(BANNED_KEYWORDS_MAPPING)
@@ -169,6 +177,32 @@ public class ContentController extends AbstractEntityController<Content> {
     contentService.startRound(id, round);
   }
 
+  /**
+   * Creates a response which writes the exported objects while they are
+   * loaded, so the export does not have to be kept in memory.
+   */
+  private <T> ResponseEntity<StreamingResponseBody> createExportResponse(
+      final Iterable<T> exports,
+      final Class<T> clazz,
+      final ExportRequestEntity exportRequestEntity) {
+    final Charset charset = exportRequestEntity.charset == null
+        ? StandardCharsets.UTF_8 : Charset.forName(exportRequestEntity.charset);
+    final ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment");
+    switch (exportRequestEntity.fileType) {
+      case CSV:
+        return builder
+            .contentType(AppConfig.CSV_MEDIA_TYPE)
+            .body(out -> csvService.writeCsv(exports, clazz, charset, out));
+      case TSV:
+        return builder
+            .contentType(AppConfig.TSV_MEDIA_TYPE)
+            .body(out -> csvService.writeTsv(exports, clazz, charset, out));
+      default:
+        throw new BadRequestException("Unsupported export type.");
+    }
+  }
+
   @JsonView(View.Public.class)
   private static class ExportRequestEntity {
     private FileType fileType;
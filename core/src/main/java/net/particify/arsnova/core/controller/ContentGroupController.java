@@ -4,8 +4,8 @@ import com.fasterxml.jackson.annotation.JsonView;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -27,6 +27,7 @@ import net.particify.arsnova.core.model.ContentGroupTemplate;
 import net.particify.arsnova.core.model.ContentLicenseAttribution;
 import net.particify.arsnova.core.model.ContentTemplate;
 import net.particify.arsnova.core.model.LeaderboardEntry;
+import net.particify.arsnova.core.model.LeaderboardUserRank;
 import net.particify.arsnova.core.model.export.ContentCsvImportSummary;
 import net.particify.arsnova.core.model.serialization.View;
 import net.particify.arsnova.core.service.AnswerService;
@@ -47,6 +48,7 @@ public class ContentGroupController extends AbstractEntityController<ContentGrou
   private static final String ATTRIBUTIONS_ENDPOINT = DEFAULT_ID_MAPPING + "/attributions";
   private static final String CREATE_FROM_TEMPLATE_MAPPING = "/-/create-from-template";
   private static final String LEADERBOARD_MAPPING = DEFAULT_ID_MAPPING + "/leaderboard";
+  private static final String LEADERBOARD_RANK_MAPPING = LEADERBOARD_MAPPING + "/rank";
   private static final String START_CONTENT_MAPPING = DEFAULT_ID_MAPPING + "/start-content";
 
   private ContentGroupService contentGroupService;
@@ -119,7 +121,9 @@ public class ContentGroupController extends AbstractEntityController<ContentGrou
   public ContentCsvImportSummary importFromFile(@PathVariable final String id, @RequestParam final MultipartFile file)
       throws IOException {
     final ContentGroup contentGroup = get(id);
-    return contentGroupService.importFromCsv(file.getBytes(), contentGroup);
+    try (InputStream csv = file.getInputStream()) {
+      return contentGroupService.importFromCsv(csv, contentGroup);
+    }
   }
 
   @GetMapping(ANSWER_STATISTICS_USER_SUMMARY_MAPPING)
@@ -150,18 +154,35 @@ public class ContentGroupController extends AbstractEntityController<ContentGrou
   }
 
   @GetMapping(LEADERBOARD_MAPPING)
-  public Collection<LeaderboardEntry> leaderboard(
+  public List<LeaderboardEntry> leaderboard(
       @PathVariable final String id, @RequestParam(required = false) final String contentId,
+      @RequestParam(defaultValue = "0") final int offset,
+      @RequestParam(required = false) final Integer limit,
       final HttpServletRequest request) {
-    final String acceptLanguage = request.getHeader("Accept-Language");
-    final Locale requestLocale = acceptLanguage != null && acceptLanguage.length() >= 2
-        ? Locale.of(acceptLanguage.substring(0, 2))
-        : Locale.of("en");
     final ContentGroup contentGroup = contentGroupService.get(id);
     if (contentGroup == null) {
       throw new NotFoundException();
     }
-    return answerService.buildAliasedLeaderboard(contentGroup, contentId, requestLocale);
+    return answerService.buildAliasedLeaderboard(
+        contentGroup, contentId, getRequestLocale(request), offset, limit != null ? limit : Integer.MAX_VALUE);
+  }
+
+  @GetMapping(LEADERBOARD_RANK_MAPPING)
+  public LeaderboardUserRank leaderboardRank(
+      @PathVariable final String id, @RequestParam(required = false) final String contentId,
+      final HttpServletRequest request) {
+    final ContentGroup contentGroup = contentGroupService.get(id);
+    if (contentGroup == null) {
+      throw new NotFoundException();
+    }
+    return answerService.getLeaderboardRank(contentGroup, contentId, getRequestLocale(request));
+  }
+
+  private Locale getRequestLocale(final HttpServletRequest request) {
+    final String acceptLanguage = request.getHeader("Accept-Language");
+    return acceptLanguage != null && acceptLanguage.length() >= 2
+        ? Locale.of(acceptLanguage.substring(0, 2))
+        : Locale.of("en");
   }
 
   @GetMapping(ANSWER_STATISTICS_SUMMARY_MAPPING)
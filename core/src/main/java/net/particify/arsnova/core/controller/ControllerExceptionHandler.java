@@ -52,6 +52,7 @@ import net.particify.arsnova.core.web.exceptions.NotFoundException;
 import net.particify.arsnova.core.web.exceptions.NotImplementedException;
 import net.particify.arsnova.core.web.exceptions.PayloadTooLargeException;
 import net.particify.arsnova.core.web.exceptions.PreconditionFailedException;
+import net.particify.arsnova.core.web.exceptions.TooManyRequestsException;
 import net.particify.arsnova.core.web.exceptions.UnauthorizedException;
 
 /**
@@ -179,6 +180,19 @@ public class ControllerExceptionHandler extends ResponseEntityExceptionHandler {
     return helper.handleException(e, Level.DEBUG);
   }
 
+  @ExceptionHandler(TooManyRequestsException.class)
+  @ResponseBody
+  @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+  public Map<String, Object> handleTooManyRequestsException(
+      final TooManyRequestsException e,
+      final HttpServletRequest request,
+      final HttpServletResponse response) {
+    if (e.getRetryAfter() != null) {
+      response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())));
+    }
+    return helper.handleException(e, Level.DEBUG);
+  }
+
   @ExceptionHandler(DocumentNotFoundException.class)
   @ResponseBody
   @ResponseStatus(HttpStatus.NOT_FOUND)
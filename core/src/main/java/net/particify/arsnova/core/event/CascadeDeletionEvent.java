@@ -0,0 +1,13 @@
+package net.particify.arsnova.core.event;
+
+import net.particify.arsnova.core.model.Entity;
+
+/**
+ * Published by a deletion job after the entity has been deleted, so the
+ * entities depending on it are deleted. The entity only contains its ID.
+ */
+public class CascadeDeletionEvent<E extends Entity> extends CrudEvent<E> {
+  public CascadeDeletionEvent(final Object source, final E entity) {
+    super(source, entity);
+  }
+}
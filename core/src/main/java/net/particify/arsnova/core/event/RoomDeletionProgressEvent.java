@@ -0,0 +1,34 @@
+package net.particify.arsnova.core.event;
+
+import java.io.Serial;
+import java.util.Map;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published after each chunk of entities which has been deleted by the
+ * deletion job of a room.
+ */
+public class RoomDeletionProgressEvent extends ApplicationEvent {
+  @Serial
+  private static final long serialVersionUID = 1L;
+
+  private final String roomId;
+  private final Map<String, Integer> deletedCounts;
+
+  public RoomDeletionProgressEvent(
+      final Object source,
+      final String roomId,
+      final Map<String, Integer> deletedCounts) {
+    super(source);
+    this.roomId = roomId;
+    this.deletedCounts = Map.copyOf(deletedCounts);
+  }
+
+  public String getRoomId() {
+    return roomId;
+  }
+
+  public Map<String, Integer> getDeletedCounts() {
+    return deletedCounts;
+  }
+}
@@ -0,0 +1,42 @@
+package net.particify.arsnova.core.event;
+
+import java.io.Serial;
+import org.springframework.context.ApplicationEvent;
+
+import net.particify.arsnova.core.model.Room;
+
+/**
+ * Published after each batch of contents which has been copied while a room
+ * is duplicated.
+ */
+public class RoomDuplicationProgressEvent extends ApplicationEvent {
+  @Serial
+  private static final long serialVersionUID = 1L;
+
+  private final transient Room duplicateRoom;
+  private final int duplicatedContentCount;
+  private final int totalContentCount;
+
+  public RoomDuplicationProgressEvent(
+      final Object source,
+      final Room duplicateRoom,
+      final int duplicatedContentCount,
+      final int totalContentCount) {
+    super(source);
+    this.duplicateRoom = duplicateRoom;
+    this.duplicatedContentCount = duplicatedContentCount;
+    this.totalContentCount = totalContentCount;
+  }
+
+  public Room getDuplicateRoom() {
+    return duplicateRoom;
+  }
+
+  public int getDuplicatedContentCount() {
+    return duplicatedContentCount;
+  }
+
+  public int getTotalContentCount() {
+    return totalContentCount;
+  }
+}
@@ -0,0 +1,104 @@
+package net.particify.arsnova.core.management;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Task scheduler which records metrics for periodic tasks.
+ *
+ * <p>
+ * For each execution, the time between the planned and the actual start
+ * (lag) and the duration are recorded as timers which are tagged with the
+ * names of the scheduler and the task. Executions which take longer than the
+ * interval of the task are logged.
+ * </p>
+ */
+public class MonitoredTaskScheduler extends ThreadPoolTaskScheduler {
+  private static final Logger logger = LoggerFactory.getLogger(MonitoredTaskScheduler.class);
+  private static final String METRIC_PREFIX = "arsnova.scheduling.task.";
+
+  private final String name;
+  private final MeterRegistry meterRegistry;
+
+  public MonitoredTaskScheduler(final String name, final int poolSize, final MeterRegistry meterRegistry) {
+    this.name = name;
+    this.meterRegistry = meterRegistry;
+    setPoolSize(poolSize);
+    setThreadNamePrefix(name + "-");
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleAtFixedRate(final Runnable task, final Instant startTime, final Duration period) {
+    return super.scheduleAtFixedRate(new MonitoredTask(task, startTime, period, true), startTime, period);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleAtFixedRate(final Runnable task, final Duration period) {
+    return super.scheduleAtFixedRate(new MonitoredTask(task, Instant.now(), period, true), period);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithFixedDelay(final Runnable task, final Instant startTime, final Duration delay) {
+    return super.scheduleWithFixedDelay(new MonitoredTask(task, startTime, delay, false), startTime, delay);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithFixedDelay(final Runnable task, final Duration delay) {
+    return super.scheduleWithFixedDelay(new MonitoredTask(task, Instant.now(), delay, false), delay);
+  }
+
+  private class MonitoredTask implements Runnable {
+    private final Runnable task;
+    private final Duration interval;
+    private final boolean fixedRate;
+    private final Timer lagTimer;
+    private final Timer durationTimer;
+    private volatile Instant plannedStart;
+
+    private MonitoredTask(
+        final Runnable task, final Instant firstStart, final Duration interval, final boolean fixedRate) {
+      this.task = task;
+      this.interval = interval;
+      this.fixedRate = fixedRate;
+      this.plannedStart = firstStart;
+      this.lagTimer = Timer.builder(METRIC_PREFIX + "lag")
+          .tag("scheduler", name)
+          .tag("task", task.toString())
+          .register(meterRegistry);
+      this.durationTimer = Timer.builder(METRIC_PREFIX + "duration")
+          .tag("scheduler", name)
+          .tag("task", task.toString())
+          .register(meterRegistry);
+    }
+
+    @Override
+    public void run() {
+      final Instant start = Instant.now();
+      final Duration lag = Duration.between(plannedStart, start);
+      lagTimer.record(lag.isNegative() ? Duration.ZERO : lag);
+      try {
+        task.run();
+      } finally {
+        final Instant end = Instant.now();
+        final Duration duration = Duration.between(start, end);
+        durationTimer.record(duration);
+        if (duration.compareTo(interval) > 0) {
+          logger.warn("Scheduled task {} ran for {} ms which exceeds its interval of {} ms.",
+              task, duration.toMillis(), interval.toMillis());
+        }
+        plannedStart = fixedRate ? plannedStart.plus(interval) : end.plus(interval);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return task.toString();
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package net.particify.arsnova.core.management;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports virtual threads which are pinned to their carrier thread.
+ *
+ * <p>
+ * A pinned virtual thread blocks its carrier thread, so other virtual threads
+ * cannot be scheduled on it. This happens for example if a thread blocks while
+ * executing native code. Pinning events are received from the JDK Flight
+ * Recorder. They are logged together with the frames of the application and
+ * recorded as metrics. The monitor is only active if virtual threads are
+ * enabled.
+ * </p>
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+  private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+  private static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+  private static final Duration THRESHOLD = Duration.ofMillis(20);
+  private static final String METRIC_PREFIX = "arsnova.threads.virtual.pinned";
+  private static final String APPLICATION_PACKAGE = "net.particify.";
+  private static final int MAX_LOGGED_FRAMES = 5;
+
+  private final Counter pinnedCounter;
+  private final Timer pinnedTimer;
+  private RecordingStream recordingStream;
+
+  public VirtualThreadPinningMonitor(final MeterRegistry meterRegistry) {
+    this.pinnedCounter = meterRegistry.counter(METRIC_PREFIX);
+    this.pinnedTimer = meterRegistry.timer(METRIC_PREFIX + ".duration");
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    recordingStream = new RecordingStream();
+    recordingStream.enable(EVENT_NAME).withThreshold(THRESHOLD).withStackTrace();
+    recordingStream.onEvent(EVENT_NAME, this::handlePinning);
+    recordingStream.startAsync();
+    logger.info("Monitoring pinning of virtual threads (threshold: {} ms).", THRESHOLD.toMillis());
+  }
+
+  @Override
+  public void destroy() {
+    if (recordingStream != null) {
+      recordingStream.close();
+    }
+  }
+
+  private void handlePinning(final RecordedEvent event) {
+    pinnedCounter.increment();
+    pinnedTimer.record(event.getDuration());
+    logger.warn("Virtual thread was pinned to its carrier thread for {} ms{}: {}",
+        event.getDuration().toMillis(),
+        event.hasField("pinnedReason") ? " (" + event.getString("pinnedReason") + ")" : "",
+        describeStackTrace(event.getStackTrace()));
+  }
+
+  private String describeStackTrace(final RecordedStackTrace stackTrace) {
+    if (stackTrace == null) {
+      return "no stack trace";
+    }
+    final List<RecordedFrame> frames = stackTrace.getFrames().stream()
+        .filter(RecordedFrame::isJavaFrame)
+        .toList();
+    final List<RecordedFrame> applicationFrames = frames.stream()
+        .filter(f -> f.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE))
+        .toList();
+
+    return (applicationFrames.isEmpty() ? frames : applicationFrames).stream()
+        .limit(MAX_LOGGED_FRAMES)
+        .map(f -> f.getMethod().getType().getName() + "." + f.getMethod().getName() + ":" + f.getLineNumber())
+        .collect(Collectors.joining(" <- "));
+  }
+}
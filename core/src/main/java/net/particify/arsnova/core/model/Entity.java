@@ -19,6 +19,7 @@
 package net.particify.arsnova.core.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonView;
 import java.util.ArrayList;
 import java.util.Date;
@@ -42,6 +43,7 @@ public abstract class Entity {
   protected Date updateTimestamp;
   private boolean internal;
   private List<EntityRenderingMapping<?>> renderingMapping;
+  private RenderedTexts renderedTexts;
 
   // Used by extensions
   private String tenantId;
@@ -153,6 +155,17 @@ public abstract class Entity {
     this.getRenderingMapping().add(mapping);
   }
 
+  @JsonView(View.Persistence.class)
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  public RenderedTexts getRenderedTexts() {
+    return renderedTexts;
+  }
+
+  @JsonView(View.Persistence.class)
+  public void setRenderedTexts(final RenderedTexts renderedTexts) {
+    this.renderedTexts = renderedTexts;
+  }
+
   public boolean isInternal() {
     return internal;
   }
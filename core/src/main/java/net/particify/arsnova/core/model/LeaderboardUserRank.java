@@ -0,0 +1,8 @@
+package net.particify.arsnova.core.model;
+
+import com.fasterxml.jackson.annotation.JsonView;
+
+import net.particify.arsnova.core.model.serialization.View;
+
+@JsonView(View.Public.class)
+public record LeaderboardUserRank(int rank, int participantCount, LeaderboardEntry entry) {}
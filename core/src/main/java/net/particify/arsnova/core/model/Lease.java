@@ -0,0 +1,90 @@
+package net.particify.arsnova.core.model;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import java.util.Date;
+import java.util.Objects;
+import org.springframework.core.style.ToStringCreator;
+
+import net.particify.arsnova.core.model.serialization.View;
+
+/**
+ * A lease which is held by a single node of a cluster until it expires or is
+ * released. It is used to restrict tasks to one node.
+ */
+public class Lease extends Entity {
+  private static final String ID_PREFIX = "Lease-";
+
+  private String holder;
+  private Date expiresAt;
+
+  public Lease() {
+  }
+
+  public Lease(final String name) {
+    this.id = idFor(name);
+  }
+
+  public static String idFor(final String name) {
+    return ID_PREFIX + name;
+  }
+
+  @JsonView(View.Persistence.class)
+  public String getHolder() {
+    return holder;
+  }
+
+  @JsonView(View.Persistence.class)
+  public void setHolder(final String holder) {
+    this.holder = holder;
+  }
+
+  @JsonView(View.Persistence.class)
+  public Date getExpiresAt() {
+    return expiresAt;
+  }
+
+  @JsonView(View.Persistence.class)
+  public void setExpiresAt(final Date expiresAt) {
+    this.expiresAt = expiresAt;
+  }
+
+  /**
+   * Checks if the lease is held by another holder and has not yet expired.
+   */
+  public boolean isHeldByOther(final String holder, final Date now) {
+    return this.holder != null && !this.holder.equals(holder) && expiresAt != null && expiresAt.after(now);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>
+   * All fields of <tt>Lease</tt> are included in equality checks.
+   * </p>
+   */
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!super.equals(o)) {
+      return false;
+    }
+    final Lease lease = (Lease) o;
+
+    return Objects.equals(holder, lease.holder)
+        && Objects.equals(expiresAt, lease.expiresAt);
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode(super.hashCode(), holder, expiresAt);
+  }
+
+  @Override
+  protected ToStringCreator buildToString() {
+    return super.buildToString()
+        .append("holder", holder)
+        .append("expiresAt", expiresAt);
+  }
+}
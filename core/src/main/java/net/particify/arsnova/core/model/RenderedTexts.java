@@ -0,0 +1,80 @@
+package net.particify.arsnova.core.model;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.core.style.ToStringCreator;
+
+import net.particify.arsnova.core.model.serialization.View;
+
+/**
+ * Rendered texts which are persisted together with an entity.
+ *
+ * <p>
+ * The rendered texts are keyed by a hash of the unrendered text, the
+ * rendering options and the renderer version, so outdated entries are never
+ * used. The renderer version which was used to render the texts is stored
+ * separately so entities with outdated texts can be queried.
+ * </p>
+ */
+public class RenderedTexts {
+  private String rendererVersion;
+  private Map<String, String> texts = new HashMap<>();
+
+  public RenderedTexts() {
+
+  }
+
+  public RenderedTexts(final String rendererVersion, final Map<String, String> texts) {
+    this.rendererVersion = rendererVersion;
+    this.texts = texts;
+  }
+
+  @JsonView(View.Persistence.class)
+  public String getRendererVersion() {
+    return rendererVersion;
+  }
+
+  @JsonView(View.Persistence.class)
+  public void setRendererVersion(final String rendererVersion) {
+    this.rendererVersion = rendererVersion;
+  }
+
+  @JsonView(View.Persistence.class)
+  public Map<String, String> getTexts() {
+    return texts;
+  }
+
+  @JsonView(View.Persistence.class)
+  public void setTexts(final Map<String, String> texts) {
+    this.texts = texts;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final RenderedTexts that = (RenderedTexts) o;
+
+    return Objects.equals(rendererVersion, that.rendererVersion)
+        && Objects.equals(texts, that.texts);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(rendererVersion, texts);
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringCreator(this)
+        .append("rendererVersion", rendererVersion)
+        .append("texts", texts.size())
+        .toString();
+  }
+}
@@ -0,0 +1,90 @@
+package net.particify.arsnova.core.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonView;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.core.style.ToStringCreator;
+
+import net.particify.arsnova.core.model.serialization.View;
+
+/**
+ * A job which deletes the entities depending on a deleted room. The number of
+ * deleted entities per type is updated while the job is in progress.
+ */
+public class RoomDeletionJob extends Entity {
+  private String roomId;
+  private Map<String, Integer> deletedCounts = new LinkedHashMap<>();
+
+  public RoomDeletionJob() {
+  }
+
+  public RoomDeletionJob(final String roomId) {
+    this.creationTimestamp = new Date();
+    this.roomId = roomId;
+  }
+
+  @JsonView(View.Persistence.class)
+  public String getRoomId() {
+    return roomId;
+  }
+
+  @JsonView(View.Persistence.class)
+  public void setRoomId(final String roomId) {
+    this.roomId = roomId;
+  }
+
+  @JsonView(View.Persistence.class)
+  public Map<String, Integer> getDeletedCounts() {
+    return deletedCounts;
+  }
+
+  @JsonView(View.Persistence.class)
+  public void setDeletedCounts(final Map<String, Integer> deletedCounts) {
+    this.deletedCounts = deletedCounts;
+  }
+
+  public void addDeletedCount(final Class<? extends Entity> type, final int count) {
+    deletedCounts.merge(type.getSimpleName(), count, Integer::sum);
+  }
+
+  @JsonIgnore
+  public int getTotalDeletedCount() {
+    return deletedCounts.values().stream().mapToInt(Integer::intValue).sum();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>
+   * All fields of <tt>RoomDeletionJob</tt> are included in equality checks.
+   * </p>
+   */
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!super.equals(o)) {
+      return false;
+    }
+    final RoomDeletionJob job = (RoomDeletionJob) o;
+
+    return Objects.equals(roomId, job.roomId)
+        && Objects.equals(deletedCounts, job.deletedCounts);
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode(super.hashCode(), roomId, deletedCounts);
+  }
+
+  @Override
+  protected ToStringCreator buildToString() {
+    return super.buildToString()
+        .append("roomId", roomId)
+        .append("deletedCounts", deletedCounts);
+  }
+}
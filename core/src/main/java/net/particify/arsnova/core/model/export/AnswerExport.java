@@ -0,0 +1,116 @@
+package net.particify.arsnova.core.model.export;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonView;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import net.particify.arsnova.core.model.Answer;
+import net.particify.arsnova.core.model.ChoiceAnswer;
+import net.particify.arsnova.core.model.ChoiceQuestionContent;
+import net.particify.arsnova.core.model.Content;
+import net.particify.arsnova.core.model.MultipleTextsAnswer;
+import net.particify.arsnova.core.model.NumericAnswer;
+import net.particify.arsnova.core.model.PrioritizationAnswer;
+import net.particify.arsnova.core.model.ShortAnswer;
+import net.particify.arsnova.core.model.TextAnswer;
+import net.particify.arsnova.core.model.serialization.View;
+
+@JsonView(View.Public.class)
+@JsonPropertyOrder({
+    "content",
+    "format",
+    "round",
+    "values",
+    "abstention",
+    "points",
+    "creationTimestamp"
+})
+public class AnswerExport {
+  private static final String PRIORITIZATION_VALUE_FORMAT = "%s: %d";
+
+  private String content;
+  private Content.Format format;
+  private int round;
+  private List<String> values;
+  private boolean abstention;
+  private int points;
+  private String creationTimestamp;
+
+  public AnswerExport(final Content content, final Answer answer) {
+    this.content = content.getBody();
+    this.format = content.getFormat();
+    this.round = answer.getRound();
+    this.abstention = answer.isAbstention();
+    this.points = answer.getPoints();
+    this.creationTimestamp = answer.getCreationTimestamp() != null
+        ? answer.getCreationTimestamp().toInstant().toString() : null;
+    this.values = abstention ? Collections.emptyList() : extractValues(content, answer);
+  }
+
+  private static List<String> extractValues(final Content content, final Answer answer) {
+    final List<String> labels = content instanceof ChoiceQuestionContent choiceQuestionContent
+        ? choiceQuestionContent.getOptions().stream().map(o -> o.getLabel()).toList()
+        : Collections.emptyList();
+    if (answer instanceof ChoiceAnswer choiceAnswer) {
+      return choiceAnswer.getSelectedChoiceIndexes().stream()
+          .map(i -> i < labels.size() ? labels.get(i) : String.valueOf(i))
+          .collect(Collectors.toList());
+    } else if (answer instanceof PrioritizationAnswer prioritizationAnswer) {
+      final List<Integer> assignedPoints = prioritizationAnswer.getAssignedPoints();
+      return IntStream.range(0, assignedPoints.size())
+          .mapToObj(i -> String.format(
+              PRIORITIZATION_VALUE_FORMAT,
+              i < labels.size() ? labels.get(i) : String.valueOf(i),
+              assignedPoints.get(i)))
+          .collect(Collectors.toList());
+    } else if (answer instanceof TextAnswer textAnswer) {
+      final List<String> values = new ArrayList<>();
+      if (textAnswer.getSubject() != null) {
+        values.add(textAnswer.getSubject());
+      }
+      values.add(textAnswer.getBody());
+      return values;
+    } else if (answer instanceof MultipleTextsAnswer multipleTextsAnswer) {
+      return multipleTextsAnswer.getTexts();
+    } else if (answer instanceof ShortAnswer shortAnswer && shortAnswer.getText() != null) {
+      return List.of(shortAnswer.getText());
+    } else if (answer instanceof NumericAnswer numericAnswer && numericAnswer.getSelectedNumber() != null) {
+      return List.of(BigDecimal.valueOf(numericAnswer.getSelectedNumber()).stripTrailingZeros().toPlainString());
+    }
+
+    return Collections.emptyList();
+  }
+
+  public String getContent() {
+    return content;
+  }
+
+  public Content.Format getFormat() {
+    return format;
+  }
+
+  public int getRound() {
+    return round;
+  }
+
+  public List<String> getValues() {
+    return values;
+  }
+
+  public boolean isAbstention() {
+    return abstention;
+  }
+
+  public int getPoints() {
+    return points;
+  }
+
+  public String getCreationTimestamp() {
+    return creationTimestamp;
+  }
+}
@@ -9,5 +9,10 @@ import net.particify.arsnova.core.model.serialization.View;
 public record ContentCsvImportSummary(
     int totalLines,
     int importedLines,
-    List<Integer> errorLines) {
+    List<Integer> errorLines,
+    List<LineError> errors) {
+
+  @JsonView(View.Public.class)
+  public record LineError(int line, String message) {
+  }
 }
@@ -1,4 +1,14 @@
 package net.particify.arsnova.core.model.export;
 
-public record CsvImportLineResult<T>(int line, T data) {
+/**
+ * Result for a single line of an imported CSV file.
+ *
+ * @param line Line number, starting at 1 for the first line after the header
+ * @param data Imported data or null if the line could not be imported
+ * @param error Reason why the line could not be imported
+ */
+public record CsvImportLineResult<T>(int line, T data, String error) {
+  public CsvImportLineResult(final int line, final T data) {
+    this(line, data, null);
+  }
 }
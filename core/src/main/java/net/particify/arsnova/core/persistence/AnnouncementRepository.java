@@ -4,7 +4,8 @@ import java.util.List;
 
 import net.particify.arsnova.core.model.Announcement;
 
-public interface AnnouncementRepository extends CrudRepository<Announcement, String> {
+public interface AnnouncementRepository
+    extends CrudRepository<Announcement, String>, RenderedTextsRepository<Announcement> {
   List<String> findIdsByRoomId(String roomId);
 
   List<String> findIdsByRoomIds(List<String> roomIds);
@@ -20,6 +20,7 @@ package net.particify.arsnova.core.persistence;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import net.particify.arsnova.core.model.Answer;
 import net.particify.arsnova.core.model.ChoiceAnswerStatistics;
@@ -47,5 +48,25 @@ public interface AnswerRepository extends CrudRepository<Answer, String> {
 
   Map<String, Integer> findUserScoreByContentIdRound(String contentId, int round);
 
+  Set<String> findCreatorIdsByContentIdRound(String contentId, int round);
+
   Map<ContentIdRoundResultKey, Integer> countByRoomIdGroupByContentIdRoundResult(String roomId);
+
+  /**
+   * Loads a page of answers for the content. Pages are ordered by creator ID
+   * and round.
+   *
+   * @param after The last answer of the previous page or null for the first
+   *     page.
+   */
+  List<Answer> findByContentIdAfter(String contentId, Answer after, int limit);
+
+  /**
+   * Saves the answers with a single bulk request. In contrast to
+   * {@link #saveAll}, failures of individual answers are reported.
+   *
+   * @return Errors (e.g. conflict) of answers which could not be saved, mapped
+   *     by answer ID.
+   */
+  Map<String, String> saveAllAndGetErrors(List<Answer> answers);
 }
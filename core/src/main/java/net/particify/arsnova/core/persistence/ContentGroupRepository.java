@@ -26,4 +26,6 @@ public interface ContentGroupRepository extends CrudRepository<ContentGroup, Str
   ContentGroup findByRoomIdAndName(String roomId, String name);
 
   List<ContentGroup> findByRoomId(String roomId);
+
+  List<ContentGroup> findStubsByRoomId(String roomId);
 }
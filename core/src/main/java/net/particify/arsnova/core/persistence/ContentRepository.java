@@ -4,7 +4,7 @@ import java.util.List;
 
 import net.particify.arsnova.core.model.Content;
 
-public interface ContentRepository extends CrudRepository<Content, String> {
+public interface ContentRepository extends CrudRepository<Content, String>, RenderedTextsRepository<Content> {
   int countByRoomId(String roomId);
 
   List<String> findIdsByRoomId(String roomId);
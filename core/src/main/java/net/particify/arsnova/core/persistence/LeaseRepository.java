@@ -0,0 +1,22 @@
+package net.particify.arsnova.core.persistence;
+
+import java.time.Duration;
+
+public interface LeaseRepository {
+  /**
+   * Acquires the lease for the holder if it is not held by another holder or
+   * has expired. A lease which is already held by the holder is renewed.
+   *
+   * @param name Name of the lease
+   * @param holder ID of the node which tries to acquire the lease
+   * @param duration Time until the lease expires if it is not renewed
+   * @return true if the lease is held by the holder afterwards
+   */
+  boolean tryAcquire(String name, String holder, Duration duration);
+
+  /**
+   * Releases the lease if it is held by the holder, so it can be acquired by
+   * another node without waiting for it to expire.
+   */
+  void release(String name, String holder);
+}
@@ -0,0 +1,20 @@
+package net.particify.arsnova.core.persistence;
+
+import java.util.Collection;
+import java.util.List;
+
+import net.particify.arsnova.core.model.Entity;
+
+/**
+ * Repository for entities which persist their rendered texts.
+ */
+public interface RenderedTextsRepository<T extends Entity> extends CrudRepository<T, String> {
+  /**
+   * Finds entities whose texts have not been rendered with any of the passed
+   * renderer versions. This includes entities without rendered texts.
+   *
+   * @param rendererVersions The renderer versions which are excluded
+   * @param limit The maximum number of returned entities
+   */
+  List<T> findByRenderedTextsVersionNotIn(Collection<String> rendererVersions, int limit);
+}
@@ -0,0 +1,7 @@
+package net.particify.arsnova.core.persistence;
+
+import net.particify.arsnova.core.model.RoomDeletionJob;
+
+public interface RoomDeletionJobRepository extends CrudRepository<RoomDeletionJob, String> {
+
+}
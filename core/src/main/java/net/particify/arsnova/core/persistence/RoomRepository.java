@@ -23,7 +23,7 @@ import java.util.List;
 
 import net.particify.arsnova.core.model.Room;
 
-public interface RoomRepository extends CrudRepository<Room, String> {
+public interface RoomRepository extends CrudRepository<Room, String>, RenderedTextsRepository<Room> {
   Room findByShortId(String shortId);
 
   List<Room> findByOwnerId(String ownerId, int start, int limit);
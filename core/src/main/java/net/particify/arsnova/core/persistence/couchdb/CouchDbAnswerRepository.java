@@ -25,10 +25,12 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import org.ektorp.ComplexKey;
 import org.ektorp.CouchDbConnector;
+import org.ektorp.DocumentOperationResult;
 import org.ektorp.ViewQuery;
 import org.ektorp.ViewResult;
 
@@ -218,6 +220,36 @@ public class CouchDbAnswerRepository extends CouchDbCrudRepository<Answer>
     ));
   }
 
+  @Override
+  public List<Answer> findByContentIdAfter(final String contentId, final Answer after, final int limit) {
+    final ViewQuery query = createQuery("by_contentid_creatorid_round")
+        .endKey(ComplexKey.of(contentId, ComplexKey.emptyObject()))
+        .limit(limit)
+        .includeDocs(true);
+    if (after == null) {
+      query.startKey(ComplexKey.of(contentId));
+    } else {
+      /* Continue behind the last row of the previous page. */
+      query.startKey(ComplexKey.of(contentId, after.getCreatorId(), after.getRound()))
+          .startDocId(after.getId())
+          .skip(1);
+    }
+
+    return db.queryView(query, Answer.class);
+  }
+
+  @Override
+  public Set<String> findCreatorIdsByContentIdRound(final String contentId, final int round) {
+    final ViewResult result = db.queryView(createQuery("points_by_contentid_round_creatorid")
+        .reduce(true)
+        .startKey(ComplexKey.of(contentId, round))
+        .endKey(ComplexKey.of(contentId, round, ComplexKey.emptyObject()))
+        .group(true));
+    return StreamSupport.stream(result.spliterator(), false)
+        .map(r -> r.getKeyAsNode().get(2).asText())
+        .collect(Collectors.toSet());
+  }
+
   @Override
   public Map<ContentIdRoundResultKey, Integer> countByRoomIdGroupByContentIdRoundResult(
       final String roomId) {
@@ -239,4 +271,13 @@ public class CouchDbAnswerRepository extends CouchDbCrudRepository<Answer>
         r -> r.getValueAsInt()
     ));
   }
+
+  @Override
+  public Map<String, String> saveAllAndGetErrors(final List<Answer> answers) {
+    publishWriteEvent(true);
+    return db.executeBulk(answers).stream()
+        .filter(r -> r.getId() != null)
+        .collect(Collectors.toMap(
+            DocumentOperationResult::getId, DocumentOperationResult::getError, (e1, e2) -> e1));
+  }
 }
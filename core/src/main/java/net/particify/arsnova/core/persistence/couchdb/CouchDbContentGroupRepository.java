@@ -53,4 +53,13 @@ public class CouchDbContentGroupRepository extends CouchDbCrudRepository<Content
 
     return contentGroups;
   }
+
+  @Override
+  public List<ContentGroup> findStubsByRoomId(final String roomId) {
+    return createEntityStubs(db.queryView(createQuery("by_roomid_name")
+            .startKey(ComplexKey.of(roomId))
+            .endKey(ComplexKey.of(roomId, ComplexKey.emptyObject()))
+            .reduce(false)),
+        ContentGroup::setRoomId);
+  }
 }
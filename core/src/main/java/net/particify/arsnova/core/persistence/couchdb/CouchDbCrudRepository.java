@@ -18,7 +18,9 @@
 
 package net.particify.arsnova.core.persistence.couchdb;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -41,6 +43,8 @@ import net.particify.arsnova.core.persistence.CrudRepository;
 @NoRepositoryBean
 abstract class CouchDbCrudRepository<T extends Entity>
     extends CouchDbRepositorySupport<T> implements CrudRepository<T, String>, ApplicationEventPublisherAware {
+  private static final String RENDERED_TEXTS_VERSION_VIEW_NAME = "by_renderedtextsversion";
+
   protected ApplicationEventPublisher applicationEventPublisher;
 
   protected final Class<T> type;
@@ -140,6 +144,32 @@ abstract class CouchDbCrudRepository<T extends Entity>
         type);
   }
 
+  /**
+   * Finds entities whose texts have not been rendered with any of the passed
+   * renderer versions. The design document of the entity type needs to provide
+   * a <tt>by_renderedtextsversion</tt> view.
+   */
+  public List<T> findByRenderedTextsVersionNotIn(final Collection<String> rendererVersions, final int limit) {
+    final List<T> entities = new ArrayList<>();
+    final ViewResult versionResult = db.queryView(createQuery(RENDERED_TEXTS_VERSION_VIEW_NAME).group(true));
+    for (final ViewResult.Row row : versionResult.getRows()) {
+      final JsonNode version = row.getKeyAsNode();
+      if (entities.size() >= limit) {
+        break;
+      }
+      if (rendererVersions.contains(version.textValue())) {
+        continue;
+      }
+      entities.addAll(db.queryView(createQuery(RENDERED_TEXTS_VERSION_VIEW_NAME)
+              .rawKey(version.toString())
+              .limit(limit - entities.size())
+              .includeDocs(true).reduce(false),
+          type));
+    }
+
+    return entities;
+  }
+
   @Override
   public long count() {
     return db.queryView(createQuery(countableAllViewName).reduce(true)).getRows().get(0).getValueAsInt();
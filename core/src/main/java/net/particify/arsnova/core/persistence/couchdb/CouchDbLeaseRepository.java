@@ -0,0 +1,73 @@
+package net.particify.arsnova.core.persistence.couchdb;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import org.ektorp.CouchDbConnector;
+import org.ektorp.DocumentNotFoundException;
+import org.ektorp.UpdateConflictException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.particify.arsnova.core.model.Lease;
+import net.particify.arsnova.core.persistence.LeaseRepository;
+
+/**
+ * Stores leases as documents in CouchDB. Concurrent attempts to acquire a
+ * lease are resolved by CouchDB's revision checks: Only one of the nodes can
+ * update the document, the others fail with a conflict.
+ */
+public class CouchDbLeaseRepository implements LeaseRepository {
+  private static final Logger logger = LoggerFactory.getLogger(CouchDbLeaseRepository.class);
+
+  private final CouchDbConnector db;
+
+  public CouchDbLeaseRepository(final CouchDbConnector db) {
+    this.db = db;
+  }
+
+  @Override
+  public boolean tryAcquire(final String name, final String holder, final Duration duration) {
+    final Instant now = Instant.now();
+    final Lease lease = find(name);
+    if (lease != null && lease.isHeldByOther(holder, Date.from(now))) {
+      return false;
+    }
+    final Lease update = lease != null ? lease : new Lease(name);
+    update.setHolder(holder);
+    update.setExpiresAt(Date.from(now.plus(duration)));
+    try {
+      if (update.getRevision() == null) {
+        db.create(update);
+      } else {
+        db.update(update);
+      }
+      return true;
+    } catch (final UpdateConflictException e) {
+      logger.debug("Lease {} has been acquired concurrently by another node.", name);
+      return false;
+    }
+  }
+
+  @Override
+  public void release(final String name, final String holder) {
+    final Lease lease = find(name);
+    if (lease == null || !holder.equals(lease.getHolder())) {
+      return;
+    }
+    lease.setExpiresAt(new Date());
+    try {
+      db.update(lease);
+    } catch (final UpdateConflictException e) {
+      logger.debug("Lease {} has been modified concurrently by another node.", name);
+    }
+  }
+
+  private Lease find(final String name) {
+    try {
+      return db.get(Lease.class, Lease.idFor(name));
+    } catch (final DocumentNotFoundException e) {
+      return null;
+    }
+  }
+}
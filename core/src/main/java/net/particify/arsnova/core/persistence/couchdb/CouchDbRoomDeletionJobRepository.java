@@ -0,0 +1,14 @@
+package net.particify.arsnova.core.persistence.couchdb;
+
+import org.ektorp.CouchDbConnector;
+
+import net.particify.arsnova.core.model.RoomDeletionJob;
+import net.particify.arsnova.core.persistence.RoomDeletionJobRepository;
+
+public class CouchDbRoomDeletionJobRepository
+    extends CouchDbCrudRepository<RoomDeletionJob>
+    implements RoomDeletionJobRepository {
+  public CouchDbRoomDeletionJobRepository(final CouchDbConnector db, final boolean createIfNotExists) {
+    super(RoomDeletionJob.class, db, "by_id", createIfNotExists);
+  }
+}
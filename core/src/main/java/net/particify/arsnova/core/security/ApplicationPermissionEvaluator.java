@@ -19,8 +19,7 @@
 package net.particify.arsnova.core.security;
 
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Map;
 import org.ektorp.DocumentNotFoundException;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
@@ -42,6 +41,7 @@ import net.particify.arsnova.core.model.ContentTemplate;
 import net.particify.arsnova.core.model.Room;
 import net.particify.arsnova.core.model.RoomSettings;
 import net.particify.arsnova.core.model.UserProfile;
+import net.particify.arsnova.core.security.jwt.JwtToken;
 import net.particify.arsnova.core.service.AnnouncementService;
 import net.particify.arsnova.core.service.AnswerService;
 import net.particify.arsnova.core.service.ContentGroupService;
@@ -68,8 +68,6 @@ public class ApplicationPermissionEvaluator implements PermissionEvaluator {
   /* specialized permissions */
   public static final String READ_CORRECT_OPTIONS_PERMISSION = "read-correct-options";
 
-  private static final String ROOM_ROLE_PATTERN = "ROLE_%s__%s";
-
   private static final Logger logger = LoggerFactory.getLogger(ApplicationPermissionEvaluator.class);
 
   private final RoomSettingsService roomSettingsService;
@@ -283,9 +281,7 @@ public class ApplicationPermissionEvaluator implements PermissionEvaluator {
           return true;
         }
         return hasAuthenticationRoomRole(auth, roomId, RoomRole.PARTICIPANT)
-            && contentGroupService.getByRoomIdAndContainingContentId(
-            targetContent.getRoomId(), targetContent.getId()).stream()
-            .anyMatch(cg -> cg.isContentPublished(targetContent.getId()));
+            && contentGroupService.isContentPublished(roomId, targetContent.getId());
       case READ_EXTENDED_PERMISSION:
         return hasAuthenticationRoomModeratingRole(auth, roomId);
       case READ_CORRECT_OPTIONS_PERMISSION:
@@ -293,9 +289,7 @@ public class ApplicationPermissionEvaluator implements PermissionEvaluator {
           return true;
         }
         return hasAuthenticationRoomRole(auth, roomId, RoomRole.PARTICIPANT)
-            && contentGroupService.getByRoomIdAndContainingContentId(
-            targetContent.getRoomId(), targetContent.getId()).stream()
-            .anyMatch(cg -> cg.isContentPublished(targetContent.getId()) && cg.isCorrectOptionsPublished());
+            && contentGroupService.areCorrectOptionsPublished(roomId, targetContent.getId());
       case MODERATE_PERMISSION:
         return hasAuthenticationRoomModeratingRole(auth, roomId);
       case CREATE_PERMISSION:
@@ -431,35 +425,19 @@ public class ApplicationPermissionEvaluator implements PermissionEvaluator {
       final Authentication auth,
       final String roomId,
       final RoomRole role) {
-    final List<String> allowedRoles = determineRoleSuperset(roomId, role);
-    return auth.getAuthorities().stream().anyMatch(ga -> allowedRoles.contains(ga.getAuthority()));
+    final RoomRole roomRole = getRoomRoles(auth).get(roomId);
+    return roomRole != null && roomRole.includes(role);
   }
 
   /**
-   * Returns a superset of roles which contains the passed role and roles with
-   * a superset of permissions.
+   * Returns the room roles of the authentication indexed by room ID. For JWT
+   * authentications, the index is built once per token.
    */
-  private List<String> determineRoleSuperset(final String roomId, final RoomRole role) {
-    final List<String> roles = new ArrayList<>();
-
-    roles.add(String.format(ROOM_ROLE_PATTERN, RoomRole.OWNER, roomId));
-    if (role == RoomRole.OWNER) {
-      return roles;
-    }
-
-    roles.add(String.format(ROOM_ROLE_PATTERN, RoomRole.EDITOR, roomId));
-    if (role == RoomRole.EDITOR) {
-      return roles;
+  private Map<String, RoomRole> getRoomRoles(final Authentication auth) {
+    if (auth instanceof JwtToken jwtToken) {
+      return jwtToken.getRoomRoles();
     }
-
-    roles.add(String.format(ROOM_ROLE_PATTERN, RoomRole.MODERATOR, roomId));
-    if (role == RoomRole.MODERATOR) {
-      return roles;
-    }
-
-    roles.add(String.format(ROOM_ROLE_PATTERN, RoomRole.PARTICIPANT, roomId));
-
-    return roles;
+    return RoomRole.indexAuthorities(auth.getAuthorities());
   }
 
   private String getUserId(final Authentication authentication) {
@@ -17,6 +17,7 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.ldap.authentication.LdapAuthenticationProvider;
 import org.springframework.stereotype.Component;
 
+import net.particify.arsnova.core.config.TaskExecutorConfig;
 import net.particify.arsnova.core.config.properties.SecurityProperties;
 import net.particify.arsnova.core.model.ClientAuthentication;
 import net.particify.arsnova.core.model.UserProfile;
@@ -58,7 +59,7 @@ public class AuthenticationService {
     loginBans = Collections.synchronizedSet(new HashSet<String>());
   }
 
-  @Scheduled(fixedDelay = LOGIN_TRY_RESET_DELAY_MS)
+  @Scheduled(fixedDelay = LOGIN_TRY_RESET_DELAY_MS, scheduler = TaskExecutorConfig.MAINTENANCE_SCHEDULER)
   public void resetLoginTries() {
     if (!loginTries.isEmpty()) {
       logger.debug("Resetting counters for failed logins.");
@@ -66,7 +67,7 @@ public class AuthenticationService {
     }
   }
 
-  @Scheduled(fixedDelay = LOGIN_BAN_RESET_DELAY_MS)
+  @Scheduled(fixedDelay = LOGIN_BAN_RESET_DELAY_MS, scheduler = TaskExecutorConfig.MAINTENANCE_SCHEDULER)
   public void resetLoginBans() {
     if (!loginBans.isEmpty()) {
       logger.info("Clearing temporary bans for failed logins ({}).", loginBans.size());
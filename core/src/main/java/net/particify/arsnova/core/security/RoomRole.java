@@ -1,8 +1,63 @@
 package net.particify.arsnova.core.security;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * Roles of a user for a room. The roles are ordered by descending
+ * permissions, so each role includes the permissions of all following roles.
+ */
 public enum RoomRole {
   OWNER,
   EDITOR,
   MODERATOR,
-  PARTICIPANT
+  PARTICIPANT;
+
+  private static final String AUTHORITY_PREFIX = "ROLE_";
+  private static final String ROOM_ID_SEPARATOR = "__";
+  private static final Map<String, RoomRole> ROLES_BY_NAME = Map.of(
+      OWNER.name(), OWNER,
+      EDITOR.name(), EDITOR,
+      MODERATOR.name(), MODERATOR,
+      PARTICIPANT.name(), PARTICIPANT);
+
+  /**
+   * Checks if this role has at least the permissions of the passed role.
+   */
+  public boolean includes(final RoomRole role) {
+    return compareTo(role) <= 0;
+  }
+
+  /**
+   * Creates a lookup of room IDs to roles from authorities in the format
+   * <code>ROLE_{role}__{roomId}</code>. If there are multiple authorities for
+   * the same room, the role with the most permissions is used.
+   */
+  public static Map<String, RoomRole> indexAuthorities(final Collection<? extends GrantedAuthority> authorities) {
+    Map<String, RoomRole> index = null;
+    for (final GrantedAuthority authority : authorities) {
+      final String name = authority.getAuthority();
+      if (name == null || !name.startsWith(AUTHORITY_PREFIX)) {
+        continue;
+      }
+      final int separatorIndex = name.indexOf(ROOM_ID_SEPARATOR, AUTHORITY_PREFIX.length());
+      if (separatorIndex == -1) {
+        continue;
+      }
+      final RoomRole role = ROLES_BY_NAME.get(name.substring(AUTHORITY_PREFIX.length(), separatorIndex));
+      if (role == null) {
+        continue;
+      }
+      if (index == null) {
+        index = new HashMap<>();
+      }
+      index.merge(name.substring(separatorIndex + ROOM_ID_SEPARATOR.length()), role,
+          (a, b) -> a.includes(b) ? a : b);
+    }
+
+    return index != null ? Collections.unmodifiableMap(index) : Collections.emptyMap();
+  }
 }
@@ -20,6 +20,8 @@ package net.particify.arsnova.core.security;
 
 import java.io.Serial;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
@@ -27,6 +29,7 @@ import net.particify.arsnova.core.model.UserProfile;
 
 /**
  * UserDetails implementation which identifies a user by internal (database) and external (AuthProvider + loginId) ID.
+ * Instances are immutable, so they can be shared between requests.
  *
  * @author Daniel Gerhardt
  */
@@ -37,41 +40,49 @@ public class User implements org.springframework.security.core.userdetails.UserD
   @Serial
   private static final long serialVersionUID = 1L;
 
-  private String id;
-  private String displayId;
-  private String displayName;
-  private String loginId;
-  private UserProfile.AuthProvider authProvider;
-  private String password;
-  private org.springframework.security.core.userdetails.UserDetails providerUserDetails;
-  private Collection<? extends GrantedAuthority> authorities;
-  private boolean enabled;
-  private String token;
+  private final String id;
+  private final String displayId;
+  private final String displayName;
+  private final String loginId;
+  private final UserProfile.AuthProvider authProvider;
+  private final String password;
+  private final org.springframework.security.core.userdetails.UserDetails providerUserDetails;
+  private final Collection<? extends GrantedAuthority> authorities;
+  private final boolean enabled;
+  private final Map<String, RoomRole> roomRoles;
 
   public User(final UserProfile profile, final Collection<? extends GrantedAuthority> authorities) {
-    if (profile == null || profile.getId() == null) {
-      throw new IllegalArgumentException();
-    }
-    id = profile.getId();
-    displayId = profile.getPerson().getDisplayId();
-    displayName = profile.getPerson().getDisplayName();
-    loginId = profile.getLoginId();
-    authProvider = profile.getAuthProvider();
-    password = profile.getAccount().getPassword();
-    this.authorities = authorities;
-    enabled = profile.getAccount().getActivationKey() == null;
+    this(profile, authorities, null);
   }
 
   public User(final String id, final Collection<? extends GrantedAuthority> authorities) {
     this.id = id;
-    this.authorities = authorities;
+    this.displayId = null;
+    this.displayName = null;
+    this.loginId = null;
+    this.authProvider = null;
+    this.password = null;
+    this.providerUserDetails = null;
+    this.authorities = List.copyOf(authorities);
+    this.roomRoles = RoomRole.indexAuthorities(authorities);
     this.enabled = true;
   }
 
   public User(final UserProfile profile, final Collection<? extends GrantedAuthority> authorities,
       final org.springframework.security.core.userdetails.UserDetails details) {
-    this(profile, authorities);
+    if (profile == null || profile.getId() == null) {
+      throw new IllegalArgumentException();
+    }
+    id = profile.getId();
+    displayId = profile.getPerson().getDisplayId();
+    displayName = profile.getPerson().getDisplayName();
+    loginId = profile.getLoginId();
+    authProvider = profile.getAuthProvider();
+    password = profile.getAccount().getPassword();
     providerUserDetails = details;
+    this.authorities = List.copyOf(authorities);
+    this.roomRoles = RoomRole.indexAuthorities(authorities);
+    enabled = profile.getAccount().getActivationKey() == null;
   }
 
   @Override
@@ -125,6 +136,13 @@ public class User implements org.springframework.security.core.userdetails.UserD
     return displayName;
   }
 
+  /**
+   * Returns the roles of the user for rooms indexed by room ID.
+   */
+  public Map<String, RoomRole> getRoomRoles() {
+    return roomRoles;
+  }
+
   public boolean hasRole(final String role) {
     return getAuthorities().stream().anyMatch(ga -> ga.getAuthority().equals("ROLE_" + role));
   }
@@ -133,14 +151,6 @@ public class User implements org.springframework.security.core.userdetails.UserD
     return hasRole("ADMIN");
   }
 
-  public String getToken() {
-    return token;
-  }
-
-  public void setToken(final String token) {
-    this.token = token;
-  }
-
   @Override
   public String toString() {
     return String.format("Id: %s, LoginId: %s, AuthProvider: %s, Admin: %b",
@@ -34,13 +34,17 @@ import java.util.stream.Collectors;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import net.particify.arsnova.common.security.VerifiedTokenCache;
 import net.particify.arsnova.core.config.properties.SecurityProperties;
 import net.particify.arsnova.core.config.properties.SystemProperties;
+import net.particify.arsnova.core.event.AfterDeletionEvent;
+import net.particify.arsnova.core.event.AfterUpdateEvent;
 import net.particify.arsnova.core.model.UserProfile;
 import net.particify.arsnova.core.security.User;
 import net.particify.arsnova.core.service.UserService;
@@ -52,6 +56,10 @@ public class JwtService {
   private static final String USER_ROLE = "USER";
   private static final String GUEST_ROLE = "GUEST_USER";
   private static final String ROLES_CLAIM_NAME = "roles";
+  private static final long TOKEN_CACHE_SIZE = 10000;
+  /* Invalidations are only handled locally, so the maximum age bounds how
+   * long other nodes accept tokens of updated or deleted users. */
+  private static final Duration TOKEN_CACHE_MAX_AGE = Duration.ofSeconds(30);
   private boolean externalUserManagement;
   private Algorithm algorithm;
   private String serverId;
@@ -62,6 +70,8 @@ public class JwtService {
   private JWTVerifier legacyVerifier;
   private UserService userService;
   private List<GrantedAuthority> legacyAllowedAuthorities;
+  private final VerifiedTokenCache<User> verifiedTokenCache =
+      new VerifiedTokenCache<>(TOKEN_CACHE_SIZE, TOKEN_CACHE_MAX_AGE);
 
   public JwtService(
       @Nullable final UserService userService,
@@ -114,7 +124,27 @@ public class JwtService {
         .sign(algorithm);
   }
 
+  /**
+   * Verifies the token and returns the user it has been issued for. Results
+   * are cached until the token expires or the user is updated or deleted on
+   * this node, but for 30 seconds at most. The returned user is immutable and
+   * shared between requests.
+   */
   public User verifyToken(final String token) {
+    return verifiedTokenCache.get(token, this::verifyUncachedToken);
+  }
+
+  @EventListener
+  public void handleUserProfileUpdate(final AfterUpdateEvent<UserProfile> event) {
+    verifiedTokenCache.invalidateSubject(event.getEntity().getId());
+  }
+
+  @EventListener
+  public void handleUserProfileDeletion(final AfterDeletionEvent<UserProfile> event) {
+    verifiedTokenCache.invalidateSubject(event.getEntity().getId());
+  }
+
+  private VerifiedTokenCache.VerifiedToken<User> verifyUncachedToken(final String token) {
     try {
       final DecodedJWT decodedJwt = verifier.verify(token);
       final String userId = decodedJwt.getSubject();
@@ -124,33 +154,37 @@ public class JwtService {
           .map(role -> new SimpleGrantedAuthority(ROLE_PREFIX + role)).collect(Collectors.toList());
 
       if (externalUserManagement) {
-        return new User(userId, authorities);
+        return createVerifiedToken(decodedJwt, new User(userId, authorities));
       } else {
         final UserProfile userProfile = userService.get(userId);
         if (userProfile == null) {
           throw new UsernameNotFoundException("User does not exist.");
         }
-        return new User(userProfile, authorities);
+        return createVerifiedToken(decodedJwt, new User(userProfile, authorities));
       }
     } catch (final JWTVerificationException e) {
       if (legacyVerifier == null) {
         throw e;
       }
       logger.debug("Token invalid, trying with legacy algorithm settings.");
-      final User user = verifyLegacyToken(token);
-      if (user == null) {
+      final VerifiedTokenCache.VerifiedToken<User> verifiedToken = verifyLegacyToken(token);
+      if (verifiedToken == null) {
         throw e;
       }
-      return user;
+      return verifiedToken;
     }
   }
 
+  private VerifiedTokenCache.VerifiedToken<User> createVerifiedToken(final DecodedJWT decodedJwt, final User user) {
+    return new VerifiedTokenCache.VerifiedToken<>(user, decodedJwt.getSubject(), decodedJwt.getExpiresAtAsInstant());
+  }
+
   /**
    * Verifies tokens which were created with a legacy algorithm configuration.
    * For security reasons, only tokens created for guest accounts are allowed
    * and claimed roles are ignored for authorization and instead overridden.
    */
-  private User verifyLegacyToken(final String token) {
+  private VerifiedTokenCache.VerifiedToken<User> verifyLegacyToken(final String token) {
     final DecodedJWT decodedJwt = legacyVerifier.verify(token);
     logger.debug("Legacy token verified.");
     final String userId = decodedJwt.getSubject();
@@ -166,6 +200,6 @@ public class JwtService {
       throw new UsernameNotFoundException("User does not exist.");
     }
 
-    return new User(userProfile, legacyAllowedAuthorities);
+    return createVerifiedToken(decodedJwt, new User(userProfile, legacyAllowedAuthorities));
   }
 }
@@ -20,9 +20,11 @@ package net.particify.arsnova.core.security.jwt;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Map;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
 
+import net.particify.arsnova.core.security.RoomRole;
 import net.particify.arsnova.core.security.User;
 
 public class JwtToken extends AbstractAuthenticationToken {
@@ -50,4 +52,12 @@ public class JwtToken extends AbstractAuthenticationToken {
   public Object getPrincipal() {
     return principal;
   }
+
+  /**
+   * Returns the room roles of the principal. They are indexed once per
+   * verified token.
+   */
+  public Map<String, RoomRole> getRoomRoles() {
+    return principal != null ? principal.getRoomRoles() : Collections.emptyMap();
+  }
 }
@@ -3,12 +3,14 @@ package net.particify.arsnova.core.service;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.access.prepost.PreFilter;
 
 import net.particify.arsnova.core.model.Deletion.Initiator;
 import net.particify.arsnova.core.model.Entity;
+import net.particify.arsnova.core.model.EntityValidationException;
 
 public abstract class AbstractSecuredEntityServiceImpl<E extends Entity> implements EntityService<E> {
   private final Class<E> type;
@@ -49,6 +51,12 @@ public abstract class AbstractSecuredEntityServiceImpl<E extends Entity> impleme
     return entityService.create(entities);
   }
 
+  @Override
+  @PreFilter(value = "hasPermission(filterObject, 'create')", filterTarget = "entities")
+  public List<E> create(final List<E> entities, final Consumer<EntityValidationException> rejectionHandler) {
+    return entityService.create(entities, rejectionHandler);
+  }
+
   @Override
   @PreAuthorize("hasPermission(#entity, 'update')")
   public E update(final E entity) {
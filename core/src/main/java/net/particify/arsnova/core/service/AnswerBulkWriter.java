@@ -0,0 +1,108 @@
+package net.particify.arsnova.core.service;
+
+import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.ektorp.DbAccessException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import net.particify.arsnova.core.config.TaskExecutorConfig;
+import net.particify.arsnova.core.config.properties.SystemProperties;
+import net.particify.arsnova.core.model.Answer;
+import net.particify.arsnova.core.persistence.AnswerRepository;
+
+/**
+ * Writes batches of new answers to the database. Large batches are split into
+ * chunks which are written concurrently.
+ *
+ * <p>
+ * Answers which could not be written are retried. Since answers have their ID
+ * assigned before they are queued, a conflict means that the answer has
+ * already been written by a previous attempt whose response got lost, so it is
+ * not retried.
+ * </p>
+ */
+@Component
+public class AnswerBulkWriter {
+  private static final Logger logger = LoggerFactory.getLogger(AnswerBulkWriter.class);
+  private static final String METRIC_PREFIX = "arsnova.answers.flush.";
+  private static final String CONFLICT_ERROR = "conflict";
+  private static final long RETRY_DELAY_MS = 200;
+
+  private final AnswerRepository answerRepository;
+  private final TaskExecutor executor;
+  private final int chunkSize;
+  private final int maxRetries;
+  private final Timer latencyTimer;
+  private final DistributionSummary batchSizeSummary;
+  private final Counter retryCounter;
+  private final Counter failureCounter;
+
+  public AnswerBulkWriter(
+      final AnswerRepository answerRepository,
+      final SystemProperties systemProperties,
+      final MeterRegistry meterRegistry,
+      @TaskExecutorConfig.AnswerBulkWriteExecutor final TaskExecutor executor) {
+    this.answerRepository = answerRepository;
+    this.executor = executor;
+    this.chunkSize = systemProperties.getAnswerQueue().getChunkSize();
+    this.maxRetries = systemProperties.getAnswerQueue().getMaxRetries();
+    this.latencyTimer = meterRegistry.timer(METRIC_PREFIX + "latency");
+    this.batchSizeSummary = meterRegistry.summary(METRIC_PREFIX + "batch.size");
+    this.retryCounter = meterRegistry.counter(METRIC_PREFIX + "retries");
+    this.failureCounter = meterRegistry.counter(METRIC_PREFIX + "failures");
+  }
+
+  /**
+   * Writes the answers and waits until all chunks have been processed.
+   *
+   * @return Answers which could not be written.
+   */
+  public List<Answer> write(final List<Answer> answers) {
+    batchSizeSummary.record(answers.size());
+    return latencyTimer.record(() -> {
+      final List<CompletableFuture<List<Answer>>> futures = Lists.partition(answers, chunkSize).stream()
+          .map(chunk -> CompletableFuture.supplyAsync(() -> writeChunk(chunk), executor))
+          .toList();
+      return futures.stream().flatMap(f -> f.join().stream()).toList();
+    });
+  }
+
+  private List<Answer> writeChunk(final List<Answer> chunk) {
+    List<Answer> pendingAnswers = chunk;
+    for (int attempt = 0; ; attempt++) {
+      try {
+        final Map<String, String> errors = answerRepository.saveAllAndGetErrors(pendingAnswers);
+        pendingAnswers = pendingAnswers.stream()
+            .filter(a -> errors.containsKey(a.getId()) && !CONFLICT_ERROR.equals(errors.get(a.getId())))
+            .toList();
+      } catch (final DbAccessException e) {
+        logger.warn("Bulk request for {} answers failed.", pendingAnswers.size(), e);
+      }
+      if (pendingAnswers.isEmpty()) {
+        return pendingAnswers;
+      }
+      if (attempt >= maxRetries) {
+        logger.error("Could not write {} answers after {} attempts.", pendingAnswers.size(), attempt + 1);
+        failureCounter.increment(pendingAnswers.size());
+        return pendingAnswers;
+      }
+      retryCounter.increment(pendingAnswers.size());
+      try {
+        Thread.sleep(RETRY_DELAY_MS * (attempt + 1));
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        failureCounter.increment(pendingAnswers.size());
+        return pendingAnswers;
+      }
+    }
+  }
+}
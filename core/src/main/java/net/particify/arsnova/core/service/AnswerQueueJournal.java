@@ -0,0 +1,413 @@
+package net.particify.arsnova.core.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import net.particify.arsnova.core.config.properties.SystemProperties;
+import net.particify.arsnova.core.model.Answer;
+import net.particify.arsnova.core.model.serialization.View;
+
+/**
+ * Append-only journal for answers which have been accepted but not yet been
+ * persisted to the database.
+ *
+ * <p>
+ * Answers are written to the current journal segment before they are queued.
+ * When the queue is flushed, a new segment is started and the previous one is
+ * deleted after its answers have been persisted. Segments which still exist on
+ * startup are replayed. Segments whose answers could not be persisted are
+ * retained and replayed while the application is running.
+ * </p>
+ *
+ * <p>
+ * Retained segments are replayed with an exponential backoff. Answers which
+ * still could not be persisted after the configured number of attempts are
+ * moved to a dead-letter file in the journal directory instead of being
+ * replayed again. Dead-letter files are not replayed on startup.
+ * </p>
+ *
+ * <p>
+ * If the configured sync interval is zero, each answer is synced to disk
+ * before it is acknowledged. Otherwise, syncing is batched and answers
+ * accepted during the last interval might be lost on a system crash.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(
+    name = "enabled",
+    prefix = SystemProperties.PREFIX + ".answer-journal",
+    havingValue = "true")
+public class AnswerQueueJournal implements DisposableBean {
+  private static final Logger logger = LoggerFactory.getLogger(AnswerQueueJournal.class);
+  private static final String METRIC_PREFIX = "arsnova.answers.journal.";
+  private static final String SEGMENT_PREFIX = "segment-";
+  private static final String SEGMENT_SUFFIX = ".jsonl";
+  private static final String DEAD_LETTER_PREFIX = "dead-letter-";
+  private static final int MAX_BACKOFF_FACTOR = 64;
+
+  private final Path directory;
+  private final ObjectWriter writer;
+  private final ObjectReader reader;
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final boolean syncOnAppend;
+  private final AtomicLong size = new AtomicLong();
+  private final Timer replayTimer;
+  private final List<Path> recoveredSegments;
+  private final Queue<RetainedSegment> retainedSegments = new ConcurrentLinkedQueue<>();
+  private final Map<String, Integer> failedAttempts = new ConcurrentHashMap<>();
+  private final int maxReplayAttempts;
+  private final Duration replayBackoff;
+  private final Counter deadLetterCounter;
+  private ScheduledFuture<?> syncTask;
+  private long sequence;
+  private Path currentSegment;
+  private FileChannel channel;
+  private volatile boolean unsynced;
+
+  public AnswerQueueJournal(
+      final SystemProperties systemProperties,
+      final MeterRegistry meterRegistry,
+      final TaskScheduler taskScheduler) throws IOException {
+    final SystemProperties.AnswerJournal properties = systemProperties.getAnswerJournal();
+    final JsonMapper mapper = JsonMapper.builder()
+        .disable(MapperFeature.DEFAULT_VIEW_INCLUSION)
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        .addModule(new JavaTimeModule())
+        .build();
+    writer = mapper.writerWithView(View.Persistence.class).forType(Answer.class);
+    reader = mapper.readerWithView(View.Persistence.class).forType(Answer.class);
+    directory = Path.of(properties.getPath());
+    Files.createDirectories(directory);
+    recoveredSegments = listSegments();
+    for (final Path segment : recoveredSegments) {
+      size.addAndGet(Files.size(segment));
+      sequence = Math.max(sequence, parseSequence(segment));
+    }
+    openNextSegment();
+
+    maxReplayAttempts = properties.getMaxReplayAttempts();
+    replayBackoff = properties.getReplayBackoff();
+    syncOnAppend = properties.getSyncInterval().isZero();
+    if (!syncOnAppend) {
+      syncTask = taskScheduler.scheduleWithFixedDelay(this::sync, properties.getSyncInterval());
+    }
+    Gauge.builder(METRIC_PREFIX + "size", size, AtomicLong::get)
+        .baseUnit("bytes")
+        .register(meterRegistry);
+    replayTimer = meterRegistry.timer(METRIC_PREFIX + "replay");
+    deadLetterCounter = meterRegistry.counter(METRIC_PREFIX + "dead.letters");
+    logger.info("Answer journal is enabled (directory: {}, sync on append: {}).", directory, syncOnAppend);
+  }
+
+  /**
+   * Writes the answer to the journal and runs the enqueue action afterwards.
+   * Both steps are performed atomically with regard to {@link #rotate}.
+   */
+  public void append(final Answer answer, final Runnable enqueueAction) {
+    final ByteBuffer line = serialize(answer);
+    lock.readLock().lock();
+    try {
+      size.addAndGet(channel.write(line));
+      if (syncOnAppend) {
+        channel.force(false);
+      } else {
+        unsynced = true;
+      }
+      enqueueAction.run();
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Could not write answer to journal.", e);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Runs the drain action and starts a new segment for answers which are
+   * appended afterwards.
+   *
+   * @return The segment containing the drained answers. It has to be passed to
+   *     {@link #commit} once the answers have been persisted.
+   */
+  public Path rotate(final Runnable drainAction) {
+    lock.writeLock().lock();
+    try {
+      drainAction.run();
+      final Path segment = currentSegment;
+      openNextSegment();
+      return segment;
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Could not rotate answer journal.", e);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Deletes a segment whose answers have been persisted.
+   */
+  public void commit(final Path segment) {
+    delete(segment);
+    if (retainedSegments.isEmpty()) {
+      // All replayed answers have been persisted.
+      failedAttempts.clear();
+    }
+  }
+
+  /**
+   * Keeps a segment whose answers could not be persisted, so they are passed
+   * to the consumer of a later call of {@link #replayRetained}. The delay
+   * before the segment is replayed grows with the number of failed attempts
+   * of its answers.
+   */
+  public void retain(final Path segment, final Collection<? extends Answer> failedAnswers) {
+    int attempts = 1;
+    for (final Answer answer : failedAnswers) {
+      attempts = Math.max(attempts, failedAttempts.merge(answer.getId(), 1, Integer::sum));
+    }
+    retainedSegments.add(new RetainedSegment(segment, attempts, System.currentTimeMillis() + backoff(attempts)));
+  }
+
+  /**
+   * Passes answers of segments which existed on startup to the consumer. The
+   * consumer is expected to append the answers to the journal again. Replayed
+   * segments are deleted afterwards.
+   */
+  public void replay(final Consumer<Answer> consumer) {
+    if (recoveredSegments.isEmpty()) {
+      return;
+    }
+    replayTimer.record(() -> {
+      for (final Path segment : recoveredSegments) {
+        replaySegment(segment, consumer, 0);
+      }
+    });
+    recoveredSegments.clear();
+  }
+
+  /**
+   * Passes answers of retained segments whose backoff has elapsed to the
+   * consumer. The consumer is expected to append the answers to the journal
+   * again. Replayed segments are deleted afterwards. Answers which have
+   * reached the maximum number of attempts are moved to a dead-letter file
+   * instead. If the consumer fails, the segment is retained again or, after
+   * the maximum number of attempts, moved to a dead-letter file as a whole.
+   */
+  public void replayRetained(final Consumer<Answer> consumer) {
+    final long now = System.currentTimeMillis();
+    final List<RetainedSegment> pendingSegments = new ArrayList<>();
+    RetainedSegment retainedSegment;
+    try {
+      while ((retainedSegment = retainedSegments.poll()) != null) {
+        if (retainedSegment.notBefore() > now) {
+          pendingSegments.add(retainedSegment);
+          continue;
+        }
+        try {
+          replaySegment(retainedSegment.path(), consumer, maxReplayAttempts);
+        } catch (final RuntimeException e) {
+          final int attempts = retainedSegment.attempts() + 1;
+          if (attempts >= maxReplayAttempts) {
+            moveToDeadLetters(retainedSegment.path(), e);
+          } else {
+            pendingSegments.add(new RetainedSegment(retainedSegment.path(), attempts, now + backoff(attempts)));
+          }
+          throw e;
+        }
+      }
+    } finally {
+      retainedSegments.addAll(pendingSegments);
+    }
+  }
+
+  public void sync() {
+    if (!unsynced) {
+      return;
+    }
+    unsynced = false;
+    lock.readLock().lock();
+    try {
+      channel.force(false);
+    } catch (final IOException e) {
+      unsynced = true;
+      logger.error("Could not sync answer journal.", e);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public void destroy() throws IOException {
+    if (syncTask != null) {
+      syncTask.cancel(false);
+    }
+    lock.writeLock().lock();
+    try {
+      channel.force(false);
+      channel.close();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Passes the answers of the segment to the consumer and deletes it. If
+   * maxAttempts is positive, answers which have failed to be persisted as
+   * many times are moved to a dead-letter file instead.
+   */
+  private void replaySegment(final Path segment, final Consumer<Answer> consumer, final int maxAttempts) {
+    logger.info("Replaying answer journal segment {}.", segment);
+    final List<String> deadLetters = new ArrayList<>();
+    try (BufferedReader segmentReader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = segmentReader.readLine()) != null) {
+        if (line.isBlank()) {
+          continue;
+        }
+        final Answer answer;
+        try {
+          answer = reader.readValue(line);
+        } catch (final JsonProcessingException e) {
+          /* The last line might be incomplete after a crash. */
+          logger.warn("Skipping unreadable entry in answer journal segment {}.", segment);
+          continue;
+        }
+        if (maxAttempts > 0 && failedAttempts.getOrDefault(answer.getId(), 0) >= maxAttempts) {
+          deadLetters.add(line);
+          continue;
+        }
+        consumer.accept(answer);
+      }
+    } catch (final IOException e) {
+      logger.error("Could not read answer journal segment {}.", segment, e);
+      return;
+    }
+    if (!deadLetters.isEmpty()) {
+      writeDeadLetters(segment, deadLetters);
+    }
+    delete(segment);
+  }
+
+  private void writeDeadLetters(final Path segment, final List<String> lines) {
+    final Path deadLetterFile = resolveDeadLetterFile(segment);
+    try {
+      Files.write(deadLetterFile, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Could not write answers to dead-letter file.", e);
+    }
+    deadLetterCounter.increment(lines.size());
+    logger.error("Moved {} answers which could not be persisted after {} attempts to {}.",
+        lines.size(), maxReplayAttempts, deadLetterFile);
+  }
+
+  private void moveToDeadLetters(final Path segment, final RuntimeException cause) {
+    final Path deadLetterFile = resolveDeadLetterFile(segment);
+    try {
+      final long segmentSize = Files.size(segment);
+      final long answerCount;
+      try (Stream<String> lines = Files.lines(segment, StandardCharsets.UTF_8)) {
+        answerCount = lines.filter(l -> !l.isBlank()).count();
+      }
+      Files.move(segment, deadLetterFile);
+      size.addAndGet(-segmentSize);
+      deadLetterCounter.increment(answerCount);
+      logger.error("Moved answer journal segment {} which could not be replayed after {} attempts to {}.",
+          segment, maxReplayAttempts, deadLetterFile, cause);
+    } catch (final IOException e) {
+      logger.error("Could not move answer journal segment {} to {}.", segment, deadLetterFile, e);
+    }
+  }
+
+  private Path resolveDeadLetterFile(final Path segment) {
+    return directory.resolve(DEAD_LETTER_PREFIX + parseSequence(segment) + SEGMENT_SUFFIX);
+  }
+
+  private void delete(final Path segment) {
+    try {
+      final long segmentSize = Files.size(segment);
+      Files.delete(segment);
+      size.addAndGet(-segmentSize);
+    } catch (final IOException e) {
+      logger.error("Could not delete answer journal segment {}.", segment, e);
+    }
+  }
+
+  private long backoff(final int attempts) {
+    return replayBackoff.toMillis() * Math.min(1L << Math.min(attempts - 1, 30), MAX_BACKOFF_FACTOR);
+  }
+
+  private ByteBuffer serialize(final Answer answer) {
+    try {
+      return ByteBuffer.wrap((writer.writeValueAsString(answer) + "\n").getBytes(StandardCharsets.UTF_8));
+    } catch (final JsonProcessingException e) {
+      throw new RuntimeException("JSON serialization should never fail here.", e);
+    }
+  }
+
+  private void openNextSegment() throws IOException {
+    if (channel != null) {
+      channel.force(false);
+      channel.close();
+    }
+    sequence++;
+    currentSegment = directory.resolve(SEGMENT_PREFIX + sequence + SEGMENT_SUFFIX);
+    channel = FileChannel.open(
+        currentSegment, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    unsynced = false;
+  }
+
+  private List<Path> listSegments() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files
+          .filter(f -> f.getFileName().toString().startsWith(SEGMENT_PREFIX))
+          .filter(f -> f.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+          .sorted((a, b) -> Long.compare(parseSequence(a), parseSequence(b)))
+          .collect(Collectors.toCollection(ArrayList::new));
+    }
+  }
+
+  private static long parseSequence(final Path segment) {
+    final String name = segment.getFileName().toString();
+    return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+  }
+
+  private record RetainedSegment(Path path, int attempts, long notBefore) {}
+}
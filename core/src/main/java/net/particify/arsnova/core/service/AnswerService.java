@@ -18,7 +18,6 @@
 
 package net.particify.arsnova.core.service;
 
-import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 
@@ -29,10 +28,12 @@ import net.particify.arsnova.core.model.AnswerStatisticsUserSummary;
 import net.particify.arsnova.core.model.ChoiceAnswerStatistics;
 import net.particify.arsnova.core.model.ContentGroup;
 import net.particify.arsnova.core.model.LeaderboardEntry;
+import net.particify.arsnova.core.model.LeaderboardUserRank;
 import net.particify.arsnova.core.model.NumericAnswerStatistics;
 import net.particify.arsnova.core.model.PrioritizationAnswerStatistics;
 import net.particify.arsnova.core.model.TextAnswer;
 import net.particify.arsnova.core.model.TextAnswerStatistics;
+import net.particify.arsnova.core.model.export.AnswerExport;
 
 public interface AnswerService extends EntityService<Answer> {
   Answer getMyAnswer(String contentId);
@@ -76,8 +77,16 @@ public interface AnswerService extends EntityService<Answer> {
 
   void hideTextAnswer(TextAnswer answer, boolean hidden);
 
-  Collection<LeaderboardEntry> buildAliasedLeaderboard(
-      ContentGroup contentGroup, String currentContentId, Locale locale);
+  List<LeaderboardEntry> buildAliasedLeaderboard(
+      ContentGroup contentGroup, String currentContentId, Locale locale, int offset, int limit);
+
+  LeaderboardUserRank getLeaderboardRank(ContentGroup contentGroup, String currentContentId, Locale locale);
 
   List<AnswerStatisticsSummaryEntry> calculateStatsByContentIds(String roomId, List<String> contentIds);
+
+  /**
+   * Returns all answers of the room's contents in export format. Answers are
+   * loaded in pages while iterating.
+   */
+  Iterable<AnswerExport> exportAnswersByRoomId(String roomId);
 }
@@ -18,32 +18,37 @@
 
 package net.particify.arsnova.core.service;
 
+import com.google.common.collect.AbstractIterator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import org.ektorp.DbAccessException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.event.EventListener;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
@@ -51,10 +56,14 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.Validator;
 
+import net.particify.arsnova.common.uuid.UuidHelper;
+import net.particify.arsnova.core.config.TaskExecutorConfig;
+import net.particify.arsnova.core.config.properties.SystemProperties;
 import net.particify.arsnova.core.event.AfterCreationEvent;
 import net.particify.arsnova.core.event.BeforeCreationEvent;
 import net.particify.arsnova.core.event.BeforeDeletionEvent;
 import net.particify.arsnova.core.event.BulkChangeEvent;
+import net.particify.arsnova.core.event.DatabaseInitializedEvent;
 import net.particify.arsnova.core.model.Answer;
 import net.particify.arsnova.core.model.AnswerResult;
 import net.particify.arsnova.core.model.AnswerStatistics;
@@ -69,6 +78,7 @@ import net.particify.arsnova.core.model.Deletion.Initiator;
 import net.particify.arsnova.core.model.GridImageContent;
 import net.particify.arsnova.core.model.LeaderboardCurrentResult;
 import net.particify.arsnova.core.model.LeaderboardEntry;
+import net.particify.arsnova.core.model.LeaderboardUserRank;
 import net.particify.arsnova.core.model.MultipleTextsAnswer;
 import net.particify.arsnova.core.model.NumericAnswer;
 import net.particify.arsnova.core.model.NumericAnswerStatistics;
@@ -83,6 +93,7 @@ import net.particify.arsnova.core.model.TextAnswer;
 import net.particify.arsnova.core.model.TextAnswerStatistics;
 import net.particify.arsnova.core.model.TextAnswerStatistics.TextRoundStatistics;
 import net.particify.arsnova.core.model.WordContent;
+import net.particify.arsnova.core.model.export.AnswerExport;
 import net.particify.arsnova.core.persistence.AnswerRepository;
 import net.particify.arsnova.core.persistence.DeletionRepository;
 import net.particify.arsnova.core.security.AuthenticationService;
@@ -90,6 +101,7 @@ import net.particify.arsnova.core.security.User;
 import net.particify.arsnova.core.service.exceptions.AlreadyAnsweredContentException;
 import net.particify.arsnova.core.util.StatisticsUtil;
 import net.particify.arsnova.core.web.exceptions.NotFoundException;
+import net.particify.arsnova.core.web.exceptions.TooManyRequestsException;
 
 /**
  * Performs all answer related operations.
@@ -100,21 +112,36 @@ public class AnswerServiceImpl extends DefaultEntityServiceImpl<Answer> implemen
   private static final String NIL_UUID = "00000000000000000000000000000000";
   private static final Logger logger = LoggerFactory.getLogger(AnswerServiceImpl.class);
   private static final Pattern specialCharPattern = Pattern.compile("[^\\p{IsAlphabetic}\\p{IsDigit}]");
+  private static final long FLUSH_CHECK_INTERVAL_MS = 200;
+  private static final int EXPORT_PAGE_SIZE = 500;
 
   private final Queue<AnswerUniqueKey> answerQueue = new ConcurrentLinkedQueue<>();
   private final Map<AnswerUniqueKey, Answer> queuedAnswers = new ConcurrentHashMap<>();
+  private final AtomicInteger answerQueueSize = new AtomicInteger();
+  private final AtomicLong oldestQueuedAnswerTimestamp = new AtomicLong();
+  private final SystemProperties.AnswerQueue answerQueueProperties;
+  private final Counter rejectedAnswersCounter;
   private ContentService contentService;
   private RoomUserAliasService roomUserAliasService;
   private AnswerRepository answerRepository;
   private AuthenticationService authenticationService;
-  private CacheManager cacheManager;
+  private AnswerStatisticsAggregator answerStatisticsAggregator;
+  private AnsweredUsersIndex answeredUsersIndex;
+  private LeaderboardEngine leaderboardEngine;
+  private AnswerBulkWriter answerBulkWriter;
+  private AnswerQueueJournal answerQueueJournal;
 
   public AnswerServiceImpl(
       final AnswerRepository repository,
       final DeletionRepository deletionRepository,
       final RoomUserAliasService roomUserAliasService,
       final AuthenticationService authenticationService,
-      final CacheManager cacheManager,
+      final AnswerStatisticsAggregator answerStatisticsAggregator,
+      final AnsweredUsersIndex answeredUsersIndex,
+      final LeaderboardEngine leaderboardEngine,
+      final AnswerBulkWriter answerBulkWriter,
+      final SystemProperties systemProperties,
+      final MeterRegistry meterRegistry,
       @Qualifier("defaultJsonMessageConverter") final
       MappingJackson2HttpMessageConverter jackson2HttpMessageConverter,
       final Validator validator) {
@@ -122,7 +149,13 @@ public class AnswerServiceImpl extends DefaultEntityServiceImpl<Answer> implemen
     this.answerRepository = repository;
     this.roomUserAliasService = roomUserAliasService;
     this.authenticationService = authenticationService;
-    this.cacheManager = cacheManager;
+    this.answerStatisticsAggregator = answerStatisticsAggregator;
+    this.answeredUsersIndex = answeredUsersIndex;
+    this.leaderboardEngine = leaderboardEngine;
+    this.answerBulkWriter = answerBulkWriter;
+    this.answerQueueProperties = systemProperties.getAnswerQueue();
+    this.rejectedAnswersCounter = meterRegistry.counter("arsnova.answers.queue.rejected");
+    Gauge.builder("arsnova.answers.queue.depth", queuedAnswers, Map::size).register(meterRegistry);
   }
 
   @Autowired
@@ -130,41 +163,144 @@ public class AnswerServiceImpl extends DefaultEntityServiceImpl<Answer> implemen
     this.contentService = contentService;
   }
 
-  @Scheduled(fixedDelay = 5000)
+  @Autowired(required = false)
+  public void setAnswerQueueJournal(final AnswerQueueJournal answerQueueJournal) {
+    this.answerQueueJournal = answerQueueJournal;
+  }
+
+  /**
+   * Flushes the answer queue once it has reached the configured size or its
+   * oldest answer has reached the configured age.
+   */
+  @Scheduled(fixedDelay = FLUSH_CHECK_INTERVAL_MS, scheduler = TaskExecutorConfig.LATENCY_CRITICAL_SCHEDULER)
+  public void flushAnswerQueueIfDue() {
+    if (answerQueueJournal != null) {
+      try {
+        answerQueueJournal.replayRetained(this::replayJournaledAnswer);
+      } catch (final RuntimeException e) {
+        logger.warn("Could not replay answers which failed to be persisted.", e);
+      }
+    }
+    final int size = answerQueueSize.get();
+    if (size == 0) {
+      return;
+    }
+    final long age = System.currentTimeMillis() - oldestQueuedAnswerTimestamp.get();
+    if (size < answerQueueProperties.getFlushSize() && age < answerQueueProperties.getMaxAge().toMillis()) {
+      return;
+    }
+    flushAnswerQueue();
+  }
+
   public void flushAnswerQueue() {
     if (answerQueue.isEmpty()) {
       // no need to send an empty bulk request.
-      clearContentGroupLeaderboardCache();
       return;
     }
 
     final Map<AnswerUniqueKey, Answer> answers = new HashMap<>();
-    AnswerUniqueKey key;
-    while ((key = this.answerQueue.poll()) != null) {
-      final Answer answer = queuedAnswers.remove(key);
-      // answer could be null in rare cases where a duplicate key is added
-      // to the queue by another thread between queue polling and the
-      // removal from the map.
-      if (answer != null) {
-        answers.putIfAbsent(key, answer);
+    final Runnable drainAction = () -> {
+      oldestQueuedAnswerTimestamp.set(0);
+      AnswerUniqueKey key;
+      while ((key = this.answerQueue.poll()) != null) {
+        answerQueueSize.decrementAndGet();
+        // The answer is kept in the map until it has been persisted so it is
+        // still considered when answered users are loaded.
+        final Answer answer = queuedAnswers.get(key);
+        // answer could be null in rare cases where a duplicate key is added
+        // to the queue by another thread between queue polling and the
+        // removal from the map.
+        if (answer != null) {
+          answers.putIfAbsent(key, answer);
+        }
       }
+    };
+    final Path journalSegment;
+    if (answerQueueJournal != null) {
+      journalSegment = answerQueueJournal.rotate(drainAction);
+    } else {
+      drainAction.run();
+      journalSegment = null;
     }
+    final List<Answer> failedAnswers = new ArrayList<>();
     try {
       for (final Answer e : answers.values()) {
         this.eventPublisher.publishEvent(new BeforeCreationEvent<>(this, e));
       }
-      answerRepository.saveAll(new ArrayList<>(answers.values()));
-      clearContentGroupLeaderboardCache();
-      for (final Answer e : answers.values()) {
-        evictLeaderboardCacheEntries(e.getContentId());
+      final List<Answer> rankedAnswers = answers.values().stream()
+          .filter(a -> !NIL_UUID.equals(a.getCreatorId()))
+          .toList();
+      // The answers are written without holding the locks of the in-memory
+      // aggregations, so statistics and leaderboards can still be read.
+      final List<Answer> savedAnswers = new ArrayList<>();
+      answerStatisticsAggregator.beginRecording(answers.values());
+      leaderboardEngine.beginRecording(rankedAnswers);
+      try {
+        failedAnswers.addAll(answerBulkWriter.write(new ArrayList<>(answers.values())));
+        savedAnswers.addAll(answers.values());
+        savedAnswers.removeAll(failedAnswers);
+      } finally {
+        leaderboardEngine.completeRecording(
+            rankedAnswers, savedAnswers.stream().filter(a -> !NIL_UUID.equals(a.getCreatorId())).toList());
+        answerStatisticsAggregator.completeRecording(answers.values(), savedAnswers);
+      }
+      for (final Answer e : savedAnswers) {
         this.eventPublisher.publishEvent(new AfterCreationEvent<>(this, e));
       }
-      this.eventPublisher.publishEvent(new BulkChangeEvent<>(this, Answer.class, answers.values()));
-    } catch (final DbAccessException e) {
-      logger.error("Could not bulk save answers from queue.", e);
+      for (final Answer e : failedAnswers) {
+        // The answer might have been written despite the error and the user
+        // has been marked as answered optimistically, so affected data has to
+        // be reloaded.
+        answerStatisticsAggregator.invalidate(e.getContentId());
+        answeredUsersIndex.invalidate(e.getContentId());
+        leaderboardEngine.invalidateContent(e.getContentId());
+      }
+      this.eventPublisher.publishEvent(new BulkChangeEvent<>(this, Answer.class, savedAnswers));
     } finally {
       queuedAnswers.keySet().removeAll(answers.keySet());
     }
+    if (journalSegment == null) {
+      if (!failedAnswers.isEmpty()) {
+        logger.error("Could not bulk save {} answers from queue.", failedAnswers.size());
+      }
+      return;
+    }
+    if (!failedAnswers.isEmpty()) {
+      // The journal segment is retained so the answers are replayed with one of
+      // the next checks of the queue.
+      logger.error("Could not bulk save {} answers from queue, retrying.", failedAnswers.size());
+      answerQueueJournal.retain(journalSegment, failedAnswers);
+      return;
+    }
+    answerQueueJournal.commit(journalSegment);
+  }
+
+  /**
+   * Queues answers from the journal which have not been persisted before the
+   * last shutdown.
+   */
+  @EventListener
+  public void handleDatabaseInitialization(final DatabaseInitializedEvent event) {
+    if (answerQueueJournal == null) {
+      return;
+    }
+    answerQueueJournal.replay(this::replayJournaledAnswer);
+  }
+
+  /**
+   * Queues a journaled answer unless it has already been persisted. The ID of
+   * the answer is checked first since text answers and answers without a
+   * creator are not covered by the index of answered users.
+   */
+  private void replayJournaledAnswer(final Answer answer) {
+    if (answerRepository.existsById(answer.getId())
+        || (answer.getFormat() != Content.Format.TEXT && !NIL_UUID.equals(answer.getCreatorId())
+        && !answeredUsersIndex.add(answer.getContentId(), answer.getRound(), answer.getCreatorId(),
+            () -> loadAnsweredUserIds(answer.getContentId(), answer.getRound())))) {
+      logger.debug("Skipping journaled answer which has already been persisted.");
+      return;
+    }
+    enqueue(answer);
   }
 
   @Override
@@ -175,7 +311,8 @@ public class AnswerServiceImpl extends DefaultEntityServiceImpl<Answer> implemen
     final Iterable<Answer> answers = answerRepository.findStubsByContentIdAndHidden(content.getId(), false);
     answers.forEach(a -> a.setRoomId(content.getRoomId()));
     delete(answers, Initiator.USER);
-    evictLeaderboardCacheEntries(contentId);
+    answeredUsersIndex.invalidate(contentId);
+    leaderboardEngine.invalidateContent(contentId);
   }
 
   @Override
@@ -194,7 +331,6 @@ public class AnswerServiceImpl extends DefaultEntityServiceImpl<Answer> implemen
     if (content == null) {
       throw new NotFoundException();
     }
-    final ChoiceAnswerStatistics stats;
     final int optionCount;
     if (content instanceof ChoiceQuestionContent) {
       if (content instanceof ScaleChoiceContent) {
@@ -202,22 +338,64 @@ public class AnswerServiceImpl extends DefaultEntityServiceImpl<Answer> implemen
       } else {
         optionCount = ((ChoiceQuestionContent) content).getOptions().size();
       }
-      stats = answerRepository.findStatisticsByContentIdRound(
-          content.getId(), round, optionCount);
     } else if (content instanceof GridImageContent) {
       final GridImageContent.Grid grid = ((GridImageContent) content).getGrid();
       optionCount = grid.getColumns() * grid.getRows();
-      stats = answerRepository.findStatisticsByContentIdRound(
-          content.getId(), round, optionCount);
     } else {
       throw new IllegalStateException(
           "Content expected to be an instance of ChoiceQuestionContent or GridImageContent");
     }
-    /* Fill list with zeros to prevent IndexOutOfBoundsExceptions */
-    final List<Integer> independentCounts = stats.getRoundStatistics().get(round - 1).getIndependentCounts();
-    while (independentCounts.size() < optionCount) {
-      independentCounts.add(0);
+    final AnswerStatisticsAggregator.Tally tally = answerStatisticsAggregator.get(
+        content.getId(), round, () -> loadChoiceTally(content.getId(), round, optionCount));
+
+    return buildChoiceStatistics(content.getId(), round, optionCount, tally);
+  }
+
+  private AnswerStatisticsAggregator.Tally loadChoiceTally(
+      final String contentId, final int round, final int optionCount) {
+    final ChoiceAnswerStatistics stats = answerRepository.findStatisticsByContentIdRound(
+        contentId, round, optionCount);
+    final ChoiceAnswerStatistics.ChoiceRoundStatistics roundStats = stats.getRoundStatistics().get(round - 1);
+    final AnswerStatisticsAggregator.Tally tally = new AnswerStatisticsAggregator.Tally();
+    tally.addChoiceCombination(Collections.emptyList(), roundStats.getAbstentionCount());
+    for (final ChoiceAnswerStatistics.ChoiceRoundStatistics.Combination combination
+        : roundStats.getCombinatedCounts()) {
+      tally.addChoiceCombination(combination.getSelectedChoiceIndexes(), combination.getCount());
+    }
+
+    return tally;
+  }
+
+  private ChoiceAnswerStatistics buildChoiceStatistics(
+      final String contentId,
+      final int round,
+      final int optionCount,
+      final AnswerStatisticsAggregator.Tally tally) {
+    final ChoiceAnswerStatistics stats = new ChoiceAnswerStatistics();
+    stats.setContentId(contentId);
+    final ChoiceAnswerStatistics.ChoiceRoundStatistics roundStats = new ChoiceAnswerStatistics.ChoiceRoundStatistics();
+    roundStats.setRound(round);
+    roundStats.setAbstentionCount(tally.getAbstentionCount());
+    roundStats.setAnswerCount(tally.getAnswerCount());
+    final List<Integer> independentCounts = new ArrayList<>(Collections.nCopies(optionCount, 0));
+    final List<ChoiceAnswerStatistics.ChoiceRoundStatistics.Combination> combinations = new ArrayList<>();
+    for (final Map.Entry<List<Integer>, Integer> entry : tally.getChoiceCombinationCounts().entrySet()) {
+      for (final int index : entry.getKey()) {
+        /* Fill list with zeros to prevent IndexOutOfBoundsExceptions */
+        while (independentCounts.size() <= index) {
+          independentCounts.add(0);
+        }
+        independentCounts.set(index, independentCounts.get(index) + entry.getValue());
+      }
+      combinations.add(new ChoiceAnswerStatistics.ChoiceRoundStatistics.Combination(
+          entry.getKey(), entry.getValue()));
     }
+    roundStats.setIndependentCounts(independentCounts);
+    roundStats.setCombinatedCounts(combinations);
+    final List<ChoiceAnswerStatistics.ChoiceRoundStatistics> roundStatisticsList =
+        new ArrayList<>(Collections.nCopies(round, null));
+    roundStatisticsList.set(round - 1, roundStats);
+    stats.setRoundStatistics(roundStatisticsList);
 
     return stats;
   }
@@ -323,21 +501,17 @@ public class AnswerServiceImpl extends DefaultEntityServiceImpl<Answer> implemen
     } else {
       bannedKeywords = Collections.emptySet();
     }
-    final List<MultipleTextsAnswer> answers =
-        answerRepository.findByContentIdRound(MultipleTextsAnswer.class, contentId, round);
-    /* Flatten lists of individual answers to a combined map of texts with
-     * count */
-    final Map<String, Long> textCounts = answers.stream()
-        .flatMap(a -> a.getTexts().stream())
-        .collect(Collectors.groupingBy(
-            Function.identity(),
-            Collectors.counting()));
+    /* The tally flattens lists of individual answers to a combined map of
+     * texts with count */
+    final AnswerStatisticsAggregator.Tally tally = answerStatisticsAggregator.get(
+        contentId, round, () -> AnswerStatisticsAggregator.Tally.of(
+            answerRepository.findByContentIdRound(MultipleTextsAnswer.class, contentId, round)));
 
     return buildTextAnswerStatistics(
       round,
-      (int) answers.stream().filter(a -> !a.isAbstention()).count(),
-      (int) answers.stream().filter(a -> a.isAbstention()).count(),
-      textCounts,
+      tally.getAnswerCount(),
+      tally.getAbstentionCount(),
+      tally.getTextCounts(),
       bannedKeywords,
       Collections.emptySet());
   }
@@ -364,23 +538,18 @@ public class AnswerServiceImpl extends DefaultEntityServiceImpl<Answer> implemen
     } else {
       bannedKeywords = Collections.emptySet();
     }
-    final List<ShortAnswer> answers =
-        answerRepository.findByContentIdRound(ShortAnswer.class, contentId, round);
-    final Map<String, Long> textCounts = answers.stream()
-        .filter(a -> !a.isAbstention())
-        .map(a -> a.getText())
-        .collect(Collectors.groupingBy(
-            Function.identity(),
-            Collectors.counting()));
+    final AnswerStatisticsAggregator.Tally tally = answerStatisticsAggregator.get(
+        contentId, round, () -> AnswerStatisticsAggregator.Tally.of(
+            answerRepository.findByContentIdRound(ShortAnswer.class, contentId, round)));
     final Set<String> preferredKeywords = content instanceof ShortAnswerContent shortAnswerContent
         ? shortAnswerContent.getCorrectTerms()
         : Collections.emptySet();
 
     return buildTextAnswerStatistics(
         round,
-        (int) answers.stream().filter(a -> !a.isAbstention()).count(),
-        (int) answers.stream().filter(a -> a.isAbstention()).count(),
-        textCounts,
+        tally.getAnswerCount(),
+        tally.getAbstentionCount(),
+        tally.getTextCounts(),
         bannedKeywords,
         preferredKeywords);
   }
@@ -462,22 +631,18 @@ public class AnswerServiceImpl extends DefaultEntityServiceImpl<Answer> implemen
     if (content == null) {
       throw new NotFoundException();
     }
-    final List<NumericAnswer> answers = answerRepository.findByContentIdRound(NumericAnswer.class, contentId, round);
+    final AnswerStatisticsAggregator.Tally tally = answerStatisticsAggregator.get(
+        contentId, round, () -> AnswerStatisticsAggregator.Tally.of(
+            answerRepository.findByContentIdRound(NumericAnswer.class, contentId, round)));
     final NumericAnswerStatistics stats = new NumericAnswerStatistics();
     stats.setContentId(contentId);
     final NumericAnswerStatistics.NumericRoundStatistics roundStats =
         new NumericAnswerStatistics.NumericRoundStatistics();
     roundStats.setRound(round);
-    roundStats.setAbstentionCount((int) answers.stream().filter(a -> a.getSelectedNumber() == null).count());
-    final List<Double> numbers = answers.stream()
-        .map(NumericAnswer::getSelectedNumber)
-        .filter(n -> n != null)
-        .toList();
+    roundStats.setAbstentionCount(tally.getAbstentionCount());
+    final List<Double> numbers = tally.getNumbers();
     roundStats.setAnswerCount(numbers.size());
-    final Map<Double, Long> numberCounts = numbers.stream()
-        .collect(Collectors.groupingBy(
-        Function.identity(),
-        Collectors.counting()));
+    final Map<Double, Long> numberCounts = tally.getNumberCounts();
     roundStats.setSelectedNumbers(new ArrayList<>(numberCounts.keySet()));
     roundStats.setIndependentCounts(numberCounts.values().stream().map(Long::intValue).collect(Collectors.toList()));
     roundStats.setMinimum(StatisticsUtil.findMinimum(numbers));
@@ -567,16 +732,46 @@ public class AnswerServiceImpl extends DefaultEntityServiceImpl<Answer> implemen
 
   @Override
   public Answer create(final Answer answer) {
+    if (queuedAnswers.size() >= answerQueueProperties.getHighWaterMark()) {
+      rejectedAnswersCounter.increment();
+      throw new TooManyRequestsException("Too many answers are pending.", answerQueueProperties.getMaxAge());
+    }
     prepareCreate(answer);
-    final AnswerUniqueKey key = new AnswerUniqueKey(answer.getCreatorId(), answer.getContentId());
-    if (answerQueue.add(key)) {
-      queuedAnswers.put(key, answer);
+    // The ID is assigned in advance so retried bulk requests can detect
+    // answers which have already been saved.
+    answer.setId(UuidHelper.uuidToString(UUID.randomUUID()));
+    try {
+      enqueue(answer);
+    } catch (final RuntimeException e) {
+      // The user has been marked as answered by prepareCreate but the answer
+      // has not been queued.
+      if (!NIL_UUID.equals(answer.getCreatorId()) && answer.getFormat() != Content.Format.TEXT) {
+        answeredUsersIndex.remove(
+            answer.getContentId(), answer.getRound(), authenticationService.getCurrentUser().getId());
+      }
+      throw e;
     }
     finalizeCreate(answer);
 
     return answer;
   }
 
+  private void enqueue(final Answer answer) {
+    final AnswerUniqueKey key = new AnswerUniqueKey(answer.getCreatorId(), answer.getContentId());
+    final Runnable enqueueAction = () -> {
+      if (answerQueue.add(key)) {
+        queuedAnswers.put(key, answer);
+        answerQueueSize.incrementAndGet();
+        oldestQueuedAnswerTimestamp.compareAndSet(0, System.currentTimeMillis());
+      }
+    };
+    if (answerQueueJournal != null) {
+      answerQueueJournal.append(answer, enqueueAction);
+    } else {
+      enqueueAction.run();
+    }
+  }
+
   @Override
   protected void prepareCreate(final Answer answer) {
     final User user = authenticationService.getCurrentUser();
@@ -585,18 +780,6 @@ public class AnswerServiceImpl extends DefaultEntityServiceImpl<Answer> implemen
       throw new NotFoundException();
     }
 
-    if (!NIL_UUID.equals(answer.getCreatorId())) {
-      final Answer maybeExistingAnswer = answerRepository.findByContentIdUserIdPiRound(
-          content.getId(),
-          Answer.class,
-          user.getId(),
-          content.getState().getRound());
-
-      if (maybeExistingAnswer != null) {
-        throw new AlreadyAnsweredContentException();
-      }
-    }
-
     answer.setCreationTimestamp(new Date());
     if (answer.getCreatorId() == null) {
       answer.setCreatorId(user.getId());
@@ -640,6 +823,29 @@ public class AnswerServiceImpl extends DefaultEntityServiceImpl<Answer> implemen
       answer.setRound(content.getState().getRound());
     }
     validate(answer);
+
+    /* Text answers are stored for round 0 and multiple answers per user are
+     * allowed. */
+    if (!NIL_UUID.equals(answer.getCreatorId()) && content.getFormat() != Content.Format.TEXT) {
+      final int round = answer.getRound();
+      final boolean added = answeredUsersIndex.add(
+          content.getId(), round, user.getId(), () -> loadAnsweredUserIds(content.getId(), round));
+      if (!added) {
+        throw new AlreadyAnsweredContentException();
+      }
+    }
+  }
+
+  private Set<String> loadAnsweredUserIds(final String contentId, final int round) {
+    /* Queued answers are collected first: they are only removed from the
+     * queue after they have been persisted. */
+    final Set<String> userIds = queuedAnswers.values().stream()
+        .filter(a -> a.getContentId().equals(contentId) && a.getRound() == round)
+        .map(Answer::getCreatorId)
+        .collect(Collectors.toCollection(HashSet::new));
+    userIds.addAll(answerRepository.findCreatorIdsByContentIdRound(contentId, round));
+
+    return userIds;
   }
 
   @Override
@@ -664,39 +870,65 @@ public class AnswerServiceImpl extends DefaultEntityServiceImpl<Answer> implemen
   }
 
   @Override
-  public Collection<LeaderboardEntry> buildAliasedLeaderboard(
+  public List<LeaderboardEntry> buildAliasedLeaderboard(
       final ContentGroup contentGroup,
       final String currentContentId,
-      final Locale locale) {
-    final Map<String, RoomUserAlias> aliasMappings =
-        roomUserAliasService.getUserAliasMappingsByRoomId(contentGroup.getRoomId(), locale);
-    final Map<String, LeaderboardCurrentResult> currentResults =
-        currentContentId != null ? buildContentLeaderboard(currentContentId) : new HashMap<>();
-    return buildContentGroupLeaderboard(contentGroup).entrySet().stream()
-        .map(es -> new LeaderboardEntry(
-            aliasMappings.get(es.getKey()), es.getValue(), currentResults.get(es.getKey())))
+      final Locale locale,
+      final int offset,
+      final int limit) {
+    final LeaderboardEngine.Board board = getLeaderboard(contentGroup);
+    final Map<String, RoomUserAlias> aliasMappings = leaderboardEngine.getAliases(
+        contentGroup.getRoomId(),
+        locale,
+        () -> roomUserAliasService.getUserAliasMappingsByRoomId(contentGroup.getRoomId(), locale));
+    final Map<String, LeaderboardCurrentResult> currentResults = currentContentId != null
+        ? leaderboardEngine.getCurrentResults(
+            board, currentContentId, () -> buildContentLeaderboard(currentContentId))
+        : Map.of();
+    return board.getRanking().getPage(offset, limit).stream()
+        .map(s -> new LeaderboardEntry(
+            aliasMappings.get(s.userId()), s.score(), currentResults.get(s.userId())))
         .collect(Collectors.toList());
   }
 
-  @Cacheable(cacheNames = "leaderboard-contentgroup")
-  private Map<String, Integer> buildContentGroupLeaderboard(final ContentGroup contentGroup) {
-    final Map<String, Integer> leaderboard = new HashMap<>();
-    final List<Content> contents = contentService.get(contentGroup.getContentIds());
-    for (final Content content : contents) {
-      final Map<String, Integer> contentScores =
-          answerRepository.findUserScoreByContentIdRound(content.getId(), content.getState().getRound());
-      for (final Map.Entry<String, Integer> entry : contentScores.entrySet()) {
-        if (entry.getKey().equals(NIL_UUID)) {
-          continue;
-        }
-        final int score = leaderboard.getOrDefault(entry.getKey(), 0);
-        leaderboard.put(entry.getKey(), score + entry.getValue());
+  @Override
+  public LeaderboardUserRank getLeaderboardRank(
+      final ContentGroup contentGroup,
+      final String currentContentId,
+      final Locale locale) {
+    final String userId = authenticationService.getCurrentUser().getId();
+    final LeaderboardEngine.Board board = getLeaderboard(contentGroup);
+    final LeaderboardEngine.Ranking ranking = board.getRanking();
+    final LeaderboardEngine.Standing standing = ranking.getStanding(userId);
+    if (standing == null) {
+      throw new NotFoundException("User is not part of the leaderboard.");
+    }
+    final RoomUserAlias alias = leaderboardEngine.getAliases(
+        contentGroup.getRoomId(),
+        locale,
+        () -> roomUserAliasService.getUserAliasMappingsByRoomId(contentGroup.getRoomId(), locale)).get(userId);
+    final LeaderboardCurrentResult currentResult = currentContentId != null
+        ? leaderboardEngine.getCurrentResults(
+            board, currentContentId, () -> buildContentLeaderboard(currentContentId)).get(userId)
+        : null;
+    return new LeaderboardUserRank(
+        standing.rank(), ranking.size(), new LeaderboardEntry(alias, standing.score(), currentResult));
+  }
+
+  private LeaderboardEngine.Board getLeaderboard(final ContentGroup contentGroup) {
+    return leaderboardEngine.get(contentGroup.getId(), () -> {
+      final List<Content> contents = contentService.get(contentGroup.getContentIds());
+      final LeaderboardEngine.Board board = new LeaderboardEngine.Board(contents);
+      for (final Content content : contents) {
+        final Map<String, Integer> contentScores = new HashMap<>(
+            answerRepository.findUserScoreByContentIdRound(content.getId(), content.getState().getRound()));
+        contentScores.remove(NIL_UUID);
+        board.addScores(contentScores);
       }
-    }
-    return leaderboard;
+      return board;
+    });
   }
 
-  @Cacheable(cacheNames = "leaderboard-content")
   private Map<String, LeaderboardCurrentResult> buildContentLeaderboard(final String contentId) {
     final Content content = contentService.get(contentId);
     final List<Answer> answers = answerRepository.findByContentIdRound(
@@ -733,12 +965,35 @@ public class AnswerServiceImpl extends DefaultEntityServiceImpl<Answer> implemen
     return results;
   }
 
-  private void evictLeaderboardCacheEntries(final String contentId) {
-    cacheManager.getCache("leaderboard-content").evict(contentId);
-  }
-
-  public void clearContentGroupLeaderboardCache() {
-    cacheManager.getCache("leaderboard-contentgroup").clear();
+  @Override
+  public Iterable<AnswerExport> exportAnswersByRoomId(final String roomId) {
+    final List<Content> contents = contentService.getByRoomId(roomId);
+    return () -> new AbstractIterator<>() {
+      private final Iterator<Content> contentIterator = contents.iterator();
+      private Content content;
+      private Iterator<Answer> page = Collections.emptyIterator();
+      private Answer lastAnswer;
+      private boolean lastPage = true;
+
+      @Override
+      protected AnswerExport computeNext() {
+        while (!page.hasNext()) {
+          if (lastPage) {
+            if (!contentIterator.hasNext()) {
+              return endOfData();
+            }
+            content = contentIterator.next();
+            lastAnswer = null;
+          }
+          final List<Answer> answers =
+              answerRepository.findByContentIdAfter(content.getId(), lastAnswer, EXPORT_PAGE_SIZE);
+          lastPage = answers.size() < EXPORT_PAGE_SIZE;
+          page = answers.iterator();
+        }
+        lastAnswer = page.next();
+        return new AnswerExport(content, lastAnswer);
+      }
+    };
   }
 
   private record AnswerUniqueKey(String userId, String contentId) {}
@@ -0,0 +1,270 @@
+package net.particify.arsnova.core.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import net.particify.arsnova.core.event.AfterDeletionEvent;
+import net.particify.arsnova.core.event.AfterUpdateEvent;
+import net.particify.arsnova.core.model.Answer;
+import net.particify.arsnova.core.model.ChoiceAnswer;
+import net.particify.arsnova.core.model.Content;
+import net.particify.arsnova.core.model.MultipleTextsAnswer;
+import net.particify.arsnova.core.model.NumericAnswer;
+import net.particify.arsnova.core.model.ShortAnswer;
+
+/**
+ * Keeps per content and round tallies of answers in memory so statistics do
+ * not have to be recalculated from the database for every request. Tallies are
+ * loaded lazily and afterwards updated with the answers of each flushed batch.
+ * They are invalidated when answers are deleted or updated (e.g. hidden) and
+ * when the content itself is changed.
+ *
+ * <p>
+ * Tallies are only updated with answers flushed by this node. To include
+ * answers of other nodes, they expire shortly after they have been loaded,
+ * which bounds the time statistics can be outdated.
+ * </p>
+ *
+ * <p>
+ * Answers of a batch are announced before they are written and added to loaded
+ * tallies afterwards. Tallies are loaded without holding the lock, and
+ * concurrent requests for a tally which is being loaded wait for the same
+ * load. Tallies which are loaded while answers of their content are being
+ * written, or which have been written since loading started, might already
+ * include some of them, so they are returned but not kept. This guarantees
+ * that answers are never counted twice.
+ * </p>
+ */
+@Component
+public class AnswerStatisticsAggregator {
+  private static final Logger logger = LoggerFactory.getLogger(AnswerStatisticsAggregator.class);
+  private static final Duration EXPIRY = Duration.ofSeconds(15);
+  private static final long MAX_CONTENTS = 10000;
+
+  private final Cache<String, Map<Integer, CompletableFuture<Tally>>> tallies = Caffeine.newBuilder()
+      .expireAfterWrite(EXPIRY)
+      .maximumSize(MAX_CONTENTS)
+      .build();
+  private final Map<String, Integer> pendingWriteCounts = new HashMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  /**
+   * Returns the tally for the content and round. If it is not available in
+   * memory, it is created by the loader.
+   */
+  public Tally get(final String contentId, final int round, final Supplier<Tally> loader) {
+    final Map<Integer, CompletableFuture<Tally>> contentTallies =
+        tallies.get(contentId, k -> new ConcurrentHashMap<>());
+    final CompletableFuture<Tally> loadingTally = new CompletableFuture<>();
+    final CompletableFuture<Tally> existingTally = contentTallies.putIfAbsent(round, loadingTally);
+    if (existingTally != null) {
+      return join(existingTally);
+    }
+    final Tally loadedTally;
+    try {
+      logger.debug("Loading answer tally for content {} and round {}.", contentId, round);
+      loadedTally = loader.get();
+    } catch (final RuntimeException e) {
+      contentTallies.remove(round, loadingTally);
+      loadingTally.completeExceptionally(e);
+      throw e;
+    }
+    lock.readLock().lock();
+    try {
+      // The loading tally has been removed if answers have been written in
+      // the meantime.
+      if (pendingWriteCounts.containsKey(contentId) || contentTallies.get(round) != loadingTally) {
+        contentTallies.remove(round, loadingTally);
+      }
+      loadingTally.complete(loadedTally);
+    } finally {
+      lock.readLock().unlock();
+    }
+    return loadedTally;
+  }
+
+  /**
+   * Announces that the answers are about to be written. Has to be followed by
+   * a call of {@link #completeRecording(Collection, Collection)} once writing
+   * has finished, regardless of its outcome.
+   */
+  public void beginRecording(final Collection<? extends Answer> answers) {
+    lock.writeLock().lock();
+    try {
+      for (final Answer answer : answers) {
+        pendingWriteCounts.merge(answer.getContentId(), 1, Integer::sum);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Adds the written answers to already loaded tallies. Answers which could
+   * not be written are not added.
+   *
+   * @param answers The answers which have been passed to
+   *     {@link #beginRecording(Collection)}.
+   * @param writtenAnswers The subset of answers which have been written.
+   */
+  public void completeRecording(
+      final Collection<? extends Answer> answers, final Collection<? extends Answer> writtenAnswers) {
+    lock.writeLock().lock();
+    try {
+      for (final Answer answer : writtenAnswers) {
+        final Map<Integer, CompletableFuture<Tally>> contentTallies = tallies.getIfPresent(answer.getContentId());
+        if (contentTallies == null) {
+          continue;
+        }
+        final CompletableFuture<Tally> tally = contentTallies.get(answer.getRound());
+        if (tally == null) {
+          continue;
+        }
+        if (tally.isDone()) {
+          tally.join().add(answer);
+        } else {
+          // The tally is still being loaded and might not include the answer.
+          contentTallies.remove(answer.getRound(), tally);
+        }
+      }
+      for (final Answer answer : answers) {
+        pendingWriteCounts.computeIfPresent(answer.getContentId(), (k, count) -> count > 1 ? count - 1 : null);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void invalidate(final String contentId) {
+    lock.writeLock().lock();
+    try {
+      tallies.invalidate(contentId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private Tally join(final CompletableFuture<Tally> tally) {
+    try {
+      return tally.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  @EventListener
+  public void handleAnswerDeletion(final AfterDeletionEvent<? extends Answer> event) {
+    invalidate(event.getEntity().getContentId());
+  }
+
+  @EventListener
+  public void handleAnswerUpdate(final AfterUpdateEvent<? extends Answer> event) {
+    invalidate(event.getEntity().getContentId());
+  }
+
+  @EventListener
+  public void handleContentUpdate(final AfterUpdateEvent<? extends Content> event) {
+    invalidate(event.getEntity().getId());
+  }
+
+  @EventListener
+  public void handleContentDeletion(final AfterDeletionEvent<? extends Content> event) {
+    invalidate(event.getEntity().getId());
+  }
+
+  /**
+   * Counts of answers for a single content and round. Only the data relevant
+   * for the answer's type is tracked.
+   */
+  public static class Tally {
+    private int abstentionCount;
+    private int answerCount;
+    private final Map<List<Integer>, Integer> choiceCombinationCounts = new HashMap<>();
+    private final Map<String, Long> textCounts = new HashMap<>();
+    private final Map<Double, Long> numberCounts = new HashMap<>();
+
+    public static Tally of(final Collection<? extends Answer> answers) {
+      final Tally tally = new Tally();
+      answers.forEach(tally::add);
+      return tally;
+    }
+
+    public synchronized void add(final Answer answer) {
+      if (answer.isAbstention()) {
+        abstentionCount++;
+        return;
+      }
+      answerCount++;
+      if (answer instanceof ChoiceAnswer choiceAnswer) {
+        choiceCombinationCounts.merge(List.copyOf(choiceAnswer.getSelectedChoiceIndexes()), 1, Integer::sum);
+      } else if (answer instanceof MultipleTextsAnswer multipleTextsAnswer) {
+        multipleTextsAnswer.getTexts().forEach(t -> textCounts.merge(t, 1L, Long::sum));
+      } else if (answer instanceof ShortAnswer shortAnswer) {
+        textCounts.merge(shortAnswer.getText(), 1L, Long::sum);
+      } else if (answer instanceof NumericAnswer numericAnswer) {
+        numberCounts.merge(numericAnswer.getSelectedNumber(), 1L, Long::sum);
+      }
+    }
+
+    public synchronized void addChoiceCombination(final List<Integer> selectedChoiceIndexes, final int count) {
+      if (selectedChoiceIndexes.isEmpty()) {
+        abstentionCount += count;
+        return;
+      }
+      answerCount += count;
+      choiceCombinationCounts.merge(List.copyOf(selectedChoiceIndexes), count, Integer::sum);
+    }
+
+    public synchronized int getAbstentionCount() {
+      return abstentionCount;
+    }
+
+    public synchronized int getAnswerCount() {
+      return answerCount;
+    }
+
+    public synchronized Map<List<Integer>, Integer> getChoiceCombinationCounts() {
+      return new HashMap<>(choiceCombinationCounts);
+    }
+
+    public synchronized Map<String, Long> getTextCounts() {
+      return new HashMap<>(textCounts);
+    }
+
+    public synchronized Map<Double, Long> getNumberCounts() {
+      return new HashMap<>(numberCounts);
+    }
+
+    /**
+     * Returns all selected numbers, including duplicates.
+     */
+    public synchronized List<Double> getNumbers() {
+      final List<Double> numbers = new ArrayList<>(answerCount);
+      numberCounts.forEach((number, count) -> {
+        for (long i = 0; i < count; i++) {
+          numbers.add(number);
+        }
+      });
+      return numbers;
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package net.particify.arsnova.core.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import net.particify.arsnova.core.event.AfterDeletionEvent;
+import net.particify.arsnova.core.event.AfterUpdateEvent;
+import net.particify.arsnova.core.model.Answer;
+import net.particify.arsnova.core.model.Content;
+
+/**
+ * Keeps track of the users who have already answered a content in a specific
+ * round. It is used to reject duplicate answers without querying the database
+ * for each submission. The index also covers answers which have been accepted
+ * but not yet been persisted.
+ *
+ * <p>
+ * Sets of user IDs are loaded lazily and updated when answers are accepted.
+ * They are invalidated when answers are deleted, a round is started or the
+ * content state is reset.
+ * </p>
+ *
+ * <p>
+ * The index is local to the node, so it does not contain answers which have
+ * been accepted by other nodes after the set has been loaded. Sets therefore
+ * expire shortly after they have been loaded. With multiple nodes, a user is
+ * able to answer more than once only within a bounded window: until the
+ * answer of the other node has been flushed and the expiry has passed.
+ * </p>
+ */
+@Component
+public class AnsweredUsersIndex {
+  private static final Logger logger = LoggerFactory.getLogger(AnsweredUsersIndex.class);
+  private static final Duration EXPIRY = Duration.ofSeconds(30);
+  private static final long MAX_CONTENTS = 10000;
+
+  private final Cache<String, Map<Integer, Set<String>>> userIds = Caffeine.newBuilder()
+      .expireAfterWrite(EXPIRY)
+      .maximumSize(MAX_CONTENTS)
+      .build();
+
+  /**
+   * Marks the content as answered by the user in the given round.
+   *
+   * @param loader Supplies the IDs of users who have already answered if they
+   *     are not yet available in memory.
+   * @return false if the user has already answered in this round.
+   */
+  public boolean add(
+      final String contentId, final int round, final String userId, final Supplier<Set<String>> loader) {
+    final Map<Integer, Set<String>> contentUserIds = userIds.get(contentId, k -> new ConcurrentHashMap<>());
+    final Set<String> roundUserIds = contentUserIds.computeIfAbsent(round, r -> {
+      logger.debug("Loading IDs of users who answered content {} in round {}.", contentId, round);
+      final Set<String> ids = ConcurrentHashMap.newKeySet();
+      ids.addAll(loader.get());
+      return ids;
+    });
+
+    return roundUserIds.add(userId);
+  }
+
+  /**
+   * Reverts {@link #add(String, int, String, Supplier)} for an answer which
+   * has not been accepted after all.
+   */
+  public void remove(final String contentId, final int round, final String userId) {
+    final Map<Integer, Set<String>> contentUserIds = userIds.getIfPresent(contentId);
+    if (contentUserIds == null) {
+      return;
+    }
+    final Set<String> roundUserIds = contentUserIds.get(round);
+    if (roundUserIds != null) {
+      roundUserIds.remove(userId);
+    }
+  }
+
+  public void invalidate(final String contentId) {
+    userIds.invalidate(contentId);
+  }
+
+  @EventListener
+  public void handleAnswerDeletion(final AfterDeletionEvent<? extends Answer> event) {
+    invalidate(event.getEntity().getContentId());
+  }
+
+  @EventListener
+  public void handleContentUpdate(final AfterUpdateEvent<? extends Content> event) {
+    if (event.getEntity().getState().getRound() != event.getOldEntity().getState().getRound()) {
+      invalidate(event.getEntity().getId());
+    }
+  }
+
+  @EventListener
+  public void handleContentDeletion(final AfterDeletionEvent<? extends Content> event) {
+    invalidate(event.getEntity().getId());
+  }
+}
@@ -0,0 +1,106 @@
+package net.particify.arsnova.core.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Suspends calls to a remote service after consecutive failures.
+ *
+ * <p>
+ * The circuit opens when the number of consecutive failures reaches the
+ * threshold. While it is open, calls are rejected. After the open duration,
+ * the circuit is half-open and a single call is permitted to probe the
+ * service. The circuit closes if the probe succeeds and opens again if it
+ * fails. The state and state transitions are recorded as metrics.
+ * </p>
+ */
+class CircuitBreaker {
+  enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+  private static final String METRIC_PREFIX = "arsnova.circuitbreaker.";
+
+  private final String name;
+  private final int failureThreshold;
+  private final Duration openDuration;
+  private final MeterRegistry meterRegistry;
+  private State state = State.CLOSED;
+  private int failureCount;
+  private Instant openedAt;
+  private boolean probing;
+
+  CircuitBreaker(
+      final String name,
+      final int failureThreshold,
+      final Duration openDuration,
+      final MeterRegistry meterRegistry) {
+    this.name = name;
+    this.failureThreshold = failureThreshold;
+    this.openDuration = openDuration;
+    this.meterRegistry = meterRegistry;
+    Gauge.builder(METRIC_PREFIX + "state", this, c -> c.getState().ordinal())
+        .tag("name", name)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Checks if a call is permitted. If a call is permitted,
+   * {@link #onSuccess()} or {@link #onFailure()} has to be called once the
+   * call completes.
+   */
+  synchronized boolean tryAcquirePermission() {
+    if (state == State.OPEN && Instant.now().isAfter(openedAt.plus(openDuration))) {
+      transitionTo(State.HALF_OPEN);
+    }
+    return switch (state) {
+      case CLOSED -> true;
+      case OPEN -> false;
+      case HALF_OPEN -> {
+        if (probing) {
+          yield false;
+        }
+        probing = true;
+        yield true;
+      }
+    };
+  }
+
+  synchronized void onSuccess() {
+    failureCount = 0;
+    probing = false;
+    if (state != State.CLOSED) {
+      transitionTo(State.CLOSED);
+    }
+  }
+
+  synchronized void onFailure() {
+    failureCount++;
+    probing = false;
+    if (state == State.HALF_OPEN || (state == State.CLOSED && failureCount >= failureThreshold)) {
+      openedAt = Instant.now();
+      transitionTo(State.OPEN);
+    }
+  }
+
+  synchronized State getState() {
+    return state;
+  }
+
+  private void transitionTo(final State newState) {
+    if (newState == State.OPEN) {
+      logger.warn("Circuit breaker {} opened after {} consecutive failures.", name, failureCount);
+    } else {
+      logger.info("Circuit breaker {} changed state from {} to {}.", name, state, newState);
+    }
+    state = newState;
+    meterRegistry.counter(METRIC_PREFIX + "transitions", "name", name, "state", newState.name()).increment();
+  }
+}
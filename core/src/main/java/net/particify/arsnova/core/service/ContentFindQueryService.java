@@ -46,8 +46,7 @@ public class ContentFindQueryService implements FindQueryService<Content> {
 
     if (findQuery.getExternalFilters().get("notInContentGroupOfRoomId") instanceof String) {
       final String roomId = (String) findQuery.getExternalFilters().get("notInContentGroupOfRoomId");
-      final Set<String> idsWithGroup = contentGroupService.getByRoomId(roomId).stream()
-          .flatMap(cg -> cg.getContentIds().stream()).collect(Collectors.toSet());
+      final Set<String> idsWithGroup = contentGroupService.getContentIdsWithGroup(roomId);
       final Set<String> idsWithoutGroup = contentService.getByRoomId(roomId).stream()
           .map(Content::getId).filter(id -> !idsWithGroup.contains(id)).collect(Collectors.toSet());
       contentIds.addAll(idsWithoutGroup);
@@ -0,0 +1,124 @@
+package net.particify.arsnova.core.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import net.particify.arsnova.core.event.AfterCreationEvent;
+import net.particify.arsnova.core.event.AfterDeletionEvent;
+import net.particify.arsnova.core.event.AfterUpdateEvent;
+import net.particify.arsnova.core.model.ContentGroup;
+
+/**
+ * Keeps track of the content groups which contain a content. It is used for
+ * permission checks and lookups which would otherwise need to load all
+ * content groups of a room.
+ *
+ * <p>
+ * Indexes are loaded lazily per room and invalidated when a content group of
+ * the room is created, updated or deleted. They only contain IDs and the
+ * publishing state, so no entities are shared between callers.
+ * </p>
+ */
+@Component
+public class ContentGroupIndex {
+  private static final Logger logger = LoggerFactory.getLogger(ContentGroupIndex.class);
+  private static final Duration EXPIRY = Duration.ofHours(2);
+  private static final long MAX_ROOMS = 10000;
+
+  private final Cache<String, RoomIndex> roomIndexes = Caffeine.newBuilder()
+      .expireAfterAccess(EXPIRY)
+      .maximumSize(MAX_ROOMS)
+      .build();
+
+  /**
+   * Returns the index for the room.
+   *
+   * @param loader Supplies all content groups of the room if the index is not
+   *     yet available in memory.
+   */
+  public RoomIndex get(final String roomId, final Supplier<List<ContentGroup>> loader) {
+    return roomIndexes.get(roomId, k -> {
+      logger.debug("Loading content group index for room {}.", roomId);
+      return new RoomIndex(loader.get());
+    });
+  }
+
+  public void invalidate(final String roomId) {
+    roomIndexes.invalidate(roomId);
+  }
+
+  @EventListener
+  public void handleContentGroupCreation(final AfterCreationEvent<ContentGroup> event) {
+    invalidate(event.getEntity().getRoomId());
+  }
+
+  @EventListener
+  public void handleContentGroupUpdate(final AfterUpdateEvent<ContentGroup> event) {
+    invalidate(event.getEntity().getRoomId());
+  }
+
+  @EventListener
+  public void handleContentGroupDeletion(final AfterDeletionEvent<ContentGroup> event) {
+    invalidate(event.getEntity().getRoomId());
+  }
+
+  /**
+   * Publishing state of a content within a content group.
+   */
+  public record Membership(String contentGroupId, boolean contentPublished, boolean correctOptionsPublished) {
+  }
+
+  /**
+   * Immutable lookup of content IDs to the content groups of a room which
+   * contain them.
+   */
+  public static class RoomIndex {
+    private final Map<String, List<Membership>> memberships;
+
+    RoomIndex(final List<ContentGroup> contentGroups) {
+      final Map<String, List<Membership>> index = new HashMap<>();
+      for (final ContentGroup contentGroup : contentGroups) {
+        for (final String contentId : contentGroup.getContentIds()) {
+          index.computeIfAbsent(contentId, k -> new ArrayList<>()).add(new Membership(
+              contentGroup.getId(),
+              contentGroup.isContentPublished(contentId),
+              contentGroup.isCorrectOptionsPublished()));
+        }
+      }
+      index.replaceAll((k, v) -> List.copyOf(v));
+      this.memberships = Collections.unmodifiableMap(index);
+    }
+
+    public List<Membership> getMemberships(final String contentId) {
+      return memberships.getOrDefault(contentId, Collections.emptyList());
+    }
+
+    /**
+     * Returns the IDs of all contents which are part of at least one group.
+     */
+    public Set<String> getContentIds() {
+      return memberships.keySet();
+    }
+
+    public boolean isContentPublished(final String contentId) {
+      return getMemberships(contentId).stream().anyMatch(Membership::contentPublished);
+    }
+
+    public boolean areCorrectOptionsPublished(final String contentId) {
+      return getMemberships(contentId).stream()
+          .anyMatch(m -> m.contentPublished() && m.correctOptionsPublished());
+    }
+  }
+}
@@ -1,7 +1,9 @@
 package net.particify.arsnova.core.service;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Set;
 
 import net.particify.arsnova.core.model.ContentGroup;
 import net.particify.arsnova.core.model.ContentGroupTemplate;
@@ -15,13 +17,19 @@ public interface ContentGroupService extends EntityService<ContentGroup> {
 
   List<ContentGroup> getByRoomIdAndContainingContentId(String roomId, String contentId);
 
+  Set<String> getContentIdsWithGroup(String roomId);
+
+  boolean isContentPublished(String roomId, String contentId);
+
+  boolean areCorrectOptionsPublished(String roomId, String contentId);
+
   void addContentToGroup(String roomId, String groupName, String contentId);
 
   void removeContentFromGroup(String groupId, String contentId);
 
   ContentGroup createOrUpdateContentGroup(ContentGroup contentGroup);
 
-  ContentCsvImportSummary importFromCsv(byte[] csv, ContentGroup contentGroup);
+  ContentCsvImportSummary importFromCsv(InputStream csv, ContentGroup contentGroup);
 
   ContentGroup createFromTemplate(String roomId, ContentGroupTemplate template, List<ContentTemplate> contentTemplates);
 
@@ -19,8 +19,12 @@
 package net.particify.arsnova.core.service;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -32,6 +36,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.Validator;
@@ -39,6 +45,7 @@ import org.springframework.validation.Validator;
 import net.particify.arsnova.core.event.AfterDeletionEvent;
 import net.particify.arsnova.core.event.BeforeDeletionEvent;
 import net.particify.arsnova.core.event.BeforeUpdateEvent;
+import net.particify.arsnova.core.event.CascadeDeletionEvent;
 import net.particify.arsnova.core.model.Content;
 import net.particify.arsnova.core.model.ContentGroup;
 import net.particify.arsnova.core.model.ContentGroupTemplate;
@@ -48,6 +55,7 @@ import net.particify.arsnova.core.model.Room;
 import net.particify.arsnova.core.model.export.ContentCsvImportSummary;
 import net.particify.arsnova.core.model.export.ContentExport;
 import net.particify.arsnova.core.model.export.CsvImportLineResult;
+import net.particify.arsnova.core.model.export.ImportValidationException;
 import net.particify.arsnova.core.persistence.ContentGroupRepository;
 import net.particify.arsnova.core.persistence.DeletionRepository;
 import net.particify.arsnova.core.web.exceptions.BadRequestException;
@@ -61,11 +69,13 @@ public class ContentGroupServiceImpl extends DefaultEntityServiceImpl<ContentGro
   private ContentGroupRepository contentGroupRepository;
   private ContentService contentService;
   private CsvService csvService;
+  private ContentGroupIndex contentGroupIndex;
 
   public ContentGroupServiceImpl(
       final ContentGroupRepository repository,
       final DeletionRepository deletionRepository,
       final CsvService csvService,
+      final ContentGroupIndex contentGroupIndex,
       @Qualifier("defaultJsonMessageConverter")
       final MappingJackson2HttpMessageConverter jackson2HttpMessageConverter,
       final Validator validator) {
@@ -77,6 +87,7 @@ public class ContentGroupServiceImpl extends DefaultEntityServiceImpl<ContentGro
         validator);
     this.contentGroupRepository = repository;
     this.csvService = csvService;
+    this.contentGroupIndex = contentGroupIndex;
   }
 
   @Autowired
@@ -103,7 +114,29 @@ public class ContentGroupServiceImpl extends DefaultEntityServiceImpl<ContentGro
 
   @Override
   public List<ContentGroup> getByRoomIdAndContainingContentId(final String roomId, final String contentId) {
-    return getByRoomId(roomId).stream().filter(cg -> cg.containsContent(contentId)).collect(Collectors.toList());
+    final List<String> ids = getIndex(roomId).getMemberships(contentId).stream()
+        .map(ContentGroupIndex.Membership::contentGroupId)
+        .toList();
+    return ids.isEmpty() ? new ArrayList<>() : get(ids);
+  }
+
+  @Override
+  public Set<String> getContentIdsWithGroup(final String roomId) {
+    return getIndex(roomId).getContentIds();
+  }
+
+  @Override
+  public boolean isContentPublished(final String roomId, final String contentId) {
+    return getIndex(roomId).isContentPublished(contentId);
+  }
+
+  @Override
+  public boolean areCorrectOptionsPublished(final String roomId, final String contentId) {
+    return getIndex(roomId).areCorrectOptionsPublished(contentId);
+  }
+
+  private ContentGroupIndex.RoomIndex getIndex(final String roomId) {
+    return contentGroupIndex.get(roomId, () -> contentGroupRepository.findByRoomId(roomId));
   }
 
   @Override
@@ -164,32 +197,65 @@ public class ContentGroupServiceImpl extends DefaultEntityServiceImpl<ContentGro
   }
 
   @Override
-  public ContentCsvImportSummary importFromCsv(final byte[] csv, final ContentGroup contentGroup) {
+  public ContentCsvImportSummary importFromCsv(final InputStream csv, final ContentGroup contentGroup) {
+    final List<CsvImportLineResult<ContentExport>> lines;
     try {
-      final List<CsvImportLineResult<Content>> results = csvService.toObject(csv, ContentExport.class).stream()
-          .map(r -> new CsvImportLineResult<>(r.line(), r.data() != null ? r.data().toContent() : null))
-          .map(r -> r.data() != null && determineCompatibility(contentGroup.getGroupType(), r.data())
-              ? r
-              : new CsvImportLineResult<Content>(r.line(), null))
-          .toList();
-      final List<Content> contents = results.stream()
-          .filter(r -> r.data() != null)
-          .map(r -> r.data())
-          .toList();
-      for (final Content content : contents) {
-        content.setRoomId(contentGroup.getRoomId());
-        contentService.create(content);
-      }
-      contentGroup.getContentIds().addAll(
-          contents.stream().map(c -> c.getId()).collect(Collectors.toList()));
-      createOrUpdateContentGroup(contentGroup);
-      return new ContentCsvImportSummary(
-          results.size(),
-          contents.size(),
-          results.stream().filter(c -> c.data() == null).map(r -> r.line()).toList());
+      lines = csvService.toObject(csv, ContentExport.class);
     } catch (final IOException e) {
       throw new BadRequestException("Could not import contents from CSV.", e);
     }
+
+    final List<CsvImportLineResult<Content>> results = lines.stream()
+        .map(line -> toImportedContent(line, contentGroup))
+        .toList();
+    final List<Content> convertedContents = new ArrayList<>();
+    final Map<Content, Integer> lineNumbers = new IdentityHashMap<>();
+    for (final CsvImportLineResult<Content> result : results) {
+      if (result.data() != null) {
+        convertedContents.add(result.data());
+        lineNumbers.put(result.data(), result.line());
+      }
+    }
+    final List<ContentCsvImportSummary.LineError> errors = results.stream()
+        .filter(r -> r.data() == null)
+        .map(r -> new ContentCsvImportSummary.LineError(r.line(), r.error()))
+        .collect(Collectors.toList());
+    /* Invalid contents are rejected before anything is written. */
+    final List<Content> contents = convertedContents.isEmpty()
+        ? List.of()
+        : contentService.create(convertedContents, e -> errors.add(
+            new ContentCsvImportSummary.LineError(lineNumbers.get((Content) e.getEntity()), e.getErrors()
+                .getFieldErrors().stream()
+                .map(fieldError -> fieldError.getField() + ": " + fieldError.getDefaultMessage())
+                .collect(Collectors.joining("; ")))));
+    contentGroup.getContentIds().addAll(
+        contents.stream().map(c -> c.getId()).collect(Collectors.toList()));
+    createOrUpdateContentGroup(contentGroup);
+
+    errors.sort(Comparator.comparingInt(ContentCsvImportSummary.LineError::line));
+    return new ContentCsvImportSummary(
+        results.size(),
+        contents.size(),
+        errors.stream().map(e -> e.line()).toList(),
+        errors);
+  }
+
+  private CsvImportLineResult<Content> toImportedContent(
+      final CsvImportLineResult<ContentExport> line, final ContentGroup contentGroup) {
+    if (line.data() == null) {
+      return new CsvImportLineResult<>(line.line(), null, line.error());
+    }
+    final Content content;
+    try {
+      content = line.data().toContent();
+    } catch (final ImportValidationException e) {
+      return new CsvImportLineResult<>(line.line(), null, "Invalid options for content format.");
+    }
+    if (!determineCompatibility(contentGroup.getGroupType(), content)) {
+      return new CsvImportLineResult<>(line.line(), null, "Content format is not supported by content group type.");
+    }
+    content.setRoomId(contentGroup.getRoomId());
+    return new CsvImportLineResult<>(line.line(), content);
   }
 
   private boolean determineCompatibility(final ContentGroup.GroupType type, final Content content) {
@@ -260,12 +326,13 @@ public class ContentGroupServiceImpl extends DefaultEntityServiceImpl<ContentGro
   @EventListener
   public void handleContentGroupDeletion(final AfterDeletionEvent<ContentGroup> event) {
     // Delete contents which were part of the deleted group and are not in
-    // any other group
-    final Set<String> idsWithGroup = getByRoomId(event.getEntity().getRoomId()).stream()
-            .flatMap(cg -> cg.getContentIds().stream()).collect(Collectors.toSet());
+    // any other group. The index is invalidated first since its own listener
+    // might not have been called yet.
+    contentGroupIndex.invalidate(event.getEntity().getRoomId());
+    final Set<String> idsWithGroup = getContentIdsWithGroup(event.getEntity().getRoomId());
     final List<String> idsForDeletion = event.getEntity().getContentIds().stream()
             .filter(id -> !idsWithGroup.contains(id)).toList();
-    contentService.delete(contentService.get(idsForDeletion), Initiator.CASCADE);
+    contentService.deleteCascaded(event.getEntity().getRoomId(), idsForDeletion);
   }
 
   @EventListener
@@ -291,19 +358,23 @@ public class ContentGroupServiceImpl extends DefaultEntityServiceImpl<ContentGro
   @EventListener
   public void handleContentDeletion(final BeforeDeletionEvent<? extends Content> event) {
     final Content content = event.getEntity();
-    final List<ContentGroup> contentGroups = getByRoomId(content.getRoomId());
+    final List<ContentGroup> contentGroups = getByRoomIdAndContainingContentId(content.getRoomId(), content.getId());
     for (final ContentGroup contentGroup : contentGroups) {
-      final List<String> ids = contentGroup.getContentIds();
-      if (ids.contains(content.getId())) {
-        ids.remove(content.getId());
-        update(contentGroup);
-      }
+      contentGroup.getContentIds().remove(content.getId());
+      update(contentGroup);
     }
   }
 
+  /**
+   * Content groups are deleted before the remaining contents of the room, so
+   * they do not need to be updated for each deleted content. Only stubs of
+   * the content groups are loaded, so their contents are not deleted
+   * separately for each group.
+   */
   @EventListener
-  public void handleRoomDeletion(final BeforeDeletionEvent<Room> event) {
-    final Iterable<ContentGroup> contentGroups = contentGroupRepository.findByRoomId(event.getEntity().getId());
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  public void handleRoomDeletion(final CascadeDeletionEvent<Room> event) {
+    final Iterable<ContentGroup> contentGroups = contentGroupRepository.findStubsByRoomId(event.getEntity().getId());
     delete(contentGroups, Initiator.CASCADE);
   }
 }
@@ -18,7 +18,6 @@
 
 package net.particify.arsnova.core.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import java.util.List;
 import java.util.Set;
 
@@ -26,6 +25,7 @@ import net.particify.arsnova.core.model.Content;
 import net.particify.arsnova.core.model.ContentGroupTemplate;
 import net.particify.arsnova.core.model.ContentTemplate;
 import net.particify.arsnova.core.model.WordContent;
+import net.particify.arsnova.core.model.export.ContentExport;
 
 /**
  * The functionality the question service should provide.
@@ -39,9 +39,17 @@ public interface ContentService extends EntityService<Content> {
 
   Set<String> getCorrectTerms(String contentId);
 
-  byte[] exportToCsv(List<String> contentIds, String charset) throws JsonProcessingException;
+  /**
+   * Returns the contents in export format. Contents are loaded in pages while
+   * iterating.
+   */
+  Iterable<ContentExport> exportContents(List<String> contentIds);
 
-  byte[] exportToTsv(List<String> contentIds, String charset) throws JsonProcessingException;
+  /**
+   * Deletes contents of a room as a cascade of another deletion. Only stubs
+   * of the contents are loaded.
+   */
+  void deleteCascaded(String roomId, List<String> contentIds);
 
   void addToBannedKeywords(WordContent wordContent, String keyword);
 
@@ -18,9 +18,7 @@
 
 package net.particify.arsnova.core.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
+import com.google.common.collect.Lists;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
@@ -28,11 +26,12 @@ import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.event.EventListener;
+import org.springframework.data.util.Streamable;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.Validator;
 
-import net.particify.arsnova.core.event.BeforeDeletionEvent;
+import net.particify.arsnova.core.event.CascadeDeletionEvent;
 import net.particify.arsnova.core.model.ChoiceQuestionContent;
 import net.particify.arsnova.core.model.Content;
 import net.particify.arsnova.core.model.ContentGroupTemplate;
@@ -54,21 +53,19 @@ import net.particify.arsnova.core.web.exceptions.NotFoundException;
 @Service
 @Primary
 public class ContentServiceImpl extends DefaultEntityServiceImpl<Content> implements ContentService {
-  private ContentRepository contentRepository;
+  private static final int EXPORT_PAGE_SIZE = 100;
 
-  private CsvService csvService;
+  private ContentRepository contentRepository;
 
   public ContentServiceImpl(
       final ContentRepository repository,
       final AnswerRepository answerRepository,
       final DeletionRepository deletionRepository,
-      final CsvService csvService,
       @Qualifier("defaultJsonMessageConverter")
       final MappingJackson2HttpMessageConverter jackson2HttpMessageConverter,
       final Validator validator) {
     super(Content.class, repository, deletionRepository, jackson2HttpMessageConverter.getObjectMapper(), validator);
     this.contentRepository = repository;
-    this.csvService = csvService;
   }
 
   @Override
@@ -145,25 +142,26 @@ public class ContentServiceImpl extends DefaultEntityServiceImpl<Content> implem
   }
 
   @Override
-  public byte[] exportToCsv(final List<String> contentIds, final String charset) throws JsonProcessingException {
-    final List<Content> contents = get(contentIds);
-    return csvService.toCsv(
-        contents.stream().map(c -> new ContentExport(c)).collect(Collectors.toList()),
-        ContentExport.class,
-        charset == null ? StandardCharsets.UTF_8 : Charset.forName(charset));
+  public Iterable<ContentExport> exportContents(final List<String> contentIds) {
+    final List<List<String>> pages = Lists.partition(contentIds, EXPORT_PAGE_SIZE);
+    return () -> pages.stream()
+        .flatMap(ids -> get(ids).stream())
+        .map(ContentExport::new)
+        .iterator();
   }
 
   @Override
-  public byte[] exportToTsv(final List<String> contentIds, final String charset) throws JsonProcessingException {
-    final List<Content> contents = get(contentIds);
-    return csvService.toTsv(
-        contents.stream().map(c -> new ContentExport(c)).collect(Collectors.toList()),
-        ContentExport.class,
-        charset == null ? StandardCharsets.UTF_8 : Charset.forName(charset));
+  public void deleteCascaded(final String roomId, final List<String> contentIds) {
+    if (contentIds.isEmpty()) {
+      return;
+    }
+    final List<Content> contents = Streamable.of(contentRepository.findStubsByIds(contentIds)).toList();
+    contents.forEach(c -> c.setRoomId(roomId));
+    delete(contents, Initiator.CASCADE);
   }
 
   @EventListener
-  public void handleRoomDeletion(final BeforeDeletionEvent<Room> event) {
+  public void handleRoomDeletion(final CascadeDeletionEvent<Room> event) {
     final Iterable<Content> contents = contentRepository.findStubsByRoomId(event.getEntity().getId());
     delete(contents, Initiator.CASCADE);
   }
@@ -18,15 +18,23 @@
 
 package net.particify.arsnova.core.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.fasterxml.jackson.dataformat.csv.CsvMapper;
 import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.stereotype.Service;
@@ -87,6 +95,28 @@ public class CsvService {
     return toTsv(objects, clazz, StandardCharsets.UTF_8);
   }
 
+  /**
+   * Writes objects as comma-separated values to the output stream. Objects
+   * are serialized while iterating, so they do not need to be kept in memory
+   * at once. The output stream is not closed.
+   */
+  public <T> void writeCsv(
+      final Iterable<T> objects, final Class<T> clazz, final Charset charset, final OutputStream out)
+      throws IOException {
+    write(objects, csvSchemaFor(clazz), charset, out);
+  }
+
+  /**
+   * Writes objects as tab-separated values to the output stream. Objects are
+   * serialized while iterating, so they do not need to be kept in memory at
+   * once. The output stream is not closed.
+   */
+  public <T> void writeTsv(
+      final Iterable<T> objects, final Class<T> clazz, final Charset charset, final OutputStream out)
+      throws IOException {
+    write(objects, tsvSchemaFor(clazz), charset, out);
+  }
+
   /**
    * Deserializes delimiter-separated values as a {@link List} of objects of
    * the specified type. The delimiter is detected automatically. Supported
@@ -97,33 +127,65 @@ public class CsvService {
    * @param <T> target type for deserialization
    */
   public <T> List<CsvImportLineResult<T>> toObject(final byte[] csv, final Class<T> clazz) throws IOException {
-    final char separator = detectSeparator(csv);
+    return toObject(new ByteArrayInputStream(csv), clazz);
+  }
+
+  /**
+   * Deserializes delimiter-separated values from a stream as a {@link List}
+   * of objects of the specified type. The input is parsed while it is read,
+   * so it does not need to be kept in memory. Lines which cannot be parsed
+   * are included without data. The stream is not closed.
+   *
+   * @param csv delimiter-separated values
+   * @param clazz reified target type for deserialization
+   * @param <T> target type for deserialization
+   */
+  public <T> List<CsvImportLineResult<T>> toObject(final InputStream csv, final Class<T> clazz) throws IOException {
+    final BufferedInputStream in = new BufferedInputStream(csv);
+    final char separator = detectSeparator(in);
     final CsvSchema schema = separator == '\t' ? tsvSchemaFor(clazz) : csvSchemaFor(clazz);
-    final MappingIterator<T> iterator = mapper.readerFor(clazz).with(schema).readValues(csv);
+    final MappingIterator<T> iterator = mapper.readerFor(clazz)
+        .with(schema)
+        .without(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+        .readValues(in);
     final List<CsvImportLineResult<T>> items = new ArrayList<>();
     int i = 0;
     while (iterator.hasNext()) {
       i++;
       try {
-        items.add(new CsvImportLineResult(i, iterator.nextValue()));
-      } catch (final IOException e) {
-        items.add(new CsvImportLineResult(i, null));
+        items.add(new CsvImportLineResult<>(i, iterator.nextValue()));
+      } catch (final JsonProcessingException e) {
+        items.add(new CsvImportLineResult<>(i, null, e.getOriginalMessage()));
       }
     }
     return items;
   }
 
+  private <T> void write(
+      final Iterable<T> objects, final CsvSchema schema, final Charset charset, final OutputStream out)
+      throws IOException {
+    final Writer writer = new OutputStreamWriter(out, charset);
+    writer.write(byteOrderMark(charset));
+    try (SequenceWriter sequenceWriter = mapper.writer(schema)
+        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+        .writeValues(writer)) {
+      for (final T object : objects) {
+        sequenceWriter.write(object);
+      }
+    }
+    writer.flush();
+  }
+
   private String byteOrderMark(final Charset charset) {
     return charset == StandardCharsets.UTF_16BE || charset == StandardCharsets.UTF_16LE
         ? unicodeBom : "";
   }
 
-  private char detectSeparator(final byte[] bytes) {
-    final String firstLine =
-        new String(
-            Arrays.copyOfRange(bytes, 0, Math.min(MAX_SEARCH_BYTES, bytes.length)),
-            StandardCharsets.UTF_8)
-            .lines().findFirst().orElse("");
+  private char detectSeparator(final BufferedInputStream in) throws IOException {
+    in.mark(MAX_SEARCH_BYTES);
+    final byte[] bytes = in.readNBytes(MAX_SEARCH_BYTES);
+    in.reset();
+    final String firstLine = new String(bytes, StandardCharsets.UTF_8).lines().findFirst().orElse("");
     return firstLine.contains("\t") ? '\t' : (firstLine.contains(";") ? ';' : ',');
   }
 
@@ -24,6 +24,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.common.collect.Lists;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -35,6 +36,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -63,7 +65,6 @@ import net.particify.arsnova.core.event.BeforeDeletionEvent;
 import net.particify.arsnova.core.event.BeforeFullUpdateEvent;
 import net.particify.arsnova.core.event.BeforePatchEvent;
 import net.particify.arsnova.core.event.BulkChangeEvent;
-import net.particify.arsnova.core.model.Deletion;
 import net.particify.arsnova.core.model.Deletion.Initiator;
 import net.particify.arsnova.core.model.Entity;
 import net.particify.arsnova.core.model.EntityValidationException;
@@ -80,6 +81,7 @@ import net.particify.arsnova.core.persistence.DeletionRepository;
  */
 public class DefaultEntityServiceImpl<T extends Entity> implements EntityService<T>, ApplicationEventPublisherAware {
   private static final Logger logger = LoggerFactory.getLogger(DefaultEntityServiceImpl.class);
+  private static final int BULK_WRITE_SIZE = 200;
 
   protected Class<T> type;
   protected CrudRepository<T, String> repository;
@@ -182,26 +184,43 @@ public class DefaultEntityServiceImpl<T extends Entity> implements EntityService
 
   @Override
   public List<T> create(final List<T> entities) {
+    return create(entities, e -> {
+      throw e;
+    });
+  }
+
+  @Override
+  public List<T> create(final List<T> entities, final Consumer<EntityValidationException> rejectionHandler) {
     if (entities.stream().anyMatch(e -> e.getId() != null || e.getRevision() != null)) {
       throw new IllegalArgumentException("At least one of the entities is not new.");
     }
 
+    final List<T> validEntities = new ArrayList<>(entities.size());
     for (final T entity : entities) {
       entity.setCreationTimestamp(new Date());
       prepareCreate(entity);
       eventPublisher.publishEvent(new BeforeCreationEvent<>(this, entity));
-      validate(entity);
+      try {
+        validate(entity);
+      } catch (final EntityValidationException e) {
+        rejectionHandler.accept(e);
+        continue;
+      }
+      validEntities.add(entity);
     }
 
-    repository.saveAll(entities);
+    for (final List<T> chunk : Lists.partition(validEntities, BULK_WRITE_SIZE)) {
+      repository.saveAll(chunk);
+    }
 
-    for (final T entity : entities) {
+    for (final T entity : validEntities) {
       eventPublisher.publishEvent(new AfterCreationEvent<>(this, entity));
       finalizeCreate(entity);
       modifyRetrieved(entity);
     }
+    eventPublisher.publishEvent(new BulkChangeEvent<>(this, this.type, validEntities));
 
-    return entities;
+    return validEntities;
   }
 
   /**
@@ -371,31 +390,52 @@ public class DefaultEntityServiceImpl<T extends Entity> implements EntityService
 
   @Override
   public void delete(final T entity) {
-    prepareDelete(entity);
-    eventPublisher.publishEvent(new BeforeDeletionEvent<>(this, entity));
-    repository.delete(entity);
-    eventPublisher.publishEvent(new AfterDeletionEvent<>(this, entity));
-    deletionRepository.save(new Deletion(type, Initiator.USER, 1));
+    final DeletionLog deletionLog = DeletionLog.open();
+    try {
+      prepareDelete(entity);
+      eventPublisher.publishEvent(new BeforeDeletionEvent<>(this, entity));
+      repository.delete(entity);
+      eventPublisher.publishEvent(new AfterDeletionEvent<>(this, entity));
+      deletionLog.add(type, Initiator.USER, 1);
+    } finally {
+      deletionLog.close(deletionRepository);
+    }
   }
 
+  /**
+   * Deletes the entities in chunks. Events for an entity are published along
+   * with the chunk it is part of. Deletions which are part of a deletion job
+   * are rate limited by the job, so deleting large amounts of data does not
+   * affect other requests too much.
+   */
   @Override
   public void delete(final Iterable<T> entities, final Initiator initiator) {
-    if (Streamable.of(entities).isEmpty()) {
+    final List<T> entityList = Streamable.of(entities).toList();
+    if (entityList.isEmpty()) {
       return;
     }
 
-    int count = 0;
-    for (final T entity : entities) {
-      prepareDelete(entity);
-      eventPublisher.publishEvent(new BeforeDeletionEvent<>(this, entity));
-      count++;
-    }
-    repository.deleteAll(entities);
-    for (final T entity : entities) {
-      eventPublisher.publishEvent(new AfterDeletionEvent<>(this, entity));
+    final DeletionLog deletionLog = DeletionLog.open();
+    try {
+      int count = 0;
+      for (final List<T> chunk : Lists.partition(entityList, BULK_WRITE_SIZE)) {
+        deletionLog.acquireChunkPermit();
+        for (final T entity : chunk) {
+          prepareDelete(entity);
+          eventPublisher.publishEvent(new BeforeDeletionEvent<>(this, entity));
+        }
+        repository.deleteAll(chunk);
+        for (final T entity : chunk) {
+          eventPublisher.publishEvent(new AfterDeletionEvent<>(this, entity));
+        }
+        eventPublisher.publishEvent(new BulkChangeEvent<>(this, this.type, chunk));
+        count += chunk.size();
+        deletionLog.add(type, initiator, chunk.size());
+        logger.debug("Deleted {} of {} entities of type {}.", count, entityList.size(), type.getSimpleName());
+      }
+    } finally {
+      deletionLog.close(deletionRepository);
     }
-    eventPublisher.publishEvent(new BulkChangeEvent<>(this, this.type, entities));
-    deletionRepository.save(new Deletion(type, initiator, count));
   }
 
   /**
@@ -0,0 +1,108 @@
+package net.particify.arsnova.core.service;
+
+import com.google.common.util.concurrent.RateLimiter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+
+import net.particify.arsnova.core.model.Deletion;
+import net.particify.arsnova.core.model.Deletion.Initiator;
+import net.particify.arsnova.core.model.Entity;
+import net.particify.arsnova.core.persistence.DeletionRepository;
+
+/**
+ * Collects the counts of deleted entities while a deletion and the deletions
+ * cascading from it are in progress on the current thread. The counts are
+ * written to the deletion log when the outermost deletion completes, so only
+ * one record per entity type and initiator is created for a cascade.
+ *
+ * <p>
+ * A deletion job passes its own rate limiter when it starts the log. Chunks
+ * of all deletions cascading from the job are limited by it and the counts
+ * are reported to the job, so it can persist its progress.
+ * </p>
+ */
+class DeletionLog {
+  private static final ThreadLocal<DeletionLog> current = new ThreadLocal<>();
+
+  private final Map<Class<? extends Entity>, Map<Initiator, Integer>> counts = new LinkedHashMap<>();
+  private final RateLimiter rateLimiter;
+  private final ObjIntConsumer<Class<? extends Entity>> progressListener;
+  private int depth;
+
+  private DeletionLog(
+      final RateLimiter rateLimiter,
+      final ObjIntConsumer<Class<? extends Entity>> progressListener) {
+    this.rateLimiter = rateLimiter;
+    this.progressListener = progressListener;
+  }
+
+  /**
+   * Returns the log of the deletion in progress or starts a new one. Each call
+   * has to be followed by a call of {@link #close}.
+   */
+  static DeletionLog open() {
+    DeletionLog deletionLog = current.get();
+    if (deletionLog == null) {
+      deletionLog = new DeletionLog(null, (type, count) -> { });
+      current.set(deletionLog);
+    }
+    deletionLog.depth++;
+
+    return deletionLog;
+  }
+
+  /**
+   * Starts the log of a deletion job. It has to be followed by a call of
+   * {@link #close}.
+   *
+   * @param rateLimiter Limits the chunks deleted by the job
+   * @param progressListener Receives the type and number of deleted entities
+   *     after each chunk
+   */
+  static DeletionLog openForJob(
+      final RateLimiter rateLimiter,
+      final ObjIntConsumer<Class<? extends Entity>> progressListener) {
+    if (current.get() != null) {
+      throw new IllegalStateException("Another deletion is in progress on this thread.");
+    }
+    final DeletionLog deletionLog = new DeletionLog(rateLimiter, progressListener);
+    current.set(deletionLog);
+    deletionLog.depth++;
+
+    return deletionLog;
+  }
+
+  /**
+   * Blocks until the next chunk may be deleted if the deletion is part of a
+   * job.
+   */
+  void acquireChunkPermit() {
+    if (rateLimiter != null) {
+      rateLimiter.acquire();
+    }
+  }
+
+  void add(final Class<? extends Entity> type, final Initiator initiator, final int count) {
+    counts.computeIfAbsent(type, k -> new LinkedHashMap<>()).merge(initiator, count, Integer::sum);
+    progressListener.accept(type, count);
+  }
+
+  /**
+   * Writes the collected counts if the outermost deletion has completed.
+   */
+  void close(final DeletionRepository deletionRepository) {
+    if (--depth > 0) {
+      return;
+    }
+    current.remove();
+    final List<Deletion> deletions = new ArrayList<>();
+    counts.forEach((type, countsByInitiator) -> countsByInitiator.forEach(
+        (initiator, count) -> deletions.add(new Deletion(type, initiator, count))));
+    if (!deletions.isEmpty()) {
+      deletionRepository.saveAll(deletions);
+    }
+  }
+}
@@ -1,12 +1,18 @@
 package net.particify.arsnova.core.service;
 
+import com.google.common.collect.Lists;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.context.annotation.Primary;
@@ -15,6 +21,7 @@ import org.springframework.stereotype.Service;
 
 import net.particify.arsnova.core.config.properties.SystemProperties;
 import net.particify.arsnova.core.event.RoomDuplicationEvent;
+import net.particify.arsnova.core.event.RoomDuplicationProgressEvent;
 import net.particify.arsnova.core.model.ChoiceQuestionContent;
 import net.particify.arsnova.core.model.Content;
 import net.particify.arsnova.core.model.ContentGroup;
@@ -31,6 +38,8 @@ import net.particify.arsnova.core.web.exceptions.NotFoundException;
 @Service
 @Primary
 public class DuplicationServiceImpl implements ApplicationEventPublisherAware, DuplicationService {
+  private static final Logger logger = LoggerFactory.getLogger(DuplicationServiceImpl.class);
+  private static final int BATCH_SIZE = 500;
   private static Duration TEMPORARY_DURATION = Duration.parse("P2D");
   private RoomService roomService;
   private RoomSettingsService roomSettingsService;
@@ -111,20 +120,46 @@ public class DuplicationServiceImpl implements ApplicationEventPublisherAware, D
     return roomSettingsService.create(settingsCopy);
   }
 
-  private ContentGroup duplicateContentGroup(final ContentGroup contentGroup, final Room room) {
-    final List<Content> contents = contentService.get(contentGroup.getContentIds());
-    final List<Content> contentCopies = contents.stream().map(content -> {
-      final Content contentCopy = duplicateContentInstance(content);
-      contentCopy.setRoomId(room.getRoomId());
-      return contentCopy;
-    }).collect(Collectors.toList());
-    contentService.create(contentCopies);
+  /**
+   * Creates copies of the contents of all content groups in batches. Contents
+   * which are part of multiple groups are only copied once. Progress is
+   * published after each batch.
+   *
+   * @return Copies of the contents mapped by the IDs of the originals
+   */
+  private Map<String, Content> duplicateContents(final List<ContentGroup> contentGroups, final Room room) {
+    final List<String> contentIds = contentGroups.stream()
+        .flatMap(cg -> cg.getContentIds().stream())
+        .distinct()
+        .toList();
+    final Map<String, Content> contentCopies = new HashMap<>();
+    for (final List<String> batch : Lists.partition(contentIds, BATCH_SIZE)) {
+      final List<Content> batchCopies = contentService.get(batch).stream().map(content -> {
+        final Content contentCopy = duplicateContentInstance(content);
+        contentCopy.setRoomId(room.getRoomId());
+        contentCopies.put(content.getId(), contentCopy);
+        return contentCopy;
+      }).collect(Collectors.toList());
+      if (!batchCopies.isEmpty()) {
+        contentService.create(batchCopies);
+      }
+      logger.debug("Duplicated {} of {} contents for room {}.", contentCopies.size(), contentIds.size(), room.getId());
+      applicationEventPublisher.publishEvent(
+          new RoomDuplicationProgressEvent(this, room, contentCopies.size(), contentIds.size()));
+    }
+
+    return contentCopies;
+  }
+
+  private ContentGroup duplicateContentGroupInstance(
+      final ContentGroup contentGroup, final Map<String, Content> contentCopies, final Room room) {
     final ContentGroup contentGroupCopy = new ContentGroup(contentGroup);
     contentGroupCopy.setRoomId(room.getRoomId());
-    contentGroupCopy.setContentIds(contentCopies.stream()
+    contentGroupCopy.setContentIds(contentGroup.getContentIds().stream()
+        .map(contentCopies::get)
+        .filter(Objects::nonNull)
         .map(c -> c.getId())
         .collect(Collectors.toList()));
-    contentGroupService.create(contentGroupCopy);
 
     return contentGroupCopy;
   }
@@ -155,7 +190,15 @@ public class DuplicationServiceImpl implements ApplicationEventPublisherAware, D
 
   @EventListener
   public void handleRoomDuplication(final RoomDuplicationEvent event) {
-    contentGroupService.getByRoomId(event.getOriginalRoom().getId())
-        .forEach(cg -> duplicateContentGroup(cg, event.getDuplicateRoom()));
+    final Room room = event.getDuplicateRoom();
+    final List<ContentGroup> contentGroups = contentGroupService.getByRoomId(event.getOriginalRoom().getId());
+    final Map<String, Content> contentCopies = duplicateContents(contentGroups, room);
+    final List<ContentGroup> contentGroupCopies = contentGroups.stream()
+        .map(cg -> duplicateContentGroupInstance(cg, contentCopies, room))
+        .collect(Collectors.toList());
+    if (!contentGroupCopies.isEmpty()) {
+      contentGroupService.create(contentGroupCopies);
+    }
+    logger.debug("Duplicated {} content groups for room {}.", contentGroupCopies.size(), room.getId());
   }
 }
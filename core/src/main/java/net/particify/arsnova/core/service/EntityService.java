@@ -21,10 +21,12 @@ package net.particify.arsnova.core.service;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import net.particify.arsnova.core.model.Deletion.Initiator;
 import net.particify.arsnova.core.model.Entity;
+import net.particify.arsnova.core.model.EntityValidationException;
 
 /**
  * Provides CRUD operations for entities independently from the underlying persistence implementation.
@@ -43,6 +45,14 @@ public interface EntityService<T extends Entity> {
 
   List<T> create(List<T> entities);
 
+  /**
+   * Creates the entities in bulk. Entities which are invalid are not created
+   * but passed to the rejection handler.
+   *
+   * @return The created entities.
+   */
+  List<T> create(List<T> entities, Consumer<EntityValidationException> rejectionHandler);
+
   T update(T entity);
 
   T update(T entity, Class<?> view);
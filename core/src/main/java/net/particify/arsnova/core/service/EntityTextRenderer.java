@@ -0,0 +1,363 @@
+package net.particify.arsnova.core.service;
+
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
+
+import net.particify.arsnova.core.config.TaskExecutorConfig;
+import net.particify.arsnova.core.config.properties.SystemProperties;
+import net.particify.arsnova.core.event.BeforeCreationEvent;
+import net.particify.arsnova.core.event.BeforeUpdateEvent;
+import net.particify.arsnova.core.model.Entity;
+import net.particify.arsnova.core.model.EntityRenderingMapping;
+import net.particify.arsnova.core.model.ListEntityRenderingMapping;
+import net.particify.arsnova.core.model.RenderedTexts;
+import net.particify.arsnova.core.model.StringEntityRenderingMapping;
+import net.particify.arsnova.core.model.TextRenderingOptions;
+import net.particify.arsnova.core.persistence.AnnouncementRepository;
+import net.particify.arsnova.core.persistence.ContentRepository;
+import net.particify.arsnova.core.persistence.RenderedTextsRepository;
+import net.particify.arsnova.core.persistence.RoomRepository;
+
+/**
+ * Applies rendered texts to the renderable fields of entities.
+ *
+ * <p>
+ * If render-on-write is enabled, texts are rendered when an entity is created
+ * or updated and are persisted with the entity. Stored texts are used when the
+ * entity is read, so the formatting service is only called for texts which
+ * have not been stored, e.g. because rendering failed. After the renderer
+ * version has been changed, outdated texts are re-rendered in the background.
+ * </p>
+ */
+@Service
+public class EntityTextRenderer {
+  private static final Logger logger = LoggerFactory.getLogger(EntityTextRenderer.class);
+  private static final long RERENDER_INTERVAL_MS = 5 * 60 * 1000L;
+  private static final int RERENDER_BATCH_SIZE = 50;
+  private static final int RERENDER_MAX_BATCHES = 20;
+  private static final String FAILED_VERSION_SUFFIX = ":failed";
+  private static final String ENTITY_CACHE_NAME = "entity";
+
+  private final TextRenderingService textRenderingService;
+  private final boolean renderOnWrite;
+  private final String rendererVersion;
+  private final String failedRendererVersion;
+  private final Cache entityCache;
+  private final List<RenderedTextsRepository<?>> rerenderingSources = new ArrayList<>();
+  private LeaderElection leaderElection;
+
+  public EntityTextRenderer(
+      final TextRenderingService textRenderingService,
+      final SystemProperties systemProperties,
+      final CacheManager cacheManager) {
+    this.textRenderingService = textRenderingService;
+    this.renderOnWrite = systemProperties.getFormattingService().isRenderOnWrite();
+    this.rendererVersion = systemProperties.getFormattingService().getRendererVersion();
+    this.failedRendererVersion = rendererVersion + FAILED_VERSION_SUFFIX;
+    this.entityCache = cacheManager.getCache(ENTITY_CACHE_NAME);
+  }
+
+  @Autowired
+  public void setLeaderElection(final LeaderElection leaderElection) {
+    this.leaderElection = leaderElection;
+  }
+
+  @Autowired
+  public void setRerenderingSources(
+      final ContentRepository contentRepository,
+      final AnnouncementRepository announcementRepository,
+      final RoomRepository roomRepository) {
+    rerenderingSources.add(contentRepository);
+    rerenderingSources.add(announcementRepository);
+    rerenderingSources.add(roomRepository);
+  }
+
+  /**
+   * Applies rendered texts to the passed entities. Stored texts are used if
+   * available. All other texts are rendered with a single call to the
+   * rendering service. If a text cannot be rendered, the escaped unrendered
+   * text is used instead.
+   */
+  public void addRenderedTexts(final List<? extends Entity> entities) {
+    final RenderingBatch batch = new RenderingBatch(entities);
+    if (batch.resultConsumers.isEmpty()) {
+      return;
+    }
+
+    final List<String> renderedTexts = batch.render();
+    if (textRenderingService.isEnabled()) {
+      for (int i = 0; i < renderedTexts.size(); i++) {
+        final String text = batch.inputs.get(i).text();
+        if (renderedTexts.get(i) == null && !isBlank(text)) {
+          renderedTexts.set(i, HtmlUtils.htmlEscape(text));
+        }
+      }
+    }
+    for (final Consumer<List<String>> resultConsumer : batch.resultConsumers) {
+      resultConsumer.accept(renderedTexts);
+    }
+  }
+
+  /**
+   * Renders the texts of the passed entities and stores them with the
+   * entities. Texts which are already stored for the current renderer version
+   * are reused. If not all texts could be rendered, the previous renderer
+   * version is kept so the entity is processed again by the background job.
+   */
+  public void storeRenderedTexts(final List<? extends Entity> entities) {
+    final RenderingBatch batch = new RenderingBatch(entities);
+    if (batch.resultConsumers.isEmpty()) {
+      return;
+    }
+
+    final List<String> renderedTexts = batch.render();
+    for (int i = 0; i < batch.entities.size(); i++) {
+      final Entity entity = batch.entities.get(i);
+      final Map<String, String> texts = new HashMap<>();
+      boolean complete = true;
+      for (int j = batch.entityFromIndexes.get(i); j < batch.entityFromIndexes.get(i + 1); j++) {
+        final String renderedText = renderedTexts.get(j);
+        if (renderedText != null) {
+          texts.put(batch.keys.get(j), renderedText);
+        } else if (!isBlank(batch.inputs.get(j).text())) {
+          complete = false;
+        }
+      }
+      final String previousVersion = entity.getRenderedTexts() != null
+          ? entity.getRenderedTexts().getRendererVersion()
+          : null;
+      entity.setRenderedTexts(new RenderedTexts(complete ? rendererVersion : previousVersion, texts));
+    }
+  }
+
+  @EventListener
+  public void handleCreation(final BeforeCreationEvent<? extends Entity> event) {
+    if (renderOnWrite) {
+      storeRenderedTexts(List.of(event.getEntity()));
+    }
+  }
+
+  @EventListener
+  public void handleUpdate(final BeforeUpdateEvent<? extends Entity> event) {
+    if (renderOnWrite) {
+      storeRenderedTexts(List.of(event.getEntity()));
+    }
+  }
+
+  @Scheduled(
+      initialDelay = RERENDER_INTERVAL_MS,
+      fixedDelay = RERENDER_INTERVAL_MS,
+      scheduler = TaskExecutorConfig.MAINTENANCE_SCHEDULER)
+  public void rerenderOutdatedTexts() {
+    if (!renderOnWrite || !textRenderingService.isEnabled() || !leaderElection.isLeader()) {
+      return;
+    }
+    for (final RenderedTextsRepository<?> repository : rerenderingSources) {
+      rerenderOutdatedTexts(repository);
+    }
+  }
+
+  /**
+   * Re-renders the texts of entities with outdated texts in batches. If
+   * rendering of a batch is incomplete, the incomplete entities are rendered
+   * separately, so a single text which cannot be rendered does not fail the
+   * other entities. Entities which still cannot be rendered are marked as
+   * failed for the current renderer version and are skipped until they are
+   * updated or the renderer version changes. Processing stops without marking
+   * entities if the formatting service is unavailable.
+   */
+  private <T extends Entity> void rerenderOutdatedTexts(final RenderedTextsRepository<T> repository) {
+    final Set<String> skippedVersions = Set.of(rendererVersion, failedRendererVersion);
+    int count = 0;
+    int failedCount = 0;
+    for (int i = 0; i < RERENDER_MAX_BATCHES; i++) {
+      final List<T> entities = repository.findByRenderedTextsVersionNotIn(skippedVersions, RERENDER_BATCH_SIZE);
+      if (entities.isEmpty()) {
+        break;
+      }
+      storeRenderedTexts(entities);
+      for (final T entity : entities) {
+        if (!hasCurrentRenderedTexts(entity) && isRenderingAvailable()) {
+          storeRenderedTexts(List.of(entity));
+        }
+      }
+      if (!isRenderingAvailable()) {
+        final List<T> completeEntities = entities.stream().filter(this::hasCurrentRenderedTexts).toList();
+        saveRenderedTexts(repository, completeEntities);
+        count += completeEntities.size();
+        logger.warn("Stopped re-rendering texts because the formatting service is unavailable.");
+        break;
+      }
+      for (final T entity : entities) {
+        if (!hasCurrentRenderedTexts(entity)) {
+          final RenderedTexts renderedTexts = entity.getRenderedTexts();
+          entity.setRenderedTexts(new RenderedTexts(
+              failedRendererVersion,
+              renderedTexts != null ? renderedTexts.getTexts() : Collections.emptyMap()));
+          failedCount++;
+        }
+      }
+      saveRenderedTexts(repository, entities);
+      count += entities.size();
+      if (entities.size() < RERENDER_BATCH_SIZE) {
+        break;
+      }
+    }
+    if (failedCount > 0) {
+      logger.warn("Texts of {} entities could not be rendered for renderer version {}.", failedCount, rendererVersion);
+    }
+    if (count > 0) {
+      logger.info("Re-rendered texts of {} entities for renderer version {}.", count - failedCount, rendererVersion);
+    }
+  }
+
+  /**
+   * Saves the entities directly, so the update timestamps are kept and no
+   * change events are published. Cached entities are evicted because their
+   * revisions are outdated.
+   */
+  private <T extends Entity> void saveRenderedTexts(
+      final RenderedTextsRepository<T> repository,
+      final List<T> entities) {
+    if (entities.isEmpty()) {
+      return;
+    }
+    repository.saveAll(entities);
+    for (final T entity : entities) {
+      entityCache.evict(entity.getSupertype().getSimpleName().toLowerCase() + "-" + entity.getId());
+    }
+  }
+
+  private boolean isRenderingAvailable() {
+    return textRenderingService.getCircuitBreakerState() == CircuitBreaker.State.CLOSED;
+  }
+
+  private String hash(final TextRenderingService.RenderingInput input) {
+    final TextRenderingOptions options = input.options();
+    return Hashing.sha256().newHasher()
+        .putString(rendererVersion, StandardCharsets.UTF_8)
+        .putBoolean(options.isLinebreaksEnabled())
+        .putBoolean(options.isMarkdownEnabled())
+        .putBoolean(options.isLatexEnabled())
+        .putInt(options.getMarkdownFeatureset().ordinal())
+        .putString(input.text(), StandardCharsets.UTF_8)
+        .hash()
+        .toString();
+  }
+
+  private boolean hasCurrentRenderedTexts(final Entity entity) {
+    return entity.getRenderedTexts() != null
+        && rendererVersion.equals(entity.getRenderedTexts().getRendererVersion());
+  }
+
+  private static boolean isBlank(final String text) {
+    return text == null || text.isBlank();
+  }
+
+  /**
+   * Collects the renderable texts of multiple entities, so they can be
+   * rendered at once.
+   */
+  private class RenderingBatch {
+    private final List<Entity> entities = new ArrayList<>();
+    private final List<Integer> entityFromIndexes = new ArrayList<>();
+    private final List<TextRenderingService.RenderingInput> inputs = new ArrayList<>();
+    private final List<String> keys = new ArrayList<>();
+    private final List<String> storedTexts = new ArrayList<>();
+    private final List<Consumer<List<String>>> resultConsumers = new ArrayList<>();
+
+    private RenderingBatch(final List<? extends Entity> entities) {
+      for (final Entity entity : entities) {
+        if (entity == null || entity.getRenderingMapping().isEmpty()) {
+          continue;
+        }
+        logger.trace("Renderable fields for entity {}: {}", entity.getId(), entity.getRenderingMapping().size());
+        this.entities.add(entity);
+        entityFromIndexes.add(inputs.size());
+        for (final EntityRenderingMapping<?> mapping : entity.getRenderingMapping()) {
+          if (mapping instanceof StringEntityRenderingMapping) {
+            resultConsumers.add(collectInputs((StringEntityRenderingMapping) mapping));
+          } else if (mapping instanceof ListEntityRenderingMapping) {
+            resultConsumers.add(collectInputs((ListEntityRenderingMapping) mapping));
+          } else {
+            throw new IllegalStateException("Unexpected type for mapping.");
+          }
+        }
+        final Map<String, String> texts = entity.getRenderedTexts() != null
+            ? entity.getRenderedTexts().getTexts()
+            : Collections.emptyMap();
+        for (int i = keys.size(); i < inputs.size(); i++) {
+          final TextRenderingService.RenderingInput input = inputs.get(i);
+          final String key = isBlank(input.text()) ? null : hash(input);
+          keys.add(key);
+          storedTexts.add(key != null ? texts.get(key) : null);
+        }
+      }
+      entityFromIndexes.add(inputs.size());
+    }
+
+    /**
+     * Renders the texts which are not stored and returns all texts in the
+     * order of the inputs.
+     */
+    private List<String> render() {
+      final List<String> renderedTexts = new ArrayList<>(storedTexts);
+      final List<Integer> missingIndexes = new ArrayList<>();
+      final List<TextRenderingService.RenderingInput> missingInputs = new ArrayList<>();
+      for (int i = 0; i < inputs.size(); i++) {
+        if (storedTexts.get(i) == null && !isBlank(inputs.get(i).text())) {
+          missingIndexes.add(i);
+          missingInputs.add(inputs.get(i));
+        }
+      }
+      if (missingInputs.isEmpty()) {
+        return renderedTexts;
+      }
+
+      final List<String> missingTexts = textRenderingService.renderTexts(missingInputs);
+      for (int i = 0; i < missingIndexes.size(); i++) {
+        renderedTexts.set(missingIndexes.get(i), missingTexts.get(i));
+      }
+
+      return renderedTexts;
+    }
+
+    private Consumer<List<String>> collectInputs(final StringEntityRenderingMapping mapping) {
+      final int index = inputs.size();
+      inputs.add(new TextRenderingService.RenderingInput(mapping.getRawValueSupplier().get(), mapping.getOptions()));
+
+      return renderedTexts -> mapping.getRenderedValueConsumer().accept(renderedTexts.get(index));
+    }
+
+    private Consumer<List<String>> collectInputs(final ListEntityRenderingMapping mapping) {
+      final List<String> unrenderedTexts = mapping.getRawValueSupplier().get();
+      if (unrenderedTexts == null) {
+        return renderedTexts -> mapping.getRenderedValueConsumer().accept(null);
+      }
+      final int fromIndex = inputs.size();
+      for (final String unrenderedText : unrenderedTexts) {
+        inputs.add(new TextRenderingService.RenderingInput(unrenderedText, mapping.getOptions()));
+      }
+
+      return renderedTexts -> mapping.getRenderedValueConsumer().accept(
+          new ArrayList<>(renderedTexts.subList(fromIndex, fromIndex + unrenderedTexts.size())));
+    }
+  }
+
+}
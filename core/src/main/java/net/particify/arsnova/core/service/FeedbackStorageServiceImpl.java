@@ -23,9 +23,9 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -37,18 +37,22 @@ import net.particify.arsnova.core.model.Room;
 
 /**
  * In-memory storage of feedback data.
+ *
+ * <p>
+ * Votes are stored per room and user. Additionally, a counter per feedback
+ * value is maintained for each room, so the current feedback of a room can be
+ * determined without iterating over all votes.
+ * </p>
  */
 @Service
 public class FeedbackStorageServiceImpl implements FeedbackStorageService {
   private static class FeedbackStorageObject {
     private final int value;
     private final Date timestamp;
-    private final String userId;
 
-    FeedbackStorageObject(final int initValue, final String userId) {
+    FeedbackStorageObject(final int initValue) {
       value = initValue;
       timestamp = new Date();
-      this.userId = userId;
     }
 
     public int getValue() {
@@ -58,16 +62,54 @@ public class FeedbackStorageServiceImpl implements FeedbackStorageService {
     public Date getTimestamp() {
       return timestamp;
     }
+  }
+
+  private static class RoomFeedback {
+    private final Map<String, FeedbackStorageObject> votes = new ConcurrentHashMap<>();
+    private final LongAdder[] counts = new LongAdder[Feedback.MAX_FEEDBACK_TYPE + 1];
+    private volatile Room room;
+
+    RoomFeedback(final Room room) {
+      this.room = room;
+      for (int i = 0; i < counts.length; i++) {
+        counts[i] = new LongAdder();
+      }
+    }
+
+    void put(final String userId, final FeedbackStorageObject feedback) {
+      final FeedbackStorageObject previousFeedback = votes.put(userId, feedback);
+      if (previousFeedback != null) {
+        count(previousFeedback.getValue(), -1);
+      }
+      count(feedback.getValue(), 1);
+    }
+
+    boolean remove(final String userId, final FeedbackStorageObject feedback) {
+      if (votes.remove(userId, feedback)) {
+        count(feedback.getValue(), -1);
+        return true;
+      }
+      return false;
+    }
+
+    Feedback toFeedback() {
+      return new Feedback(
+          counts[Feedback.FEEDBACK_FASTER].intValue(),
+          counts[Feedback.FEEDBACK_OK].intValue(),
+          counts[Feedback.FEEDBACK_SLOWER].intValue(),
+          counts[Feedback.FEEDBACK_AWAY].intValue());
+    }
 
-    public boolean fromUser(final String userId) {
-      return this.userId.equals(userId);
+    private void count(final int value, final int delta) {
+      if (value >= Feedback.MIN_FEEDBACK_TYPE && value <= Feedback.MAX_FEEDBACK_TYPE) {
+        counts[value].add(delta);
+      }
     }
   }
 
   private static final Logger logger = LoggerFactory.getLogger(FeedbackStorageServiceImpl.class);
   private final RoomSettingsService roomSettingsService;
-  private final Map<Room, Map<String, FeedbackStorageObject>> data =
-      new ConcurrentHashMap<>();
+  private final Map<String, RoomFeedback> data = new ConcurrentHashMap<>();
 
   public FeedbackStorageServiceImpl(final RoomSettingsService roomSettingsService) {
     this.roomSettingsService = roomSettingsService;
@@ -75,49 +117,23 @@ public class FeedbackStorageServiceImpl implements FeedbackStorageService {
 
   @Override
   public Feedback getByRoom(final Room room) {
-    int a = 0;
-    int b = 0;
-    int c = 0;
-    int d = 0;
-
-    if (data.get(room) == null) {
+    final RoomFeedback roomFeedback = data.get(room.getId());
+    if (roomFeedback == null) {
       return new Feedback(0, 0, 0, 0);
     }
 
-    for (final FeedbackStorageObject fso : data.get(room).values()) {
-      switch (fso.getValue()) {
-        case Feedback.FEEDBACK_FASTER:
-          a++;
-          break;
-        case Feedback.FEEDBACK_OK:
-          b++;
-          break;
-        case Feedback.FEEDBACK_SLOWER:
-          c++;
-          break;
-        case Feedback.FEEDBACK_AWAY:
-          d++;
-          break;
-        default:
-          break;
-      }
-    }
-    return new Feedback(a, b, c, d);
+    return roomFeedback.toFeedback();
   }
 
   @Override
   public Integer getByRoomAndUserId(final Room room, final String userId) {
-    if (data.get(room) == null) {
+    final RoomFeedback roomFeedback = data.get(room.getId());
+    if (roomFeedback == null) {
       return null;
     }
+    final FeedbackStorageObject fso = roomFeedback.votes.get(userId);
 
-    for (final FeedbackStorageObject fso : data.get(room).values()) {
-      if (fso.fromUser(userId)) {
-        return fso.getValue();
-      }
-    }
-
-    return null;
+    return fso != null ? fso.getValue() : null;
   }
 
   @Override
@@ -125,21 +141,21 @@ public class FeedbackStorageServiceImpl implements FeedbackStorageService {
   public void save(final Room room, final int value, final String userId) {
     logger.debug("Feedback data for {} Rooms is stored", data.size());
     logger.debug("Saving feedback: Room: {}, Value: {}, User: {}", room, value, userId);
-    Map<String, FeedbackStorageObject> roomData = data.get(room);
-    if (roomData == null) {
+    final RoomFeedback roomFeedback = data.computeIfAbsent(room.getId(), id -> {
       logger.debug("Creating new feedback container for Room: {}", room);
-      roomData = new ConcurrentHashMap<String, FeedbackStorageObject>();
-      data.put(room, roomData);
-    }
-    logger.debug("Feedback values for Room {}: {}", room.getId(), roomData.size());
-    roomData.put(userId, new FeedbackStorageObject(value, userId));
+      return new RoomFeedback(room);
+    });
+    roomFeedback.room = room;
+    logger.debug("Feedback values for Room {}: {}", room.getId(), roomFeedback.votes.size());
+    roomFeedback.put(userId, new FeedbackStorageObject(value));
   }
 
   @Override
   @Transactional(isolation = Isolation.READ_COMMITTED)
   public Map<Room, List<String>> cleanVotes(final int cleanupFeedbackDelay) {
     final Map<Room, List<String>> removedFeedbackOfUsersInSession = new HashMap<>();
-    for (final Room room : data.keySet()) {
+    for (final RoomFeedback roomFeedback : data.values()) {
+      final Room room = roomFeedback.room;
       if (!roomSettingsService.getByRoomId(room.getId()).isSurveyEnabled()) {
         final List<String> affectedUserIds = cleanVotesByRoom(room, cleanupFeedbackDelay);
         if (!affectedUserIds.isEmpty()) {
@@ -157,17 +173,16 @@ public class FeedbackStorageServiceImpl implements FeedbackStorageService {
     final Date maxAllowedTime = new Date(System.currentTimeMillis() - timelimitInMillis);
     final boolean forceClean = cleanupFeedbackDelayInMins == 0;
 
-    final Map<String, FeedbackStorageObject> roomFeedbacks = data.get(room);
+    final RoomFeedback roomFeedback = data.get(room.getId());
     final List<String> affectedUsers = new ArrayList<>();
 
-    if (roomFeedbacks != null) {
-      for (final Map.Entry<String, FeedbackStorageObject> entry : roomFeedbacks.entrySet()) {
+    if (roomFeedback != null) {
+      for (final Map.Entry<String, FeedbackStorageObject> entry : roomFeedback.votes.entrySet()) {
         final String userId = entry.getKey();
         final FeedbackStorageObject feedback = entry.getValue();
         final boolean timeIsUp = feedback.getTimestamp().before(maxAllowedTime);
-        final boolean isAwayFeedback = getByRoomAndUserId(room, userId).equals(Feedback.FEEDBACK_AWAY);
-        if (forceClean || timeIsUp && !isAwayFeedback) {
-          roomFeedbacks.remove(userId);
+        final boolean isAwayFeedback = feedback.getValue() == Feedback.FEEDBACK_AWAY;
+        if ((forceClean || timeIsUp && !isAwayFeedback) && roomFeedback.remove(userId, feedback)) {
           affectedUsers.add(userId);
         }
       }
@@ -177,8 +192,8 @@ public class FeedbackStorageServiceImpl implements FeedbackStorageService {
 
   @Override
   public Room findByRoomId(final String id) {
-    final Optional<Room> room = data.keySet().stream().filter(r -> r.getId().equals(id)).findFirst();
+    final RoomFeedback roomFeedback = data.get(id);
 
-    return room.orElse(null);
+    return roomFeedback != null ? roomFeedback.room : null;
   }
 }
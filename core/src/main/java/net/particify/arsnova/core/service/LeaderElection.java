@@ -0,0 +1,107 @@
+package net.particify.arsnova.core.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import net.particify.arsnova.core.config.TaskExecutorConfig;
+import net.particify.arsnova.core.persistence.LeaseRepository;
+
+/**
+ * Elects a single node of the cluster to run scheduled maintenance jobs which
+ * modify shared data.
+ *
+ * <p>
+ * The node which holds the lease is the leader. It renews the lease
+ * periodically and releases it on shutdown, so another node can take over
+ * with its next renewal. A node considers itself the leader only until one
+ * renewal interval before the lease expires, which leaves a safety margin for
+ * delayed renewals and clock differences between nodes.
+ * </p>
+ */
+@Component
+public class LeaderElection implements DisposableBean {
+  private static final Logger logger = LoggerFactory.getLogger(LeaderElection.class);
+  private static final String LEASE_NAME = "scheduled-jobs";
+  private static final Duration LEASE_DURATION = Duration.ofSeconds(60);
+  private static final long RENEWAL_INTERVAL_MS = 20000;
+  private static final String METRIC_PREFIX = "arsnova.scheduling.lease.";
+
+  private final LeaseRepository leaseRepository;
+  private final String nodeId = UUID.randomUUID().toString();
+  private final Counter acquiredCounter;
+  private final Counter lostCounter;
+  private final Counter failedCounter;
+  private volatile Instant leaderUntil = Instant.MIN;
+
+  public LeaderElection(final LeaseRepository leaseRepository, final MeterRegistry meterRegistry) {
+    this.leaseRepository = leaseRepository;
+    this.acquiredCounter = meterRegistry.counter(METRIC_PREFIX + "acquired");
+    this.lostCounter = meterRegistry.counter(METRIC_PREFIX + "lost");
+    this.failedCounter = meterRegistry.counter(METRIC_PREFIX + "failed");
+    meterRegistry.gauge(METRIC_PREFIX + "held", this, e -> e.isLeader() ? 1 : 0);
+  }
+
+  /**
+   * Checks if this node currently holds the lease. Jobs which should only run
+   * on one node of the cluster are skipped if this is not the case.
+   */
+  public boolean isLeader() {
+    return Instant.now().isBefore(leaderUntil);
+  }
+
+  @Scheduled(
+      initialDelay = 0,
+      fixedDelay = RENEWAL_INTERVAL_MS,
+      scheduler = TaskExecutorConfig.LATENCY_CRITICAL_SCHEDULER)
+  public void renewLease() {
+    final boolean wasLeader = isLeader();
+    final Instant renewedAt = Instant.now();
+    final boolean acquired;
+    try {
+      acquired = leaseRepository.tryAcquire(LEASE_NAME, nodeId, LEASE_DURATION);
+    } catch (final RuntimeException e) {
+      logger.warn("Failed to renew lease for scheduled jobs.", e);
+      failedCounter.increment();
+      return;
+    }
+    if (acquired) {
+      leaderUntil = renewedAt.plus(LEASE_DURATION).minusMillis(RENEWAL_INTERVAL_MS);
+      if (!wasLeader) {
+        logger.info("Acquired lease for scheduled jobs (node: {}).", nodeId);
+        acquiredCounter.increment();
+      }
+    } else {
+      leaderUntil = Instant.MIN;
+      if (wasLeader) {
+        logger.warn("Lost lease for scheduled jobs (node: {}).", nodeId);
+        lostCounter.increment();
+      }
+    }
+  }
+
+  /**
+   * Releases the lease on shutdown so another node can take over without
+   * waiting for the lease to expire.
+   */
+  @Override
+  public void destroy() {
+    if (!isLeader()) {
+      return;
+    }
+    leaderUntil = Instant.MIN;
+    try {
+      leaseRepository.release(LEASE_NAME, nodeId);
+      logger.info("Released lease for scheduled jobs (node: {}).", nodeId);
+    } catch (final RuntimeException e) {
+      logger.warn("Failed to release lease for scheduled jobs.", e);
+    }
+  }
+}
@@ -0,0 +1,445 @@
+package net.particify.arsnova.core.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import net.particify.arsnova.core.event.AfterCreationEvent;
+import net.particify.arsnova.core.event.AfterDeletionEvent;
+import net.particify.arsnova.core.event.AfterUpdateEvent;
+import net.particify.arsnova.core.model.Answer;
+import net.particify.arsnova.core.model.AnswerResult;
+import net.particify.arsnova.core.model.Content;
+import net.particify.arsnova.core.model.ContentGroup;
+import net.particify.arsnova.core.model.LeaderboardCurrentResult;
+import net.particify.arsnova.core.model.RoomUserAlias;
+
+/**
+ * Keeps leaderboards of content groups in memory. A leaderboard is loaded
+ * lazily and afterwards updated with the answers of each flushed batch. It is
+ * invalidated when the content group, one of its contents or answers of its
+ * contents are changed.
+ *
+ * <p>
+ * Leaderboards are only updated with answers flushed by this node. To include
+ * answers of other nodes, leaderboards and alias mappings expire shortly after
+ * they have been loaded, which bounds the time they can be outdated.
+ * </p>
+ *
+ * <p>
+ * Each update publishes an immutable {@link Ranking}, so requests for a page
+ * of the leaderboard or the rank of a single user do not need any locking.
+ * Boards keep their scores sorted and only reposition the users whose scores
+ * have changed, so publishing a ranking does not require sorting all users.
+ * Answers of a batch are announced before they are written and applied
+ * afterwards. Leaderboards and current results which are loaded while answers
+ * of their contents are being written are returned but not kept to prevent
+ * answers from being counted twice.
+ * </p>
+ */
+@Component
+public class LeaderboardEngine {
+  private static final Logger logger = LoggerFactory.getLogger(LeaderboardEngine.class);
+  private static final Duration EXPIRY = Duration.ofSeconds(15);
+  private static final long MAX_CONTENT_GROUPS = 10000;
+  private static final long MAX_ALIAS_MAPPINGS = 10000;
+
+  private final Cache<String, Board> boards = Caffeine.newBuilder()
+      .expireAfterWrite(EXPIRY)
+      .maximumSize(MAX_CONTENT_GROUPS)
+      .<String, Board>evictionListener((id, board, cause) -> removeFromIndex(id, board))
+      .build();
+  private final Cache<AliasKey, Map<String, RoomUserAlias>> aliases = Caffeine.newBuilder()
+      .expireAfterWrite(EXPIRY)
+      .maximumSize(MAX_ALIAS_MAPPINGS)
+      .build();
+  private final Map<String, Map<String, Board>> boardsByContentId = new ConcurrentHashMap<>();
+  private final Map<String, Integer> pendingWriteCounts = new HashMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  /**
+   * Returns the leaderboard of the content group. If it is not available in
+   * memory, it is created by the loader.
+   */
+  public Board get(final String contentGroupId, final Supplier<Board> loader) {
+    final Board board = boards.getIfPresent(contentGroupId);
+    if (board != null) {
+      return board;
+    }
+    lock.readLock().lock();
+    try {
+      logger.debug("Loading leaderboard for content group {}.", contentGroupId);
+      final Board loadedBoard = loader.get();
+      if (loadedBoard.getContentIds().stream().anyMatch(pendingWriteCounts::containsKey)) {
+        return loadedBoard;
+      }
+      final Board existingBoard = boards.asMap().putIfAbsent(contentGroupId, loadedBoard);
+      if (existingBoard != null) {
+        return existingBoard;
+      }
+      loadedBoard.getContentIds().forEach(contentId -> boardsByContentId
+          .computeIfAbsent(contentId, k -> new ConcurrentHashMap<>()).put(contentGroupId, loadedBoard));
+      return loadedBoard;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Returns the results of the current round of a content which is part of the
+   * leaderboard. If they are not available in memory, they are created by the
+   * loader.
+   */
+  public Map<String, LeaderboardCurrentResult> getCurrentResults(
+      final Board board,
+      final String contentId,
+      final Supplier<Map<String, LeaderboardCurrentResult>> loader) {
+    if (!board.getContentIds().contains(contentId)) {
+      return loader.get();
+    }
+    final Map<String, LeaderboardCurrentResult> currentResults = board.currentResults.get(contentId);
+    if (currentResults != null) {
+      return currentResults;
+    }
+    lock.readLock().lock();
+    try {
+      final Map<String, LeaderboardCurrentResult> loadedResults = new ConcurrentHashMap<>(loader.get());
+      if (pendingWriteCounts.containsKey(contentId)) {
+        return loadedResults;
+      }
+      final Map<String, LeaderboardCurrentResult> existingResults =
+          board.currentResults.putIfAbsent(contentId, loadedResults);
+      return existingResults != null ? existingResults : loadedResults;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Returns the alias mappings for users of the room. If they are not
+   * available in memory, they are created by the loader.
+   */
+  public Map<String, RoomUserAlias> getAliases(
+      final String roomId, final Locale locale, final Supplier<Map<String, RoomUserAlias>> loader) {
+    return aliases.get(new AliasKey(roomId, locale), k -> Collections.unmodifiableMap(loader.get()));
+  }
+
+  /**
+   * Announces that the answers are about to be written. Has to be followed by
+   * a call of {@link #completeRecording(Collection, Collection)} once writing
+   * has finished, regardless of its outcome.
+   */
+  public void beginRecording(final Collection<? extends Answer> answers) {
+    lock.writeLock().lock();
+    try {
+      for (final Answer answer : answers) {
+        pendingWriteCounts.merge(answer.getContentId(), 1, Integer::sum);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Adds the written answers to already loaded leaderboards. Answers which
+   * could not be written are not added.
+   *
+   * @param answers The answers which have been passed to
+   *     {@link #beginRecording(Collection)}.
+   * @param writtenAnswers The subset of answers which have been written.
+   */
+  public void completeRecording(
+      final Collection<? extends Answer> answers, final Collection<? extends Answer> writtenAnswers) {
+    lock.writeLock().lock();
+    try {
+      final Set<Board> updatedBoards = Collections.newSetFromMap(new HashMap<>());
+      for (final Answer answer : writtenAnswers) {
+        final Map<String, Board> contentBoards = boardsByContentId.get(answer.getContentId());
+        if (contentBoards == null) {
+          continue;
+        }
+        for (final Board board : contentBoards.values()) {
+          if (board.add(answer)) {
+            updatedBoards.add(board);
+          }
+        }
+      }
+      updatedBoards.forEach(Board::publish);
+      for (final Answer answer : answers) {
+        pendingWriteCounts.computeIfPresent(answer.getContentId(), (k, count) -> count > 1 ? count - 1 : null);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void invalidateContentGroup(final String contentGroupId) {
+    lock.writeLock().lock();
+    try {
+      final Board board = boards.getIfPresent(contentGroupId);
+      if (board != null) {
+        removeFromIndex(contentGroupId, board);
+        boards.invalidate(contentGroupId);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void invalidateContent(final String contentId) {
+    lock.writeLock().lock();
+    try {
+      final Map<String, Board> contentBoards = boardsByContentId.remove(contentId);
+      if (contentBoards == null) {
+        return;
+      }
+      contentBoards.forEach((contentGroupId, board) -> {
+        removeFromIndex(contentGroupId, board);
+        boards.asMap().remove(contentGroupId, board);
+      });
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @EventListener
+  public void handleAnswerDeletion(final AfterDeletionEvent<? extends Answer> event) {
+    invalidateContent(event.getEntity().getContentId());
+  }
+
+  @EventListener
+  public void handleContentUpdate(final AfterUpdateEvent<? extends Content> event) {
+    invalidateContent(event.getEntity().getId());
+  }
+
+  @EventListener
+  public void handleContentDeletion(final AfterDeletionEvent<? extends Content> event) {
+    invalidateContent(event.getEntity().getId());
+  }
+
+  @EventListener
+  public void handleContentGroupUpdate(final AfterUpdateEvent<ContentGroup> event) {
+    invalidateContentGroup(event.getEntity().getId());
+  }
+
+  @EventListener
+  public void handleContentGroupDeletion(final AfterDeletionEvent<ContentGroup> event) {
+    invalidateContentGroup(event.getEntity().getId());
+  }
+
+  @EventListener
+  public void handleRoomUserAliasCreation(final AfterCreationEvent<RoomUserAlias> event) {
+    invalidateAliases(event.getEntity().getRoomId());
+  }
+
+  @EventListener
+  public void handleRoomUserAliasUpdate(final AfterUpdateEvent<RoomUserAlias> event) {
+    invalidateAliases(event.getEntity().getRoomId());
+  }
+
+  @EventListener
+  public void handleRoomUserAliasDeletion(final AfterDeletionEvent<RoomUserAlias> event) {
+    invalidateAliases(event.getEntity().getRoomId());
+  }
+
+  private void invalidateAliases(final String roomId) {
+    aliases.asMap().keySet().removeIf(k -> k.roomId().equals(roomId));
+  }
+
+  /**
+   * Removes the index entries of the board. Entries which already point to a
+   * newer board of the content group are kept.
+   */
+  private void removeFromIndex(final String contentGroupId, final Board board) {
+    if (board == null) {
+      return;
+    }
+    for (final String contentId : board.getContentIds()) {
+      boardsByContentId.computeIfPresent(contentId, (k, contentBoards) -> {
+        contentBoards.remove(contentGroupId, board);
+        return contentBoards.isEmpty() ? null : contentBoards;
+      });
+    }
+  }
+
+  /**
+   * Score totals of all users for the current rounds of a content group's
+   * contents.
+   */
+  public static class Board {
+    private final Map<String, Content> contents;
+    private final Map<String, Integer> scores = new HashMap<>();
+    private final NavigableSet<UserScore> sortedScores = new TreeSet<>(Ranking.ORDER);
+    private final Map<String, Map<String, LeaderboardCurrentResult>> currentResults = new ConcurrentHashMap<>();
+    private volatile Ranking ranking = Ranking.EMPTY;
+
+    public Board(final Collection<? extends Content> contents) {
+      this.contents = contents.stream().collect(Collectors.toMap(Content::getId, c -> c, (c1, c2) -> c1));
+    }
+
+    public Set<String> getContentIds() {
+      return contents.keySet();
+    }
+
+    /**
+     * Adds the scores of a content's current round. Has to be called before
+     * the board is passed to the engine.
+     */
+    public synchronized void addScores(final Map<String, Integer> contentScores) {
+      contentScores.forEach(this::addScore);
+      publish();
+    }
+
+    public Ranking getRanking() {
+      return ranking;
+    }
+
+    private synchronized boolean add(final Answer answer) {
+      final Content content = contents.get(answer.getContentId());
+      if (content == null || content.getState().getRound() != answer.getRound()) {
+        return false;
+      }
+      addScore(answer.getCreatorId(), answer.getPoints());
+      final Map<String, LeaderboardCurrentResult> results = currentResults.get(answer.getContentId());
+      if (results != null) {
+        results.put(answer.getCreatorId(), new LeaderboardCurrentResult(
+            answer.getPoints(),
+            answer.getDurationMs(),
+            content.determineAnswerResult(answer).getState() == AnswerResult.AnswerResultState.CORRECT));
+      }
+      return true;
+    }
+
+    /**
+     * Adds points to the score of the user and moves the user to the new
+     * position in the sorted scores.
+     */
+    private void addScore(final String userId, final int points) {
+      final Integer oldScore = scores.get(userId);
+      if (oldScore != null) {
+        if (points == 0) {
+          return;
+        }
+        sortedScores.remove(new UserScore(userId, oldScore));
+      }
+      final int newScore = oldScore != null ? oldScore + points : points;
+      scores.put(userId, newScore);
+      sortedScores.add(new UserScore(userId, newScore));
+    }
+
+    private synchronized void publish() {
+      ranking = Ranking.of(sortedScores);
+    }
+  }
+
+  /**
+   * Immutable snapshot of a leaderboard sorted by score. Users with the same
+   * score share the same rank.
+   */
+  public static class Ranking {
+    private static final Comparator<UserScore> ORDER = Comparator.comparingInt(UserScore::score).reversed()
+        .thenComparing(UserScore::userId);
+    private static final Ranking EMPTY = of(List.of());
+
+    private final String[] userIds;
+    private final int[] scores;
+    private final Map<String, Integer> indexes;
+
+    private Ranking(final String[] userIds, final int[] scores) {
+      this.userIds = userIds;
+      this.scores = scores;
+      this.indexes = new HashMap<>(userIds.length * 2);
+      for (int i = 0; i < userIds.length; i++) {
+        indexes.put(userIds[i], i);
+      }
+    }
+
+    /**
+     * Creates a ranking from scores which are already sorted by
+     * {@link #ORDER}.
+     */
+    private static Ranking of(final Collection<UserScore> sortedScores) {
+      final String[] userIds = new String[sortedScores.size()];
+      final int[] scores = new int[sortedScores.size()];
+      int i = 0;
+      for (final UserScore userScore : sortedScores) {
+        userIds[i] = userScore.userId();
+        scores[i] = userScore.score();
+        i++;
+      }
+      return new Ranking(userIds, scores);
+    }
+
+    public int size() {
+      return userIds.length;
+    }
+
+    /**
+     * Returns the standings from the given offset on in ascending order of
+     * their rank.
+     */
+    public List<Standing> getPage(final int offset, final int limit) {
+      final int from = Math.min(Math.max(offset, 0), userIds.length);
+      final int to = (int) Math.min((long) from + Math.max(limit, 0), userIds.length);
+      final List<Standing> standings = new ArrayList<>(to - from);
+      for (int i = from; i < to; i++) {
+        standings.add(new Standing(rankOf(i), userIds[i], scores[i]));
+      }
+      return standings;
+    }
+
+    /**
+     * Returns the standing of the user or null if the user is not part of the
+     * leaderboard.
+     */
+    public Standing getStanding(final String userId) {
+      final Integer index = indexes.get(userId);
+      return index != null ? new Standing(rankOf(index), userId, scores[index]) : null;
+    }
+
+    /**
+     * Determines the rank of the entry at the index by searching the first
+     * entry with the same score.
+     */
+    private int rankOf(final int index) {
+      final int score = scores[index];
+      int low = 0;
+      int high = index;
+      while (low < high) {
+        final int mid = (low + high) >>> 1;
+        if (scores[mid] > score) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      return low + 1;
+    }
+  }
+
+  public record Standing(int rank, String userId, int score) {}
+
+  private record UserScore(String userId, int score) {}
+
+  private record AliasKey(String roomId, Locale locale) {}
+}
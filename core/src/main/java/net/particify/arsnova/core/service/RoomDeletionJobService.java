@@ -0,0 +1,130 @@
+package net.particify.arsnova.core.service;
+
+import com.google.common.util.concurrent.RateLimiter;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import net.particify.arsnova.core.config.TaskExecutorConfig;
+import net.particify.arsnova.core.event.BeforeDeletionEvent;
+import net.particify.arsnova.core.event.CascadeDeletionEvent;
+import net.particify.arsnova.core.event.RoomDeletionProgressEvent;
+import net.particify.arsnova.core.model.Entity;
+import net.particify.arsnova.core.model.Room;
+import net.particify.arsnova.core.model.RoomDeletionJob;
+import net.particify.arsnova.core.persistence.DeletionRepository;
+import net.particify.arsnova.core.persistence.RoomDeletionJobRepository;
+import net.particify.arsnova.core.persistence.RoomRepository;
+
+/**
+ * Deletes the entities which depend on deleted rooms in the background.
+ *
+ * <p>
+ * A job is persisted before a room is deleted, so it is not lost if the node
+ * stops right after the deletion. Jobs are processed by the leader node on the
+ * maintenance scheduler once the room no longer exists: A
+ * {@link CascadeDeletionEvent} is published for the room, so the services
+ * delete the dependent entities in chunks. A job whose room still exists after
+ * a grace period is discarded since the deletion of the room has failed. The
+ * chunks of a job are rate limited by its own limiter, so deleting a large
+ * room does not affect other requests too much.
+ * </p>
+ *
+ * <p>
+ * The number of deleted entities is persisted with the job after each chunk
+ * and a {@link RoomDeletionProgressEvent} is published. A job which has not
+ * been completed, e.g. because the node has been stopped, is continued by the
+ * next run. Entities which have already been deleted are not processed again
+ * since only stubs of the remaining entities are loaded.
+ * </p>
+ */
+@Service
+public class RoomDeletionJobService implements ApplicationEventPublisherAware {
+  private static final Logger logger = LoggerFactory.getLogger(RoomDeletionJobService.class);
+  private static final long PROCESS_INTERVAL_MS = 10 * 1000L;
+  private static final double CHUNKS_PER_SECOND = 10;
+  private static final long ROOM_DELETION_GRACE_PERIOD_MS = Duration.ofMinutes(10).toMillis();
+
+  private final RoomDeletionJobRepository roomDeletionJobRepository;
+  private final RoomRepository roomRepository;
+  private final DeletionRepository deletionRepository;
+  private ApplicationEventPublisher eventPublisher;
+  private LeaderElection leaderElection;
+
+  public RoomDeletionJobService(
+      final RoomDeletionJobRepository roomDeletionJobRepository,
+      final RoomRepository roomRepository,
+      final DeletionRepository deletionRepository) {
+    this.roomDeletionJobRepository = roomDeletionJobRepository;
+    this.roomRepository = roomRepository;
+    this.deletionRepository = deletionRepository;
+  }
+
+  @Override
+  public void setApplicationEventPublisher(final ApplicationEventPublisher applicationEventPublisher) {
+    this.eventPublisher = applicationEventPublisher;
+  }
+
+  @Autowired
+  public void setLeaderElection(final LeaderElection leaderElection) {
+    this.leaderElection = leaderElection;
+  }
+
+  @EventListener
+  public void handleRoomDeletion(final BeforeDeletionEvent<Room> event) {
+    roomDeletionJobRepository.save(new RoomDeletionJob(event.getEntity().getId()));
+  }
+
+  @Scheduled(
+      initialDelay = PROCESS_INTERVAL_MS,
+      fixedDelay = PROCESS_INTERVAL_MS,
+      scheduler = TaskExecutorConfig.MAINTENANCE_SCHEDULER)
+  public void processJobs() {
+    if (!leaderElection.isLeader()) {
+      return;
+    }
+    for (final RoomDeletionJob job : roomDeletionJobRepository.findAll()) {
+      try {
+        process(job);
+      } catch (final RuntimeException e) {
+        logger.error("Failed to delete entities of room {}. The job will be continued later.", job.getRoomId(), e);
+      }
+    }
+  }
+
+  private void process(final RoomDeletionJob job) {
+    if (roomRepository.existsById(job.getRoomId())) {
+      if (System.currentTimeMillis() - job.getCreationTimestamp().getTime() > ROOM_DELETION_GRACE_PERIOD_MS) {
+        logger.warn("Discarding deletion job for room {} which has not been deleted.", job.getRoomId());
+        roomDeletionJobRepository.delete(job);
+      }
+      // Otherwise, the room might still be in the process of being deleted.
+      return;
+    }
+    final Room room = new Room();
+    room.setId(job.getRoomId());
+    final RateLimiter rateLimiter = RateLimiter.create(CHUNKS_PER_SECOND);
+    final DeletionLog deletionLog = DeletionLog.openForJob(
+        rateLimiter, (type, count) -> recordProgress(job, type, count));
+    try {
+      eventPublisher.publishEvent(new CascadeDeletionEvent<>(this, room));
+    } finally {
+      deletionLog.close(deletionRepository);
+    }
+    roomDeletionJobRepository.delete(job);
+    logger.info("Deleted {} entities of room {}.", job.getTotalDeletedCount(), job.getRoomId());
+  }
+
+  private void recordProgress(final RoomDeletionJob job, final Class<? extends Entity> type, final int count) {
+    job.addDeletedCount(type, count);
+    roomDeletionJobRepository.save(job);
+    eventPublisher.publishEvent(new RoomDeletionProgressEvent(this, job.getRoomId(), job.getDeletedCounts()));
+    logger.debug("Deleted {} entities of room {} so far.", job.getTotalDeletedCount(), job.getRoomId());
+  }
+}
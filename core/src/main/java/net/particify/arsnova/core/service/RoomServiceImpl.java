@@ -40,6 +40,7 @@ import org.springframework.validation.Validator;
 import net.particify.arsnova.connector.client.ConnectorClient;
 import net.particify.arsnova.connector.model.Membership;
 import net.particify.arsnova.core.config.ConditionalOnLegacyDataManagement;
+import net.particify.arsnova.core.config.TaskExecutorConfig;
 import net.particify.arsnova.core.event.BeforeDeletionEvent;
 import net.particify.arsnova.core.model.Deletion.Initiator;
 import net.particify.arsnova.core.model.Room;
@@ -73,6 +74,7 @@ public class RoomServiceImpl extends DefaultEntityServiceImpl<Room> implements R
   private PasswordUtils passwordUtils;
 
   private ConnectorClient connectorClient;
+  private LeaderElection leaderElection;
 
   @Value("${system.inactivity-thresholds.delete-inactive-guest-rooms:0}")
   private int guestRoomInactivityThresholdDays;
@@ -103,6 +105,11 @@ public class RoomServiceImpl extends DefaultEntityServiceImpl<Room> implements R
     }
   }
 
+  @Autowired
+  public void setLeaderElection(final LeaderElection leaderElection) {
+    this.leaderElection = leaderElection;
+  }
+
   @Autowired(required = false)
   public void setConnectorClient(final ConnectorClient connectorClient) {
     this.connectorClient = connectorClient;
@@ -114,8 +121,11 @@ public class RoomServiceImpl extends DefaultEntityServiceImpl<Room> implements R
     delete(rooms, Initiator.CASCADE);
   }
 
-  @Scheduled(fixedRate = DELETE_SCHEDULED_ROOMS_INTERVAL_MS)
+  @Scheduled(fixedRate = DELETE_SCHEDULED_ROOMS_INTERVAL_MS, scheduler = TaskExecutorConfig.MAINTENANCE_SCHEDULER)
   private void deleteScheduledRooms() {
+    if (!leaderElection.isLeader()) {
+      return;
+    }
     logger.trace("Checking for rooms scheduled for deletion.");
     final List<Room> rooms = roomRepository.findStubsByScheduledDeletionAfter(new Date());
     if (!rooms.isEmpty()) {
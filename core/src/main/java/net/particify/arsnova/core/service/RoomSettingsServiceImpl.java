@@ -6,7 +6,7 @@ import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.Validator;
 
-import net.particify.arsnova.core.event.BeforeDeletionEvent;
+import net.particify.arsnova.core.event.CascadeDeletionEvent;
 import net.particify.arsnova.core.model.Room;
 import net.particify.arsnova.core.model.RoomSettings;
 import net.particify.arsnova.core.persistence.DeletionRepository;
@@ -45,7 +45,7 @@ public class RoomSettingsServiceImpl
   }
 
   @EventListener
-  public void handleRoomDeletion(final BeforeDeletionEvent<Room> event) {
+  public void handleRoomDeletion(final CascadeDeletionEvent<Room> event) {
     final RoomSettings settings = getByRoomId(event.getEntity().getId());
     if (settings != null) {
       delete(settings);
@@ -1,6 +1,5 @@
 package net.particify.arsnova.core.service;
 
-import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -13,10 +12,12 @@ import net.particify.arsnova.core.model.AnswerStatisticsUserSummary;
 import net.particify.arsnova.core.model.ChoiceAnswerStatistics;
 import net.particify.arsnova.core.model.ContentGroup;
 import net.particify.arsnova.core.model.LeaderboardEntry;
+import net.particify.arsnova.core.model.LeaderboardUserRank;
 import net.particify.arsnova.core.model.NumericAnswerStatistics;
 import net.particify.arsnova.core.model.PrioritizationAnswerStatistics;
 import net.particify.arsnova.core.model.TextAnswer;
 import net.particify.arsnova.core.model.TextAnswerStatistics;
+import net.particify.arsnova.core.model.export.AnswerExport;
 
 @Service
 public class SecuredAnswerService extends AbstractSecuredEntityServiceImpl<Answer>
@@ -151,11 +152,22 @@ public class SecuredAnswerService extends AbstractSecuredEntityServiceImpl<Answe
 
   @Override
   @PreAuthorize("hasPermission(#contentGroup, 'read')")
-  public Collection<LeaderboardEntry> buildAliasedLeaderboard(
+  public List<LeaderboardEntry> buildAliasedLeaderboard(
+      final ContentGroup contentGroup,
+      final String currentContentId,
+      final Locale locale,
+      final int offset,
+      final int limit) {
+    return answerService.buildAliasedLeaderboard(contentGroup, currentContentId, locale, offset, limit);
+  }
+
+  @Override
+  @PreAuthorize("hasPermission(#contentGroup, 'read')")
+  public LeaderboardUserRank getLeaderboardRank(
       final ContentGroup contentGroup,
       final String currentContentId,
       final Locale locale) {
-    return answerService.buildAliasedLeaderboard(contentGroup, currentContentId, locale);
+    return answerService.getLeaderboardRank(contentGroup, currentContentId, locale);
   }
 
   @PreAuthorize("hasPermission(#roomId, 'room', 'read')")
@@ -165,4 +177,10 @@ public class SecuredAnswerService extends AbstractSecuredEntityServiceImpl<Answe
       final List<String> contentIds) {
     return answerService.calculateStatsByContentIds(roomId, contentIds);
   }
+
+  @Override
+  @PreAuthorize("hasPermission(#roomId, 'room', 'update')")
+  public Iterable<AnswerExport> exportAnswersByRoomId(final String roomId) {
+    return answerService.exportAnswersByRoomId(roomId);
+  }
 }
@@ -1,7 +1,9 @@
 package net.particify.arsnova.core.service;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Set;
 import org.springframework.security.access.prepost.PostAuthorize;
 import org.springframework.security.access.prepost.PostFilter;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -42,6 +44,24 @@ public class SecuredContentGroupService extends AbstractSecuredEntityServiceImpl
     return contentGroupService.getByRoomIdAndContainingContentId(roomId, contentId);
   }
 
+  @Override
+  @PreAuthorize("hasPermission(#roomId, 'room', 'read')")
+  public Set<String> getContentIdsWithGroup(final String roomId) {
+    return contentGroupService.getContentIdsWithGroup(roomId);
+  }
+
+  @Override
+  @PreAuthorize("hasPermission(#roomId, 'room', 'read')")
+  public boolean isContentPublished(final String roomId, final String contentId) {
+    return contentGroupService.isContentPublished(roomId, contentId);
+  }
+
+  @Override
+  @PreAuthorize("hasPermission(#roomId, 'room', 'read')")
+  public boolean areCorrectOptionsPublished(final String roomId, final String contentId) {
+    return contentGroupService.areCorrectOptionsPublished(roomId, contentId);
+  }
+
   @Override
   @PreAuthorize("hasPermission(#roomId, 'room', 'update') and hasPermission(#contentId, 'content', 'update')")
   public void addContentToGroup(final String roomId, final String groupName, final String contentId) {
@@ -68,7 +88,7 @@ public class SecuredContentGroupService extends AbstractSecuredEntityServiceImpl
 
   @Override
   @PreAuthorize("hasPermission(#contentGroup, 'update')")
-  public ContentCsvImportSummary importFromCsv(final byte[] csv, final ContentGroup contentGroup) {
+  public ContentCsvImportSummary importFromCsv(final InputStream csv, final ContentGroup contentGroup) {
     return contentGroupService.importFromCsv(csv, contentGroup);
   }
 
@@ -1,6 +1,5 @@
 package net.particify.arsnova.core.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import java.util.List;
 import java.util.Set;
 import org.springframework.security.access.prepost.PostFilter;
@@ -12,6 +11,7 @@ import net.particify.arsnova.core.model.Content;
 import net.particify.arsnova.core.model.ContentGroupTemplate;
 import net.particify.arsnova.core.model.ContentTemplate;
 import net.particify.arsnova.core.model.WordContent;
+import net.particify.arsnova.core.model.export.ContentExport;
 
 @Service
 public class SecuredContentService extends AbstractSecuredEntityServiceImpl<Content>
@@ -50,14 +50,14 @@ public class SecuredContentService extends AbstractSecuredEntityServiceImpl<Cont
 
   @Override
   @PreFilter(value = "hasPermission(filterObject, 'content', 'owner')", filterTarget = "contentIds")
-  public byte[] exportToCsv(final List<String> contentIds, final String charset) throws JsonProcessingException {
-    return contentService.exportToCsv(contentIds, charset);
+  public Iterable<ContentExport> exportContents(final List<String> contentIds) {
+    return contentService.exportContents(contentIds);
   }
 
   @Override
-  @PreFilter(value = "hasPermission(filterObject, 'content', 'owner')", filterTarget = "contentIds")
-  public byte[] exportToTsv(final List<String> contentIds, final String charset) throws JsonProcessingException {
-    return contentService.exportToTsv(contentIds, charset);
+  @PreAuthorize("hasPermission(#roomId, 'room', 'update')")
+  public void deleteCascaded(final String roomId, final List<String> contentIds) {
+    contentService.deleteCascaded(roomId, contentIds);
   }
 
   @Override
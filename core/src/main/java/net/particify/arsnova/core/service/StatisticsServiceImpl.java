@@ -25,6 +25,7 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import net.particify.arsnova.core.config.TaskExecutorConfig;
 import net.particify.arsnova.core.model.Statistics;
 import net.particify.arsnova.core.persistence.StatisticsRepository;
 
@@ -42,7 +43,10 @@ public class StatisticsServiceImpl implements StatisticsService {
     this.statisticsRepository = repository;
   }
 
-  @Scheduled(initialDelay = 0, fixedRate = STATISTICS_REFRESH_INTERVAL_MS)
+  @Scheduled(
+      initialDelay = 0,
+      fixedRate = STATISTICS_REFRESH_INTERVAL_MS,
+      scheduler = TaskExecutorConfig.MAINTENANCE_SCHEDULER)
   @CacheEvict(value = "system", key = "'statistics'")
   private void clearCachedStatistics() {
     logger.trace("Evicting statistics from cache.");
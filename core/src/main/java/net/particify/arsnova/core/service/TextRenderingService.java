@@ -1,12 +1,21 @@
 package net.particify.arsnova.core.service;
 
-import java.io.IOException;
+import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -16,60 +25,144 @@ import reactor.core.publisher.Mono;
 import net.particify.arsnova.core.config.properties.SystemProperties;
 import net.particify.arsnova.core.model.TextRenderingOptions;
 
+/**
+ * Renders texts via the formatting service.
+ *
+ * <p>
+ * Texts are rendered in batches: cached results are reused and only the
+ * remaining texts are sent to the formatting service. Large batches are split
+ * into multiple requests which are sent concurrently.
+ * </p>
+ *
+ * <p>
+ * Slow or failing responses of the formatting service must not block the
+ * threads handling API requests. Therefore, each request has a deadline, the
+ * number of concurrent requests is limited and a circuit breaker suspends
+ * requests after consecutive failures. Texts which could not be rendered are
+ * returned as <code>null</code>.
+ * </p>
+ */
 @Service
 public class TextRenderingService {
-  private static final String ENDPOINT = "/render";
   private static final String MULTIPLE_ENDPOINT = "/render-multiple";
+  private static final String CACHE_NAME = "rendered-texts";
+  private static final int BATCH_SIZE = 100;
+  private static final int MAX_PARALLEL_REQUESTS = 4;
+  private static final String METRIC_PREFIX = "arsnova.formatting.requests.";
   private static final Logger logger = LoggerFactory.getLogger(TextRenderingService.class);
 
   private final boolean enabled;
   private final WebClient webClient;
+  private final Cache cache;
+  private final Duration timeout;
+  private final Semaphore requestPermits;
+  private final CircuitBreaker circuitBreaker;
+  private final Counter rejectedRequestCounter;
+
+  public TextRenderingService(
+      final SystemProperties systemProperties,
+      final CacheManager cacheManager,
+      final MeterRegistry meterRegistry) {
+    final SystemProperties.FormattingService formattingService = systemProperties.getFormattingService();
+    this.enabled = formattingService.isEnabled();
+    this.webClient = WebClient.create(formattingService.getHostUrl());
+    this.cache = cacheManager.getCache(CACHE_NAME);
+    this.timeout = formattingService.getTimeout();
+    this.requestPermits = new Semaphore(formattingService.getMaxConcurrentRequests());
+    this.circuitBreaker = new CircuitBreaker(
+        "formatting-service",
+        formattingService.getCircuitBreaker().getFailureThreshold(),
+        formattingService.getCircuitBreaker().getOpenDuration(),
+        meterRegistry);
+    this.rejectedRequestCounter = meterRegistry.counter(METRIC_PREFIX + "rejected");
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
 
-  public TextRenderingService(final SystemProperties systemProperties) {
-    this.enabled = systemProperties.getFormattingService().isEnabled();
-    final String host = systemProperties.getFormattingService().getHostUrl();
-    this.webClient = WebClient.create(host);
+  CircuitBreaker.State getCircuitBreakerState() {
+    return circuitBreaker.getState();
   }
 
-  @Cacheable(value = "rendered-texts", unless = "#result == null")
-  public String renderText(final String unrenderedText, final TextRenderingOptions textRenderingOptions)
-      throws IOException {
-    if (!enabled || unrenderedText == null || unrenderedText.isBlank()) {
-      return null;
+  /**
+   * Renders the passed texts. The results are returned in the same order.
+   * A result is <code>null</code> if the text is blank, if rendering is
+   * disabled or if rendering failed.
+   */
+  public List<String> renderTexts(final List<RenderingInput> inputs) {
+    final String[] results = new String[inputs.size()];
+    if (!enabled) {
+      return Arrays.asList(results);
     }
 
-    final RenderingRequestEntity requestEntity = new RenderingRequestEntity();
-    requestEntity.setText(unrenderedText);
-    requestEntity.setOptions(textRenderingOptions);
-    logger.trace("Sending text to formatting service: {}", unrenderedText.hashCode());
-    final RenderingResponseEntity responseEntity = webClient.post()
-        .uri(ENDPOINT)
-        .contentType(MediaType.APPLICATION_JSON)
-        .accept(MediaType.APPLICATION_JSON)
-        .bodyValue(requestEntity)
-        .retrieve()
-        .bodyToMono(RenderingResponseEntity.class)
-        .doOnError(e -> logger.error("Text rendering request failed.", e))
-        .onErrorResume(e -> Mono.just(new RenderingResponseEntity()))
-        .block();
-    return responseEntity.html;
+    /* Equal texts are only rendered once. */
+    final Map<RenderingInput, List<Integer>> uncachedIndexes = new LinkedHashMap<>();
+    for (int i = 0; i < inputs.size(); i++) {
+      final RenderingInput input = inputs.get(i);
+      if (input.text() == null || input.text().isBlank()) {
+        continue;
+      }
+      final String cachedText = cache.get(input.cacheKey(), String.class);
+      if (cachedText != null) {
+        results[i] = cachedText;
+      } else {
+        uncachedIndexes.computeIfAbsent(input, k -> new ArrayList<>()).add(i);
+      }
+    }
+    if (uncachedIndexes.isEmpty()) {
+      return Arrays.asList(results);
+    }
+
+    final List<RenderingInput> uncachedInputs = new ArrayList<>(uncachedIndexes.keySet());
+    logger.trace("Sending {} of {} texts to formatting service.", uncachedInputs.size(), inputs.size());
+    final List<String> renderedTexts = new ArrayList<>(uncachedInputs.size());
+    Flux.fromIterable(Lists.partition(uncachedInputs, BATCH_SIZE))
+        .flatMapSequential(this::requestRendering, MAX_PARALLEL_REQUESTS)
+        .collectList()
+        .block()
+        .forEach(renderedTexts::addAll);
+    for (int i = 0; i < uncachedInputs.size(); i++) {
+      final RenderingInput input = uncachedInputs.get(i);
+      final String renderedText = renderedTexts.get(i);
+      if (renderedText == null) {
+        continue;
+      }
+      cache.put(input.cacheKey(), renderedText);
+      for (final int index : uncachedIndexes.get(input)) {
+        results[index] = renderedText;
+      }
+    }
+
+    return Arrays.asList(results);
   }
 
-  @Cacheable(value = "rendered-texts", unless = "#result == null")
-  public List<String> renderTexts(final List<String> unrenderedTexts, final TextRenderingOptions textRenderingOptions)
-      throws IOException {
-    if (!enabled || unrenderedTexts == null || unrenderedTexts.isEmpty()) {
-      return null;
+  /**
+   * Sends a request to the formatting service. The request is skipped if the
+   * circuit breaker is open or the maximum number of concurrent requests is
+   * reached. Failed or skipped requests result in <code>null</code> values.
+   */
+  private Mono<List<String>> requestRendering(final List<RenderingInput> inputs) {
+    final List<String> failedResult = Collections.nCopies(inputs.size(), null);
+    if (!requestPermits.tryAcquire()) {
+      logger.debug("Skipping text rendering: Too many concurrent requests.");
+      rejectedRequestCounter.increment();
+      return Mono.just(failedResult);
+    }
+    if (!circuitBreaker.tryAcquirePermission()) {
+      logger.debug("Skipping text rendering: Circuit breaker is open.");
+      requestPermits.release();
+      rejectedRequestCounter.increment();
+      return Mono.just(failedResult);
     }
 
-    final List<RenderingRequestEntity> requestEntities = unrenderedTexts.stream().map(text -> {
+    final List<RenderingRequestEntity> requestEntities = inputs.stream().map(input -> {
       final RenderingRequestEntity requestEntity = new RenderingRequestEntity();
-      requestEntity.setText(text);
-      requestEntity.setOptions(textRenderingOptions);
+      requestEntity.setText(input.text());
+      requestEntity.setOptions(input.options());
       return requestEntity;
-    }).collect(Collectors.toList());
+    }).toList();
 
-    logger.trace("Sending texts to formatting service: {}", unrenderedTexts.hashCode());
     return webClient.post()
         .uri(MULTIPLE_ENDPOINT)
         .contentType(MediaType.APPLICATION_JSON)
@@ -77,11 +170,29 @@ public class TextRenderingService {
         .bodyValue(requestEntities)
         .retrieve()
         .bodyToFlux(RenderingResponseEntity.class)
-        .doOnError(e -> logger.error("Text rendering request failed.", e))
-        .onErrorResume(e -> Flux.fromIterable(Collections.emptyList()))
-        .map(e -> e.html)
         .collectList()
-        .block();
+        .timeout(timeout)
+        .flatMap(responseEntities -> responseEntities.size() == inputs.size()
+            ? Mono.just(responseEntities.stream().map(RenderingResponseEntity::getHtml).toList())
+            : Mono.error(new IllegalStateException(String.format(
+                "Text rendering returned %d results for %d texts.", responseEntities.size(), inputs.size()))))
+        .doOnNext(result -> circuitBreaker.onSuccess())
+        .onErrorResume(e -> {
+          logger.error("Text rendering request failed: {}", e.toString());
+          circuitBreaker.onFailure();
+          return Mono.just(failedResult);
+        })
+        .doOnCancel(circuitBreaker::onFailure)
+        .doFinally(signal -> requestPermits.release());
+  }
+
+  /**
+   * A text and the options used to render it.
+   */
+  public record RenderingInput(String text, TextRenderingOptions options) {
+    private SimpleKey cacheKey() {
+      return new SimpleKey(text, options);
+    }
   }
 
   private static class RenderingRequestEntity {
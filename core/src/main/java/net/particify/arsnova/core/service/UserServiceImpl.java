@@ -35,6 +35,7 @@ import org.ektorp.DbAccessException;
 import org.ektorp.DocumentNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Primary;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
@@ -43,6 +44,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.validation.Validator;
 
 import net.particify.arsnova.core.config.ConditionalOnLegacyDataManagement;
+import net.particify.arsnova.core.config.TaskExecutorConfig;
 import net.particify.arsnova.core.config.properties.AuthenticationProviderProperties;
 import net.particify.arsnova.core.config.properties.SecurityProperties;
 import net.particify.arsnova.core.config.properties.SystemProperties;
@@ -92,6 +94,7 @@ public class UserServiceImpl extends DefaultEntityServiceImpl<UserProfile> imple
   private UserRepository userRepository;
   private PasswordUtils passwordUtils;
   private EmailService emailService;
+  private LeaderElection leaderElection;
 
   private SecurityProperties securityProperties;
   private AuthenticationProviderProperties.Registered registeredProperties;
@@ -135,7 +138,7 @@ public class UserServiceImpl extends DefaultEntityServiceImpl<UserProfile> imple
     this.userInactivityLimit = systemProperties.getAutoDeletionThresholds().getUserInactivityLimit();
   }
 
-  @Scheduled(fixedDelay = TRY_RESET_DELAY_MS)
+  @Scheduled(fixedDelay = TRY_RESET_DELAY_MS, scheduler = TaskExecutorConfig.MAINTENANCE_SCHEDULER)
   public void resetTries() {
     if (!resentMailCount.isEmpty()) {
       logger.debug("Resetting counters for resent activation mails.");
@@ -147,7 +150,7 @@ public class UserServiceImpl extends DefaultEntityServiceImpl<UserProfile> imple
     }
   }
 
-  @Scheduled(fixedDelay = BAN_RESET_DELAY_MS)
+  @Scheduled(fixedDelay = BAN_RESET_DELAY_MS, scheduler = TaskExecutorConfig.MAINTENANCE_SCHEDULER)
   public void resetBans() {
     if (!resendMailBans.isEmpty()) {
       logger.info("Clearing temporary bans for resent activation mails ({}).", resendMailBans.size());
@@ -159,17 +162,26 @@ public class UserServiceImpl extends DefaultEntityServiceImpl<UserProfile> imple
     }
   }
 
-  @Scheduled(fixedDelay = ACTIVATION_KEY_CHECK_INTERVAL_MS)
+  @Autowired
+  public void setLeaderElection(final LeaderElection leaderElection) {
+    this.leaderElection = leaderElection;
+  }
+
+  @Scheduled(fixedDelay = ACTIVATION_KEY_CHECK_INTERVAL_MS, scheduler = TaskExecutorConfig.MAINTENANCE_SCHEDULER)
   public void deleteNonActivatedUsers() {
+    if (!leaderElection.isLeader()) {
+      logger.trace("Skipping deletion of non-activated user accounts on this node.");
+      return;
+    }
     logger.debug("Deleting non-activated user accounts.");
     final long unixTime = System.currentTimeMillis();
     final long creationBefore = unixTime - ACTIVATION_KEY_DURABILITY_MS;
     userRepository.deleteNonActivatedUsers(creationBefore);
   }
 
-  @Scheduled(fixedDelay = INACTIVE_USERS_CHECK_INTERVAL_MS)
+  @Scheduled(fixedDelay = INACTIVE_USERS_CHECK_INTERVAL_MS, scheduler = TaskExecutorConfig.MAINTENANCE_SCHEDULER)
   public void deleteInactiveUsers() {
-    if (userInactivityPeriod.isZero()) {
+    if (userInactivityPeriod.isZero() || !leaderElection.isLeader()) {
       logger.trace("Skipping deletion of inactive user accounts.");
       return;
     }
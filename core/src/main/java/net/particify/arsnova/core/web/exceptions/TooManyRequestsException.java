@@ -0,0 +1,23 @@
+package net.particify.arsnova.core.web.exceptions;
+
+import java.io.Serial;
+import java.time.Duration;
+
+/**
+ * Too Many Requests means status code 429.
+ */
+public class TooManyRequestsException extends RuntimeException {
+  @Serial
+  private static final long serialVersionUID = 1L;
+
+  private final Duration retryAfter;
+
+  public TooManyRequestsException(final String message, final Duration retryAfter) {
+    super(message);
+    this.retryAfter = retryAfter;
+  }
+
+  public Duration getRetryAfter() {
+    return retryAfter;
+  }
+}
@@ -0,0 +1,172 @@
+package net.particify.arsnova.core.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import net.particify.arsnova.core.config.RabbitConfig;
+import net.particify.arsnova.core.config.TaskExecutorConfig;
+import net.particify.arsnova.core.config.properties.MessageBrokerProperties;
+
+/**
+ * Sends messages to high-frequency topics of the message broker with a
+ * limited rate per topic.
+ *
+ * <p>
+ * The first message for a topic is sent immediately. Messages submitted within
+ * the minimum interval afterwards are held back and sent together once the
+ * interval has passed: For state topics only the latest message is sent, for
+ * item topics all messages are sent in order, so clients still receive one
+ * message per item.
+ * </p>
+ *
+ * <p>
+ * Control messages which must not be replaced are published immediately. A
+ * pending message of the topic is sent before them, so the order is kept.
+ * </p>
+ */
+@Component
+@EnableConfigurationProperties(MessageBrokerProperties.class)
+@ConditionalOnProperty(
+    name = RabbitConfig.RabbitConfigProperties.RABBIT_ENABLED,
+    prefix = MessageBrokerProperties.PREFIX,
+    havingValue = "true")
+public class ThrottledTopicPublisher {
+  private static final String EXCHANGE = "amq.topic";
+  private static final String METRIC_PREFIX = "arsnova.websocket.frames.";
+  private static final long CLEANUP_INTERVAL_MS = 60000;
+
+  private final RabbitTemplate messagingTemplate;
+  private final TaskScheduler taskScheduler;
+  private final long minIntervalMs;
+  private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+  private final Counter sentCounter;
+  private final Counter savedCounter;
+
+  public ThrottledTopicPublisher(
+      final RabbitTemplate messagingTemplate,
+      final TaskScheduler taskScheduler,
+      final MessageBrokerProperties messageBrokerProperties,
+      final MeterRegistry meterRegistry) {
+    this.messagingTemplate = messagingTemplate;
+    this.taskScheduler = taskScheduler;
+    final double maxFrequency = messageBrokerProperties.getPublishing().getMaxFrequency();
+    this.minIntervalMs = maxFrequency > 0 ? Math.round(1000 / maxFrequency) : 0;
+    this.sentCounter = meterRegistry.counter(METRIC_PREFIX + "sent");
+    this.savedCounter = meterRegistry.counter(METRIC_PREFIX + "saved");
+  }
+
+  /**
+   * Publishes a message which represents the current state of the topic. It
+   * replaces messages which have not been sent yet.
+   */
+  public void publishLatest(final String routingKey, final Object message) {
+    submit(routingKey, topic -> {
+      if (topic.latest != null) {
+        savedCounter.increment();
+      }
+      topic.latest = message;
+    });
+  }
+
+  /**
+   * Publishes a message immediately without replacing it by later messages.
+   * A pending message of the topic is sent first.
+   */
+  public void publishImmediately(final String routingKey, final Object message) {
+    final Topic topic = topics.computeIfAbsent(routingKey, k -> new Topic());
+    synchronized (topic) {
+      for (final Object pendingMessage : topic.takeMessages()) {
+        convertAndSend(routingKey, pendingMessage);
+      }
+      convertAndSend(routingKey, message);
+      topic.lastSentAt = System.currentTimeMillis();
+    }
+  }
+
+  /**
+   * Publishes a message for an item without replacing it by later messages.
+   * Messages which are submitted within the same interval are held back and
+   * sent in order once the interval has passed.
+   */
+  public void publishQueued(final String routingKey, final Object message) {
+    submit(routingKey, topic -> topic.queued.add(message));
+  }
+
+  /**
+   * Removes the state of topics which have not been used recently.
+   */
+  @Scheduled(fixedDelay = CLEANUP_INTERVAL_MS, scheduler = TaskExecutorConfig.MAINTENANCE_SCHEDULER)
+  public void removeIdleTopics() {
+    final long now = System.currentTimeMillis();
+    topics.values().removeIf(topic -> topic.isIdle(now, minIntervalMs));
+  }
+
+  private void submit(final String routingKey, final Consumer<Topic> update) {
+    final Topic topic = topics.computeIfAbsent(routingKey, k -> new Topic());
+    final long delay;
+    synchronized (topic) {
+      update.accept(topic);
+      if (topic.scheduled) {
+        return;
+      }
+      topic.scheduled = true;
+      delay = topic.lastSentAt + minIntervalMs - System.currentTimeMillis();
+    }
+    if (delay <= 0) {
+      send(routingKey, topic);
+    } else {
+      taskScheduler.schedule(() -> send(routingKey, topic), Instant.now().plusMillis(delay));
+    }
+  }
+
+  private void send(final String routingKey, final Topic topic) {
+    // The message is sent while holding the lock of the topic, so it cannot
+    // overtake an immediately published message.
+    synchronized (topic) {
+      final List<Object> messages = topic.takeMessages();
+      topic.scheduled = false;
+      topic.lastSentAt = System.currentTimeMillis();
+      for (final Object message : messages) {
+        convertAndSend(routingKey, message);
+      }
+    }
+  }
+
+  private void convertAndSend(final String routingKey, final Object message) {
+    messagingTemplate.convertAndSend(EXCHANGE, routingKey, message);
+    sentCounter.increment();
+  }
+
+  private static class Topic {
+    private Object latest;
+    private final List<Object> queued = new ArrayList<>();
+    private long lastSentAt;
+    private boolean scheduled;
+
+    private List<Object> takeMessages() {
+      final List<Object> messages = new ArrayList<>(queued);
+      queued.clear();
+      if (latest != null) {
+        messages.add(latest);
+        latest = null;
+      }
+      return messages;
+    }
+
+    private synchronized boolean isIdle(final long now, final long minIntervalMs) {
+      return !scheduled && now - lastSentAt > minIntervalMs;
+    }
+  }
+}
@@ -40,6 +40,7 @@ import net.particify.arsnova.core.model.Content;
 import net.particify.arsnova.core.model.Content.Format;
 import net.particify.arsnova.core.model.TextAnswer;
 import net.particify.arsnova.core.service.AnswerService;
+import net.particify.arsnova.core.websocket.ThrottledTopicPublisher;
 import net.particify.arsnova.core.websocket.message.AnswersChanged;
 import net.particify.arsnova.core.websocket.message.TextAnswerCreated;
 
@@ -54,11 +55,14 @@ public class AnswerHandler {
 
   private final RabbitTemplate messagingTemplate;
   private final AnswerService answerService;
+  private final ThrottledTopicPublisher topicPublisher;
 
   public AnswerHandler(final RabbitTemplate messagingTemplate,
-      final AnswerService answerService) {
+      final AnswerService answerService,
+      final ThrottledTopicPublisher topicPublisher) {
     this.messagingTemplate = messagingTemplate;
     this.answerService = answerService;
+    this.topicPublisher = topicPublisher;
   }
 
   @EventListener
@@ -102,11 +106,10 @@ public class AnswerHandler {
       if (!(answer instanceof TextAnswer)) {
         continue;
       }
-      final TextAnswerCreated createdMessage = new TextAnswerCreated((TextAnswer) answer);
-      messagingTemplate.convertAndSend(
-          "amq.topic",
+      /* Answers submitted in quick succession are sent together once per interval */
+      topicPublisher.publishQueued(
           answer.getRoomId() + ".content-" + answer.getContentId() + ".text-answer-created.stream",
-          createdMessage
+          new TextAnswerCreated((TextAnswer) answer)
       );
     }
   }
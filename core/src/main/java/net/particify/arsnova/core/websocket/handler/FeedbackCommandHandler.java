@@ -1,6 +1,5 @@
 package net.particify.arsnova.core.websocket.handler;
 
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.event.EventListener;
@@ -14,6 +13,7 @@ import net.particify.arsnova.core.model.Room;
 import net.particify.arsnova.core.model.RoomSettings;
 import net.particify.arsnova.core.service.FeedbackStorageService;
 import net.particify.arsnova.core.service.RoomSettingsService;
+import net.particify.arsnova.core.websocket.ThrottledTopicPublisher;
 import net.particify.arsnova.core.websocket.message.CreateFeedback;
 import net.particify.arsnova.core.websocket.message.CreateFeedbackPayload;
 import net.particify.arsnova.core.websocket.message.FeedbackChanged;
@@ -30,16 +30,16 @@ import net.particify.arsnova.core.websocket.message.ResetFeedback;
     prefix = MessageBrokerProperties.PREFIX,
     havingValue = "true")
 public class FeedbackCommandHandler {
-  private final RabbitTemplate messagingTemplate;
+  private final ThrottledTopicPublisher topicPublisher;
   private final FeedbackStorageService feedbackStorage;
   private final RoomSettingsService roomSettingsService;
 
   public FeedbackCommandHandler(
-      final RabbitTemplate messagingTemplate,
+      final ThrottledTopicPublisher topicPublisher,
       final FeedbackStorageService feedbackStorage,
       final RoomSettingsService roomSettingsService
   ) {
-    this.messagingTemplate = messagingTemplate;
+    this.topicPublisher = topicPublisher;
     this.feedbackStorage = feedbackStorage;
     this.roomSettingsService = roomSettingsService;
   }
@@ -53,8 +53,7 @@ public class FeedbackCommandHandler {
       if (!settings.isSurveyEnabled()) {
         final FeedbackStopped stompEvent = new FeedbackStopped();
 
-        messagingTemplate.convertAndSend(
-            "amq.topic",
+        topicPublisher.publishImmediately(
             roomId + ".feedback.stream",
             stompEvent
         );
@@ -62,8 +61,7 @@ public class FeedbackCommandHandler {
       } else {
         final FeedbackStarted stompEvent = new FeedbackStarted();
 
-        messagingTemplate.convertAndSend(
-            "amq.topic",
+        topicPublisher.publishImmediately(
             roomId + ".feedback.stream",
             stompEvent
         );
@@ -88,8 +86,7 @@ public class FeedbackCommandHandler {
       feedbackChangedPayload.setValues(newVals);
       feedbackChanged.setPayload(feedbackChangedPayload);
 
-      messagingTemplate.convertAndSend(
-          "amq.topic",
+      topicPublisher.publishLatest(
           roomId + ".feedback.stream",
           feedbackChanged
       );
@@ -104,8 +101,7 @@ public class FeedbackCommandHandler {
 
     final FeedbackReset event = new FeedbackReset();
 
-    messagingTemplate.convertAndSend(
-        "amq.topic",
+    topicPublisher.publishImmediately(
         roomId + ".feedback.stream",
         event
     );
@@ -10,6 +10,14 @@ export let designDoc = {
       },
       "reduce": "_count"
     },
+    "by_renderedtextsversion": {
+      "map": function (doc) {
+        if (doc.type === "Announcement") {
+          emit(doc.renderedTexts ? doc.renderedTexts.rendererVersion : null, {_rev: doc._rev});
+        }
+      },
+      "reduce": "_count"
+    },
     "by_roomid": {
       "map": function (doc) {
         if (doc.type === "Announcement") {
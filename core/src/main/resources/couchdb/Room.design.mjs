@@ -10,6 +10,14 @@ export let designDoc = {
       },
       "reduce": "_count"
     },
+    "by_renderedtextsversion": {
+      "map": function (doc) {
+        if (doc.type === "Room") {
+          emit(doc.renderedTexts ? doc.renderedTexts.rendererVersion : null, {_rev: doc._rev});
+        }
+      },
+      "reduce": "_count"
+    },
     "by_shortid": {
       "map": function (doc) {
         if (doc.type === "Room") {
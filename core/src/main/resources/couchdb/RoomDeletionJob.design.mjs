@@ -0,0 +1,14 @@
+export let designDoc = {
+  "_id": "_design/RoomDeletionJob",
+  "language": "javascript",
+  "views": {
+    "by_id": {
+      "map": function (doc) {
+        if (doc.type === "RoomDeletionJob") {
+          emit(doc._id, {_rev: doc._rev});
+        }
+      },
+      "reduce": "_count"
+    }
+  }
+}
@@ -14,6 +14,7 @@ import net.particify.arsnova.core.persistence.ContentGroupTemplateRepository;
 import net.particify.arsnova.core.persistence.ContentRepository;
 import net.particify.arsnova.core.persistence.ContentTemplateRepository;
 import net.particify.arsnova.core.persistence.DeletionRepository;
+import net.particify.arsnova.core.persistence.LeaseRepository;
 import net.particify.arsnova.core.persistence.RoomRepository;
 import net.particify.arsnova.core.persistence.RoomSettingsRepository;
 import net.particify.arsnova.core.persistence.RoomUserAliasRepository;
@@ -34,6 +35,7 @@ import net.particify.arsnova.core.persistence.couchdb.support.MangoCouchDbConnec
   ContentRepository.class,
   ContentTemplateRepository.class,
   DeletionRepository.class,
+  LeaseRepository.class,
   MangoCouchDbConnector.class,
   RoomRepository.class,
   RoomSettingsRepository.class,
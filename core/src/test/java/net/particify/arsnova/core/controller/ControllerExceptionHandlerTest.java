@@ -0,0 +1,54 @@
+package net.particify.arsnova.core.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import net.particify.arsnova.core.web.exceptions.TooManyRequestsException;
+
+public class ControllerExceptionHandlerTest {
+  private final ControllerExceptionHandler handler =
+      new ControllerExceptionHandler(mock(ControllerExceptionHelper.class));
+
+  @Test
+  public void testRetryAfterIsSetInSeconds() {
+    final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    handler.handleTooManyRequestsException(
+        new TooManyRequestsException("Too many answers are pending.", Duration.ofMillis(5000)),
+        new MockHttpServletRequest(),
+        response);
+
+    assertEquals("5", response.getHeader(HttpHeaders.RETRY_AFTER));
+  }
+
+  @Test
+  public void testRetryAfterIsAtLeastOneSecond() {
+    final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    handler.handleTooManyRequestsException(
+        new TooManyRequestsException("Too many answers are pending.", Duration.ofMillis(200)),
+        new MockHttpServletRequest(),
+        response);
+
+    assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+  }
+
+  @Test
+  public void testRetryAfterIsOmittedIfUnknown() {
+    final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    handler.handleTooManyRequestsException(
+        new TooManyRequestsException("Too many requests.", null),
+        new MockHttpServletRequest(),
+        response);
+
+    assertNull(response.getHeader(HttpHeaders.RETRY_AFTER));
+  }
+}
@@ -0,0 +1,54 @@
+package net.particify.arsnova.core.management;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MonitoredTaskSchedulerTest {
+  private SimpleMeterRegistry meterRegistry;
+  private MonitoredTaskScheduler taskScheduler;
+
+  @BeforeEach
+  public void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    taskScheduler = new MonitoredTaskScheduler("TestScheduler", 1, meterRegistry);
+    taskScheduler.initialize();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    taskScheduler.shutdown();
+  }
+
+  @Test
+  public void testExecutionsAreRecorded() throws InterruptedException {
+    final CountDownLatch latch = new CountDownLatch(3);
+    taskScheduler.scheduleWithFixedDelay(new Runnable() {
+      @Override
+      public void run() {
+        latch.countDown();
+      }
+
+      @Override
+      public String toString() {
+        return "testTask";
+      }
+    }, Duration.ofMillis(10));
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    final Timer durationTimer = meterRegistry.get("arsnova.scheduling.task.duration")
+        .tag("scheduler", "TestScheduler")
+        .tag("task", "testTask")
+        .timer();
+    final Timer lagTimer = meterRegistry.get("arsnova.scheduling.task.lag").tag("task", "testTask").timer();
+    assertTrue(durationTimer.count() >= 2);
+    assertTrue(lagTimer.count() >= 3);
+  }
+}
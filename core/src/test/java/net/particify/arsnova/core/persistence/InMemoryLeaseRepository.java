@@ -0,0 +1,38 @@
+package net.particify.arsnova.core.persistence;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.particify.arsnova.core.model.Lease;
+
+/**
+ * In-memory stand-in for a lease repository which is shared by all nodes of a
+ * cluster.
+ */
+public class InMemoryLeaseRepository implements LeaseRepository {
+  private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+
+  @Override
+  public boolean tryAcquire(final String name, final String holder, final Duration duration) {
+    final Instant now = Instant.now();
+    final Lease lease = leases.compute(name, (k, current) -> {
+      if (current != null && current.isHeldByOther(holder, Date.from(now))) {
+        return current;
+      }
+      final Lease update = new Lease(name);
+      update.setHolder(holder);
+      update.setExpiresAt(Date.from(now.plus(duration)));
+      return update;
+    });
+
+    return holder.equals(lease.getHolder());
+  }
+
+  @Override
+  public void release(final String name, final String holder) {
+    leases.computeIfPresent(name, (k, current) -> holder.equals(current.getHolder()) ? null : current);
+  }
+}
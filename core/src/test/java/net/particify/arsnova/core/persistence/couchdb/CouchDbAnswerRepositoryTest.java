@@ -0,0 +1,37 @@
+package net.particify.arsnova.core.persistence.couchdb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.ektorp.CouchDbConnector;
+import org.ektorp.DocumentOperationResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import net.particify.arsnova.core.model.Answer;
+
+public class CouchDbAnswerRepositoryTest {
+  @Test
+  public void testErrorsOfBulkRequestAreMappedById() {
+    final CouchDbConnector db = mock(CouchDbConnector.class);
+    final CouchDbAnswerRepository repository = new CouchDbAnswerRepository(db, false);
+    repository.setApplicationEventPublisher(mock(ApplicationEventPublisher.class));
+    final List<Answer> answers = List.of(createAnswer("answer1"), createAnswer("answer2"), createAnswer("answer3"));
+    when(db.executeBulk(answers)).thenReturn(List.of(
+        DocumentOperationResult.newInstance("answer1", "conflict", "Document update conflict."),
+        DocumentOperationResult.newInstance("answer3", "forbidden", "Forbidden.")));
+
+    final Map<String, String> errors = repository.saveAllAndGetErrors(answers);
+
+    assertEquals(Map.of("answer1", "conflict", "answer3", "forbidden"), errors);
+  }
+
+  private Answer createAnswer(final String id) {
+    final Answer answer = new Answer();
+    answer.setId(id);
+    return answer;
+  }
+}
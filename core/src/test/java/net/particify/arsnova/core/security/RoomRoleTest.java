@@ -0,0 +1,47 @@
+package net.particify.arsnova.core.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+public class RoomRoleTest {
+  @Test
+  public void testHigherRolesIncludeLowerRoles() {
+    assertTrue(RoomRole.OWNER.includes(RoomRole.EDITOR));
+    assertTrue(RoomRole.MODERATOR.includes(RoomRole.MODERATOR));
+    assertFalse(RoomRole.PARTICIPANT.includes(RoomRole.MODERATOR));
+  }
+
+  @Test
+  public void testAuthoritiesAreIndexedByRoomId() {
+    final Map<String, RoomRole> index = RoomRole.indexAuthorities(List.of(
+        new SimpleGrantedAuthority("ROLE_USER"),
+        new SimpleGrantedAuthority("ROLE_PARTICIPANT__room1"),
+        new SimpleGrantedAuthority("ROLE_EDITOR__room1"),
+        new SimpleGrantedAuthority("ROLE_MODERATOR__room2"),
+        new SimpleGrantedAuthority("ROLE_UNKNOWN__room3")));
+
+    assertEquals(Map.of("room1", RoomRole.EDITOR, "room2", RoomRole.MODERATOR), index);
+  }
+
+  @Test
+  public void testIndexContainsAllMemberships() {
+    for (final int membershipCount : new int[] {1, 100, 1000}) {
+      final List<GrantedAuthority> authorities = new ArrayList<>();
+      for (int i = 0; i < membershipCount; i++) {
+        authorities.add(new SimpleGrantedAuthority("ROLE_PARTICIPANT__room" + i));
+      }
+      final Map<String, RoomRole> index = RoomRole.indexAuthorities(authorities);
+
+      assertEquals(membershipCount, index.size());
+      assertEquals(RoomRole.PARTICIPANT, index.get("room" + (membershipCount - 1)));
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package net.particify.arsnova.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.ektorp.DbAccessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import net.particify.arsnova.core.config.properties.SystemProperties;
+import net.particify.arsnova.core.model.Answer;
+import net.particify.arsnova.core.model.ChoiceAnswer;
+import net.particify.arsnova.core.persistence.AnswerRepository;
+
+public class AnswerBulkWriterTest {
+  private AnswerRepository answerRepository;
+  private SimpleMeterRegistry meterRegistry;
+  private AnswerBulkWriter writer;
+
+  @BeforeEach
+  public void setUp() {
+    final SystemProperties.AnswerQueue answerQueue = new SystemProperties.AnswerQueue();
+    answerQueue.setChunkSize(2);
+    answerQueue.setMaxRetries(1);
+    final SystemProperties systemProperties = new SystemProperties();
+    systemProperties.setAnswerQueue(answerQueue);
+    answerRepository = mock(AnswerRepository.class);
+    meterRegistry = new SimpleMeterRegistry();
+    writer = new AnswerBulkWriter(answerRepository, systemProperties, meterRegistry, Runnable::run);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testBatchIsSplitIntoChunks() {
+    final List<Answer> answers = createAnswers(5);
+    when(answerRepository.saveAllAndGetErrors(anyList())).thenReturn(Map.of());
+
+    final List<Answer> failedAnswers = writer.write(answers);
+
+    final ArgumentCaptor<List<Answer>> chunkCaptor = ArgumentCaptor.forClass(List.class);
+    verify(answerRepository, times(3)).saveAllAndGetErrors(chunkCaptor.capture());
+    assertEquals(
+        List.of(answers.subList(0, 2), answers.subList(2, 4), answers.subList(4, 5)),
+        chunkCaptor.getAllValues());
+    assertEquals(List.of(), failedAnswers);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testFailedAnswersAreRetried() {
+    final List<Answer> answers = createAnswers(2);
+    when(answerRepository.saveAllAndGetErrors(anyList()))
+        .thenReturn(Map.of("answer-1", "unknown_error"))
+        .thenReturn(Map.of());
+
+    final List<Answer> failedAnswers = writer.write(answers);
+
+    final ArgumentCaptor<List<Answer>> chunkCaptor = ArgumentCaptor.forClass(List.class);
+    verify(answerRepository, times(2)).saveAllAndGetErrors(chunkCaptor.capture());
+    assertEquals(List.of(answers.get(1)), chunkCaptor.getAllValues().get(1));
+    assertEquals(List.of(), failedAnswers);
+    assertEquals(1, meterRegistry.counter("arsnova.answers.flush.retries").count());
+  }
+
+  @Test
+  public void testConflictsAreNotRetried() {
+    final List<Answer> answers = createAnswers(2);
+    when(answerRepository.saveAllAndGetErrors(anyList())).thenReturn(Map.of("answer-0", "conflict"));
+
+    final List<Answer> failedAnswers = writer.write(answers);
+
+    verify(answerRepository, times(1)).saveAllAndGetErrors(anyList());
+    assertEquals(List.of(), failedAnswers);
+  }
+
+  @Test
+  public void testFailedRequestsAreRetried() {
+    final List<Answer> answers = createAnswers(2);
+    when(answerRepository.saveAllAndGetErrors(anyList()))
+        .thenThrow(new DbAccessException("Service unavailable"))
+        .thenReturn(Map.of());
+
+    final List<Answer> failedAnswers = writer.write(answers);
+
+    verify(answerRepository, times(2)).saveAllAndGetErrors(answers);
+    assertEquals(List.of(), failedAnswers);
+  }
+
+  @Test
+  public void testAnswersAreReturnedAfterMaxRetries() {
+    final List<Answer> answers = createAnswers(3);
+    when(answerRepository.saveAllAndGetErrors(anyList())).thenReturn(Map.of("answer-2", "forbidden"));
+
+    final List<Answer> failedAnswers = writer.write(answers);
+
+    verify(answerRepository, times(3)).saveAllAndGetErrors(anyList());
+    assertEquals(List.of(answers.get(2)), failedAnswers);
+    assertEquals(1, meterRegistry.counter("arsnova.answers.flush.failures").count());
+  }
+
+  private List<Answer> createAnswers(final int count) {
+    return IntStream.range(0, count).mapToObj(i -> createAnswer("answer-" + i)).toList();
+  }
+
+  private Answer createAnswer(final String id) {
+    final ChoiceAnswer answer = new ChoiceAnswer();
+    answer.setId(id);
+    answer.setContentId("content");
+    answer.setSelectedChoiceIndexes(List.of(0));
+    return answer;
+  }
+}
@@ -0,0 +1,158 @@
+package net.particify.arsnova.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import net.particify.arsnova.core.config.properties.SystemProperties;
+import net.particify.arsnova.core.model.Answer;
+import net.particify.arsnova.core.model.ChoiceAnswer;
+
+public class AnswerQueueJournalTest {
+  private static final int MAX_REPLAY_ATTEMPTS = 3;
+
+  @TempDir
+  private Path directory;
+
+  private SimpleMeterRegistry meterRegistry;
+  private AnswerQueueJournal journal;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    meterRegistry = new SimpleMeterRegistry();
+    journal = createJournal(directory, Duration.ZERO);
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    journal.destroy();
+  }
+
+  @Test
+  public void testRetainedSegmentIsReplayedOnce() {
+    journal.append(createAnswer("answer1"), () -> { });
+    journal.append(createAnswer("answer2"), () -> { });
+    final Path segment = journal.rotate(() -> { });
+    journal.retain(segment, List.of());
+
+    final List<String> replayedIds = new ArrayList<>();
+    journal.replayRetained(a -> replayedIds.add(a.getId()));
+    journal.replayRetained(a -> replayedIds.add(a.getId()));
+
+    assertEquals(List.of("answer1", "answer2"), replayedIds);
+    assertFalse(Files.exists(segment));
+  }
+
+  @Test
+  public void testSegmentIsRetainedAgainIfReplayFails() {
+    journal.append(createAnswer("answer1"), () -> { });
+    final Path segment = journal.rotate(() -> { });
+    journal.retain(segment, List.of());
+
+    assertThrows(IllegalStateException.class, () -> journal.replayRetained(a -> {
+      throw new IllegalStateException();
+    }));
+    assertTrue(Files.exists(segment));
+
+    final List<String> replayedIds = new ArrayList<>();
+    journal.replayRetained(a -> replayedIds.add(a.getId()));
+
+    assertEquals(List.of("answer1"), replayedIds);
+  }
+
+  @Test
+  public void testRetainedSegmentIsNotReplayedBeforeBackoffHasElapsed() throws IOException {
+    final AnswerQueueJournal backoffJournal = createJournal(directory.resolve("backoff"), Duration.ofHours(1));
+    try {
+      backoffJournal.append(createAnswer("answer1"), () -> { });
+      final Path segment = backoffJournal.rotate(() -> { });
+      backoffJournal.retain(segment, List.of());
+
+      final List<String> replayedIds = new ArrayList<>();
+      backoffJournal.replayRetained(a -> replayedIds.add(a.getId()));
+
+      assertEquals(List.of(), replayedIds);
+      assertTrue(Files.exists(segment));
+    } finally {
+      backoffJournal.destroy();
+    }
+  }
+
+  @Test
+  public void testAnswersAreMovedToDeadLettersAfterMaxAttempts() throws IOException {
+    final Answer failingAnswer = createAnswer("answer1");
+    journal.append(failingAnswer, () -> { });
+    journal.append(createAnswer("answer2"), () -> { });
+    final List<String> replayedIds = new ArrayList<>();
+    Path segment = null;
+    for (int i = 0; i < MAX_REPLAY_ATTEMPTS; i++) {
+      segment = journal.rotate(() -> { });
+      journal.retain(segment, List.of(failingAnswer));
+      replayedIds.clear();
+      journal.replayRetained(a -> {
+        replayedIds.add(a.getId());
+        journal.append(a, () -> { });
+      });
+    }
+
+    assertEquals(List.of("answer2"), replayedIds);
+    assertFalse(Files.exists(segment));
+    final List<String> deadLetters = Files.readAllLines(directory.resolve("dead-letter-3.jsonl"));
+    assertEquals(1, deadLetters.size());
+    assertTrue(deadLetters.get(0).contains("\"answer1\""));
+    assertEquals(1, meterRegistry.counter("arsnova.answers.journal.dead.letters").count());
+  }
+
+  @Test
+  public void testSegmentIsMovedToDeadLettersIfReplayKeepsFailing() {
+    journal.append(createAnswer("answer1"), () -> { });
+    final Path segment = journal.rotate(() -> { });
+    journal.retain(segment, List.of());
+
+    for (int i = 1; i < MAX_REPLAY_ATTEMPTS; i++) {
+      assertThrows(IllegalStateException.class, () -> journal.replayRetained(a -> {
+        throw new IllegalStateException();
+      }));
+    }
+    final List<String> replayedIds = new ArrayList<>();
+    journal.replayRetained(a -> replayedIds.add(a.getId()));
+
+    assertEquals(List.of(), replayedIds);
+    assertFalse(Files.exists(segment));
+    assertTrue(Files.exists(directory.resolve("dead-letter-1.jsonl")));
+    assertEquals(1, meterRegistry.counter("arsnova.answers.journal.dead.letters").count());
+  }
+
+  private AnswerQueueJournal createJournal(final Path path, final Duration replayBackoff) throws IOException {
+    final SystemProperties.AnswerJournal answerJournal = new SystemProperties.AnswerJournal();
+    answerJournal.setEnabled(true);
+    answerJournal.setPath(path.toString());
+    answerJournal.setSyncInterval(Duration.ZERO);
+    answerJournal.setReplayBackoff(replayBackoff);
+    answerJournal.setMaxReplayAttempts(MAX_REPLAY_ATTEMPTS);
+    final SystemProperties systemProperties = new SystemProperties();
+    systemProperties.setAnswerJournal(answerJournal);
+    return new AnswerQueueJournal(systemProperties, meterRegistry, null);
+  }
+
+  private Answer createAnswer(final String id) {
+    final ChoiceAnswer answer = new ChoiceAnswer();
+    answer.setId(id);
+    answer.setContentId("content");
+    answer.setSelectedChoiceIndexes(List.of(0));
+    return answer;
+  }
+}
@@ -0,0 +1,128 @@
+package net.particify.arsnova.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.validation.Validator;
+
+import net.particify.arsnova.core.config.properties.SystemProperties;
+import net.particify.arsnova.core.model.ChoiceAnswer;
+import net.particify.arsnova.core.model.ChoiceQuestionContent;
+import net.particify.arsnova.core.model.Content;
+import net.particify.arsnova.core.persistence.AnswerRepository;
+import net.particify.arsnova.core.persistence.DeletionRepository;
+import net.particify.arsnova.core.security.AuthenticationService;
+import net.particify.arsnova.core.security.User;
+import net.particify.arsnova.core.service.exceptions.AlreadyAnsweredContentException;
+import net.particify.arsnova.core.web.exceptions.TooManyRequestsException;
+
+public class AnswerServiceImplTest {
+  private static final Duration MAX_AGE = Duration.ofMillis(5000);
+  private static final String CONTENT_ID = "content";
+  private static final String USER_ID = "user";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private SystemProperties.AnswerQueue answerQueue;
+  private ContentService contentService;
+  private AnswerServiceImpl answerService;
+
+  @BeforeEach
+  public void setUp() {
+    answerQueue = new SystemProperties.AnswerQueue();
+    answerQueue.setMaxAge(MAX_AGE);
+    answerQueue.setFlushSize(10);
+    answerQueue.setHighWaterMark(100);
+    final SystemProperties systemProperties = new SystemProperties();
+    systemProperties.setAnswerQueue(answerQueue);
+    contentService = mock(ContentService.class);
+    final AuthenticationService authenticationService = mock(AuthenticationService.class);
+    when(authenticationService.getCurrentUser()).thenReturn(new User(USER_ID, List.of()));
+    answerService = new AnswerServiceImpl(
+        mock(AnswerRepository.class),
+        mock(DeletionRepository.class),
+        mock(RoomUserAliasService.class),
+        authenticationService,
+        new AnswerStatisticsAggregator(),
+        new AnsweredUsersIndex(),
+        mock(LeaderboardEngine.class),
+        mock(AnswerBulkWriter.class),
+        systemProperties,
+        meterRegistry,
+        new MappingJackson2HttpMessageConverter(),
+        mock(Validator.class));
+    answerService.setContentService(contentService);
+    answerService.setApplicationEventPublisher(mock(ApplicationEventPublisher.class));
+  }
+
+  @Test
+  public void testAnswersAreRejectedAboveHighWaterMark() {
+    answerQueue.setHighWaterMark(0);
+
+    final TooManyRequestsException exception =
+        assertThrows(TooManyRequestsException.class, () -> answerService.create(createAnswer()));
+
+    assertEquals(MAX_AGE, exception.getRetryAfter());
+    assertEquals(1, meterRegistry.counter("arsnova.answers.queue.rejected").count());
+    verify(contentService, never()).get(any(String.class));
+  }
+
+  @Test
+  public void testUserCanAnswerAgainIfAnswerIsRejected() {
+    mockContent();
+    answerQueue.setHighWaterMark(0);
+    assertThrows(TooManyRequestsException.class, () -> answerService.create(createAnswer()));
+    answerQueue.setHighWaterMark(100);
+
+    answerService.create(createAnswer());
+
+    assertThrows(AlreadyAnsweredContentException.class, () -> answerService.create(createAnswer()));
+  }
+
+  @Test
+  public void testUserCanAnswerAgainIfJournalingFails() {
+    mockContent();
+    final AnswerQueueJournal answerQueueJournal = mock(AnswerQueueJournal.class);
+    doThrow(new UncheckedIOException(new IOException())).doAnswer(invocation -> {
+      invocation.<Runnable>getArgument(1).run();
+      return null;
+    }).when(answerQueueJournal).append(any(), any());
+    answerService.setAnswerQueueJournal(answerQueueJournal);
+
+    assertThrows(UncheckedIOException.class, () -> answerService.create(createAnswer()));
+    answerService.create(createAnswer());
+
+    assertThrows(AlreadyAnsweredContentException.class, () -> answerService.create(createAnswer()));
+  }
+
+  private void mockContent() {
+    final ChoiceQuestionContent content = new ChoiceQuestionContent();
+    content.setId(CONTENT_ID);
+    content.setRoomId("room");
+    content.setFormat(Content.Format.CHOICE);
+    content.setOptions(List.of(new ChoiceQuestionContent.AnswerOption("A")));
+    content.getState().setRound(1);
+    when(contentService.get(CONTENT_ID)).thenReturn(content);
+  }
+
+  private ChoiceAnswer createAnswer() {
+    final ChoiceAnswer answer = new ChoiceAnswer();
+    answer.setContentId(CONTENT_ID);
+    answer.setSelectedChoiceIndexes(List.of(0));
+    return answer;
+  }
+}
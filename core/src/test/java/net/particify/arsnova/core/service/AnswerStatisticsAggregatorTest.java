@@ -0,0 +1,160 @@
+package net.particify.arsnova.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import net.particify.arsnova.core.model.ChoiceAnswer;
+
+public class AnswerStatisticsAggregatorTest {
+  private static final String CONTENT_ID = "content";
+
+  private AnswerStatisticsAggregator aggregator;
+
+  @BeforeEach
+  public void setUp() {
+    aggregator = new AnswerStatisticsAggregator();
+  }
+
+  @Test
+  public void testTallyIsLoadedOnlyOnce() {
+    final AtomicInteger loadCount = new AtomicInteger();
+    final AnswerStatisticsAggregator.Tally tally = aggregator.get(CONTENT_ID, 1, () -> {
+      loadCount.incrementAndGet();
+      return new AnswerStatisticsAggregator.Tally();
+    });
+    assertSame(tally, aggregator.get(CONTENT_ID, 1, AnswerStatisticsAggregator.Tally::new));
+    assertEquals(1, loadCount.get());
+  }
+
+  @Test
+  public void testRecordedAnswersAreAddedToLoadedTally() {
+    final AnswerStatisticsAggregator.Tally tally = aggregator.get(CONTENT_ID, 1, () ->
+        AnswerStatisticsAggregator.Tally.of(List.of(createChoiceAnswer(1, 0, 2))));
+    final List<ChoiceAnswer> answers =
+        List.of(createChoiceAnswer(1, 0, 2), createChoiceAnswer(1), createChoiceAnswer(2, 1));
+    aggregator.beginRecording(answers);
+    aggregator.completeRecording(answers, answers);
+
+    assertEquals(2, tally.getAnswerCount());
+    assertEquals(1, tally.getAbstentionCount());
+    assertEquals(2, tally.getChoiceCombinationCounts().get(List.of(0, 2)));
+  }
+
+  @Test
+  public void testFailedAnswersAreNotAddedToTally() {
+    final AnswerStatisticsAggregator.Tally tally = aggregator.get(CONTENT_ID, 1, AnswerStatisticsAggregator.Tally::new);
+    final List<ChoiceAnswer> answers = List.of(createChoiceAnswer(1, 0), createChoiceAnswer(1, 1));
+    aggregator.beginRecording(answers);
+    aggregator.completeRecording(answers, answers.subList(0, 1));
+
+    assertEquals(1, tally.getAnswerCount());
+    assertEquals(1, tally.getChoiceCombinationCounts().get(List.of(0)));
+  }
+
+  @Test
+  public void testTallyLoadedWhileWritingIsNotKept() {
+    final List<ChoiceAnswer> answers = List.of(createChoiceAnswer(1, 0));
+    aggregator.beginRecording(answers);
+    final AnswerStatisticsAggregator.Tally pendingTally = aggregator.get(CONTENT_ID, 1, () ->
+        AnswerStatisticsAggregator.Tally.of(answers));
+    aggregator.completeRecording(answers, answers);
+    final AnswerStatisticsAggregator.Tally tally = aggregator.get(CONTENT_ID, 1, () ->
+        AnswerStatisticsAggregator.Tally.of(answers));
+
+    assertNotSame(pendingTally, tally);
+    assertEquals(1, tally.getAnswerCount());
+  }
+
+  @Test
+  public void testTallyLoadedWhileAnswersWereWrittenIsNotKept() {
+    final List<ChoiceAnswer> answers = List.of(createChoiceAnswer(1, 0));
+    // The answers are written by another thread while the tally is loaded.
+    final AnswerStatisticsAggregator.Tally staleTally = aggregator.get(CONTENT_ID, 1, () -> {
+      aggregator.beginRecording(answers);
+      aggregator.completeRecording(answers, answers);
+      return AnswerStatisticsAggregator.Tally.of(answers);
+    });
+    final AnswerStatisticsAggregator.Tally tally = aggregator.get(CONTENT_ID, 1, () ->
+        AnswerStatisticsAggregator.Tally.of(answers));
+
+    assertNotSame(staleTally, tally);
+    assertEquals(1, tally.getAnswerCount());
+  }
+
+  @Test
+  public void testConcurrentRequestsShareLoad() throws Exception {
+    final AtomicInteger loadCount = new AtomicInteger();
+    final CountDownLatch loadStarted = new CountDownLatch(1);
+    final CountDownLatch loadReleased = new CountDownLatch(1);
+    final CompletableFuture<AnswerStatisticsAggregator.Tally> first = CompletableFuture.supplyAsync(() ->
+        aggregator.get(CONTENT_ID, 1, () -> {
+          loadCount.incrementAndGet();
+          loadStarted.countDown();
+          awaitUninterruptibly(loadReleased);
+          return new AnswerStatisticsAggregator.Tally();
+        }));
+    loadStarted.await();
+    final CompletableFuture<AnswerStatisticsAggregator.Tally> second = CompletableFuture.supplyAsync(() ->
+        aggregator.get(CONTENT_ID, 1, () -> {
+          loadCount.incrementAndGet();
+          return new AnswerStatisticsAggregator.Tally();
+        }));
+    loadReleased.countDown();
+
+    assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+    assertEquals(1, loadCount.get());
+  }
+
+  @Test
+  public void testFailedLoadIsNotKept() {
+    assertThrows(IllegalStateException.class, () -> aggregator.get(CONTENT_ID, 1, () -> {
+      throw new IllegalStateException();
+    }));
+    final AnswerStatisticsAggregator.Tally tally =
+        aggregator.get(CONTENT_ID, 1, AnswerStatisticsAggregator.Tally::new);
+
+    assertEquals(0, tally.getAnswerCount());
+  }
+
+  @Test
+  public void testInvalidationForcesReload() {
+    final AtomicInteger loadCount = new AtomicInteger();
+    aggregator.get(CONTENT_ID, 1, () -> {
+      loadCount.incrementAndGet();
+      return new AnswerStatisticsAggregator.Tally();
+    });
+    aggregator.invalidate(CONTENT_ID);
+    aggregator.get(CONTENT_ID, 1, () -> {
+      loadCount.incrementAndGet();
+      return new AnswerStatisticsAggregator.Tally();
+    });
+
+    assertEquals(2, loadCount.get());
+  }
+
+  private void awaitUninterruptibly(final CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private ChoiceAnswer createChoiceAnswer(final int round, final Integer... selectedChoiceIndexes) {
+    final ChoiceAnswer answer = new ChoiceAnswer();
+    answer.setContentId(CONTENT_ID);
+    answer.setRound(round);
+    answer.setSelectedChoiceIndexes(List.of(selectedChoiceIndexes));
+    return answer;
+  }
+}
@@ -0,0 +1,90 @@
+package net.particify.arsnova.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import net.particify.arsnova.core.event.AfterDeletionEvent;
+import net.particify.arsnova.core.event.AfterFullUpdateEvent;
+import net.particify.arsnova.core.model.Answer;
+import net.particify.arsnova.core.model.Content;
+
+public class AnsweredUsersIndexTest {
+  private static final String CONTENT_ID = "content";
+
+  private final AtomicInteger loadCount = new AtomicInteger();
+  private AnsweredUsersIndex index;
+
+  @BeforeEach
+  public void setUp() {
+    index = new AnsweredUsersIndex();
+  }
+
+  @Test
+  public void testDuplicateAnswersAreDetected() {
+    assertTrue(add(1, "a"));
+    assertFalse(add(1, "a"));
+    assertFalse(add(1, "loaded"));
+    assertTrue(add(1, "b"));
+    assertEquals(1, loadCount.get());
+  }
+
+  @Test
+  public void testRoundsAreIndexedSeparately() {
+    assertTrue(add(1, "a"));
+    assertTrue(add(2, "a"));
+    assertFalse(add(2, "a"));
+    assertEquals(2, loadCount.get());
+  }
+
+  @Test
+  public void testRemovedUserCanAnswerAgain() {
+    assertTrue(add(1, "a"));
+    index.remove(CONTENT_ID, 1, "a");
+
+    assertTrue(add(1, "a"));
+    assertEquals(1, loadCount.get());
+  }
+
+  @Test
+  public void testAnswerDeletionInvalidatesContent() {
+    assertTrue(add(1, "a"));
+    final Answer answer = new Answer();
+    answer.setContentId(CONTENT_ID);
+    index.handleAnswerDeletion(new AfterDeletionEvent<>(this, answer));
+
+    assertTrue(add(1, "a"));
+    assertEquals(2, loadCount.get());
+  }
+
+  @Test
+  public void testNewRoundInvalidatesContent() {
+    assertTrue(add(1, "a"));
+    index.handleContentUpdate(new AfterFullUpdateEvent<>(this, createContent(1), createContent(1), Map.of()));
+    assertFalse(add(1, "a"));
+
+    index.handleContentUpdate(new AfterFullUpdateEvent<>(this, createContent(2), createContent(1), Map.of()));
+    assertTrue(add(1, "a"));
+    assertEquals(2, loadCount.get());
+  }
+
+  private boolean add(final int round, final String userId) {
+    return index.add(CONTENT_ID, round, userId, () -> {
+      loadCount.incrementAndGet();
+      return Set.of("loaded");
+    });
+  }
+
+  private Content createContent(final int round) {
+    final Content content = new Content();
+    content.setId(CONTENT_ID);
+    content.getState().setRound(round);
+    return content;
+  }
+}
@@ -0,0 +1,52 @@
+package net.particify.arsnova.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CircuitBreakerTest {
+  private SimpleMeterRegistry meterRegistry;
+  private CircuitBreaker circuitBreaker;
+
+  @BeforeEach
+  public void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    circuitBreaker = new CircuitBreaker("test", 2, Duration.ofMillis(50), meterRegistry);
+  }
+
+  @Test
+  public void testCircuitOpensAfterConsecutiveFailures() {
+    circuitBreaker.onFailure();
+    circuitBreaker.onSuccess();
+    circuitBreaker.onFailure();
+    assertTrue(circuitBreaker.tryAcquirePermission());
+    circuitBreaker.onFailure();
+
+    assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    assertFalse(circuitBreaker.tryAcquirePermission());
+  }
+
+  @Test
+  public void testSingleProbeIsPermittedWhenHalfOpen() throws InterruptedException {
+    circuitBreaker.onFailure();
+    circuitBreaker.onFailure();
+    Thread.sleep(100);
+
+    assertTrue(circuitBreaker.tryAcquirePermission());
+    assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+    assertFalse(circuitBreaker.tryAcquirePermission());
+    circuitBreaker.onFailure();
+    assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    Thread.sleep(100);
+    assertTrue(circuitBreaker.tryAcquirePermission());
+    circuitBreaker.onSuccess();
+
+    assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    assertEquals(2, meterRegistry.get("arsnova.circuitbreaker.transitions").tag("state", "OPEN").counter().count());
+  }
+}
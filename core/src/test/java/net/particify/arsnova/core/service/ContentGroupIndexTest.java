@@ -0,0 +1,74 @@
+package net.particify.arsnova.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import net.particify.arsnova.core.event.AfterCreationEvent;
+import net.particify.arsnova.core.model.ContentGroup;
+
+public class ContentGroupIndexTest {
+  private static final String ROOM_ID = "room";
+
+  private ContentGroupIndex index;
+
+  @BeforeEach
+  public void setUp() {
+    index = new ContentGroupIndex();
+  }
+
+  @Test
+  public void testPublishingStateIsIndexed() {
+    final ContentGroup upTo = createContentGroup("group1", List.of("a", "b", "c"), ContentGroup.PublishingMode.UP_TO);
+    upTo.setPublishingIndex(1);
+    upTo.setCorrectOptionsPublished(true);
+    final ContentGroup all = createContentGroup("group2", List.of("c", "d"), ContentGroup.PublishingMode.ALL);
+    all.setPublished(false);
+    final ContentGroupIndex.RoomIndex roomIndex = index.get(ROOM_ID, () -> List.of(upTo, all));
+
+    assertTrue(roomIndex.isContentPublished("b"));
+    assertTrue(roomIndex.areCorrectOptionsPublished("b"));
+    assertFalse(roomIndex.isContentPublished("c"));
+    assertFalse(roomIndex.isContentPublished("e"));
+    assertEquals(2, roomIndex.getMemberships("c").size());
+    assertEquals(Set.of("a", "b", "c", "d"), roomIndex.getContentIds());
+  }
+
+  @Test
+  public void testContentGroupChangeForcesReload() {
+    final AtomicInteger loadCount = new AtomicInteger();
+    final ContentGroup contentGroup = createContentGroup("group1", List.of("a"), ContentGroup.PublishingMode.ALL);
+    index.get(ROOM_ID, () -> {
+      loadCount.incrementAndGet();
+      return List.of(contentGroup);
+    });
+    index.get(ROOM_ID, () -> {
+      loadCount.incrementAndGet();
+      return List.of(contentGroup);
+    });
+    index.handleContentGroupCreation(new AfterCreationEvent<>(this, contentGroup));
+    index.get(ROOM_ID, () -> {
+      loadCount.incrementAndGet();
+      return List.of(contentGroup);
+    });
+
+    assertEquals(2, loadCount.get());
+  }
+
+  private ContentGroup createContentGroup(
+      final String id, final List<String> contentIds, final ContentGroup.PublishingMode publishingMode) {
+    final ContentGroup contentGroup = new ContentGroup(ROOM_ID, id);
+    contentGroup.setId(id);
+    contentGroup.setContentIds(new ArrayList<>(contentIds));
+    contentGroup.setPublished(true);
+    contentGroup.setPublishingMode(publishingMode);
+    return contentGroup;
+  }
+}
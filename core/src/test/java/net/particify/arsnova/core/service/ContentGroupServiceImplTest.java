@@ -0,0 +1,145 @@
+package net.particify.arsnova.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+import net.particify.arsnova.core.model.ChoiceQuestionContent;
+import net.particify.arsnova.core.model.Content;
+import net.particify.arsnova.core.model.ContentGroup;
+import net.particify.arsnova.core.model.EntityValidationException;
+import net.particify.arsnova.core.model.export.ContentCsvImportSummary;
+import net.particify.arsnova.core.model.export.ContentExport;
+import net.particify.arsnova.core.persistence.ContentGroupRepository;
+import net.particify.arsnova.core.persistence.DeletionRepository;
+
+public class ContentGroupServiceImplTest {
+  private static final String ROOM_ID = "room";
+
+  private final CsvService csvService = new CsvService();
+  private ContentGroupRepository contentGroupRepository;
+  private ContentService contentService;
+  private ContentGroupServiceImpl contentGroupService;
+  private final List<Content> createdContents = new ArrayList<>();
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    contentGroupRepository = mock(ContentGroupRepository.class);
+    contentService = mock(ContentService.class);
+    contentGroupService = new ContentGroupServiceImpl(
+        contentGroupRepository,
+        mock(DeletionRepository.class),
+        csvService,
+        mock(ContentGroupIndex.class),
+        new MappingJackson2HttpMessageConverter(),
+        mock(Validator.class));
+    contentGroupService.setContentService(contentService);
+    contentGroupService.setApplicationEventPublisher(mock(ApplicationEventPublisher.class));
+    when(contentGroupRepository.save(any(ContentGroup.class))).then(returnsFirstArg());
+    // Contents without a body are rejected like the validator would do.
+    when(contentService.create(anyList(), any())).thenAnswer(invocation -> {
+      final List<Content> contents = invocation.getArgument(0);
+      final Consumer<EntityValidationException> rejectionHandler = invocation.getArgument(1);
+      for (final Content content : contents) {
+        if (content.getBody().isEmpty()) {
+          final Errors errors = new BeanPropertyBindingResult(content, Content.class.getName());
+          errors.rejectValue("body", "NotBlank", "must not be blank");
+          rejectionHandler.accept(new EntityValidationException(errors, content));
+          continue;
+        }
+        content.setId("content-" + (createdContents.size() + 1));
+        createdContents.add(content);
+      }
+      return new ArrayList<>(createdContents);
+    });
+    when(contentService.get(anyList())).thenAnswer(invocation -> createdContents);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testInvalidLinesAreSkippedAndReported() throws IOException {
+    final ContentGroup contentGroup = createContentGroup(ContentGroup.GroupType.MIXED);
+    final byte[] csv = csvService.toCsv(List.of(
+        createChoiceExport("Valid choice", "A", "B"),
+        createChoiceExport("Single option", "A"),
+        createTextExport(""),
+        createTextExport("Valid text")), ContentExport.class);
+
+    final ContentCsvImportSummary summary =
+        contentGroupService.importFromCsv(new ByteArrayInputStream(csv), contentGroup);
+
+    assertEquals(4, summary.totalLines());
+    assertEquals(2, summary.importedLines());
+    assertEquals(List.of(2, 3), summary.errorLines());
+    assertEquals(
+        List.of(
+            new ContentCsvImportSummary.LineError(2, "Invalid options for content format."),
+            new ContentCsvImportSummary.LineError(3, "body: must not be blank")),
+        summary.errors());
+    assertEquals(List.of("content-1", "content-2"), contentGroup.getContentIds());
+
+    final ArgumentCaptor<List<Content>> contentCaptor = ArgumentCaptor.forClass(List.class);
+    verify(contentService, times(1)).create(contentCaptor.capture(), any());
+    assertEquals(3, contentCaptor.getValue().size());
+    assertEquals(ROOM_ID, contentCaptor.getValue().get(0).getRoomId());
+  }
+
+  @Test
+  public void testIncompatibleContentsAreReported() throws IOException {
+    final ContentGroup contentGroup = createContentGroup(ContentGroup.GroupType.FLASHCARDS);
+    final byte[] csv = csvService.toCsv(List.of(createTextExport("Text")), ContentExport.class);
+
+    final ContentCsvImportSummary summary =
+        contentGroupService.importFromCsv(new ByteArrayInputStream(csv), contentGroup);
+
+    assertEquals(1, summary.totalLines());
+    assertEquals(0, summary.importedLines());
+    assertEquals(
+        List.of(new ContentCsvImportSummary.LineError(1, "Content format is not supported by content group type.")),
+        summary.errors());
+    verify(contentService, times(0)).create(anyList(), any());
+  }
+
+  private ContentGroup createContentGroup(final ContentGroup.GroupType groupType) {
+    final ContentGroup contentGroup = new ContentGroup();
+    contentGroup.setRoomId(ROOM_ID);
+    contentGroup.setName("Imported");
+    contentGroup.setGroupType(groupType);
+    return contentGroup;
+  }
+
+  private ContentExport createChoiceExport(final String body, final String... options) {
+    final ChoiceQuestionContent content = new ChoiceQuestionContent();
+    content.setFormat(Content.Format.CHOICE);
+    content.setBody(body);
+    content.setOptions(List.of(options).stream().map(ChoiceQuestionContent.AnswerOption::new).toList());
+    return new ContentExport(content);
+  }
+
+  private ContentExport createTextExport(final String body) {
+    final Content content = new Content();
+    content.setFormat(Content.Format.TEXT);
+    content.setBody(body);
+    return new ContentExport(content);
+  }
+}
@@ -0,0 +1,77 @@
+package net.particify.arsnova.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import net.particify.arsnova.core.model.ChoiceQuestionContent;
+import net.particify.arsnova.core.model.Content;
+import net.particify.arsnova.core.model.export.ContentExport;
+import net.particify.arsnova.core.model.export.CsvImportLineResult;
+
+public class CsvServiceTest {
+  private final CsvService csvService = new CsvService();
+
+  @Test
+  public void testStreamedCsvMatchesSerializedCsv() throws IOException {
+    final List<ContentExport> exports = createExports();
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    csvService.writeCsv(exports, ContentExport.class, StandardCharsets.UTF_8, out);
+
+    assertArrayEquals(csvService.toCsv(exports, ContentExport.class), out.toByteArray());
+  }
+
+  @Test
+  public void testStreamedTsvMatchesSerializedTsv() throws IOException {
+    final List<ContentExport> exports = createExports();
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    csvService.writeTsv(exports, ContentExport.class, StandardCharsets.UTF_16LE, out);
+
+    assertArrayEquals(
+        csvService.toTsv(exports, ContentExport.class, StandardCharsets.UTF_16LE), out.toByteArray());
+  }
+
+  @Test
+  public void testStreamedTsvCanBeParsed() throws IOException {
+    final byte[] tsv = csvService.toTsv(createExportsWithFormat(), ContentExport.class);
+    final List<CsvImportLineResult<ContentExport>> results =
+        csvService.toObject(new ByteArrayInputStream(tsv), ContentExport.class);
+
+    assertEquals(2, results.size());
+    assertEquals("Which \"option\"?", results.get(0).data().getBody());
+    assertEquals(List.of("A", "B, C"), results.get(0).data().getOptions());
+    assertEquals(Content.Format.TEXT, results.get(1).data().getFormat());
+    assertEquals(2, results.get(1).line());
+  }
+
+  private List<ContentExport> createExports() {
+    final ChoiceQuestionContent choiceContent = new ChoiceQuestionContent();
+    choiceContent.setBody("Which \"option\"?");
+    choiceContent.setOptions(List.of(
+        new ChoiceQuestionContent.AnswerOption("A"),
+        new ChoiceQuestionContent.AnswerOption("B, C")));
+    final Content textContent = new Content();
+    textContent.setFormat(Content.Format.TEXT);
+    textContent.setBody("Line 1\nLine 2");
+    return List.of(new ContentExport(choiceContent), new ContentExport(textContent));
+  }
+
+  private List<ContentExport> createExportsWithFormat() {
+    final ChoiceQuestionContent choiceContent = new ChoiceQuestionContent();
+    choiceContent.setFormat(Content.Format.CHOICE);
+    choiceContent.setBody("Which \"option\"?");
+    choiceContent.setOptions(List.of(
+        new ChoiceQuestionContent.AnswerOption("A"),
+        new ChoiceQuestionContent.AnswerOption("B, C")));
+    final Content textContent = new Content();
+    textContent.setFormat(Content.Format.TEXT);
+    textContent.setBody("Line 1\nLine 2");
+    return List.of(new ContentExport(choiceContent), new ContentExport(textContent));
+  }
+}
@@ -25,6 +25,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -59,7 +61,9 @@ import net.particify.arsnova.core.config.TestPersistanceConfig;
 import net.particify.arsnova.core.config.TestSecurityConfig;
 import net.particify.arsnova.core.event.AfterUpdateEvent;
 import net.particify.arsnova.core.event.BeforeUpdateEvent;
+import net.particify.arsnova.core.event.BulkChangeEvent;
 import net.particify.arsnova.core.model.ContentGroup;
+import net.particify.arsnova.core.model.Entity;
 import net.particify.arsnova.core.model.Room;
 import net.particify.arsnova.core.model.serialization.View;
 import net.particify.arsnova.core.persistence.ContentGroupRepository;
@@ -364,6 +368,58 @@ public class DefaultEntityServiceImplTest {
     assertThrows(ValidationException.class, () -> entityService.create(room1));
   }
 
+  @Test
+  @WithMockUser("TestUser")
+  public void testBulkCreateWritesChunksAndPublishesSingleBulkChangeEvent() {
+    final ObjectMapper objectMapper = jackson2HttpMessageConverter.getObjectMapper();
+    final DefaultEntityServiceImpl<Room> entityService =
+        new DefaultEntityServiceImpl<>(Room.class, roomRepository, deletionRepository, objectMapper, validator);
+    entityService.setApplicationEventPublisher(eventPublisher);
+
+    when(roomRepository.saveAll(anyList())).then(returnsFirstArg());
+
+    final List<Room> rooms = new ArrayList<>();
+    for (int i = 0; i < 450; i++) {
+      final Room room = new Room();
+      prefillRoomFields(room);
+      room.setOwnerId("TestUser");
+      rooms.add(room);
+    }
+    final List<Room> createdRooms = entityService.create(rooms);
+
+    assertEquals(450, createdRooms.size());
+    verify(roomRepository, times(3)).saveAll(anyList());
+    assertEquals(1, eventListenerConfig.getRoomBulkChangeEvents().size());
+    assertEquals(createdRooms, eventListenerConfig.getRoomBulkChangeEvents().get(0).getEntities());
+  }
+
+  @Test
+  @WithMockUser("TestUser")
+  public void testBulkCreateRejectsInvalidEntities() {
+    final ObjectMapper objectMapper = jackson2HttpMessageConverter.getObjectMapper();
+    final DefaultEntityServiceImpl<Room> entityService =
+        new DefaultEntityServiceImpl<>(Room.class, roomRepository, deletionRepository, objectMapper, validator);
+    entityService.setApplicationEventPublisher(eventPublisher);
+
+    when(roomRepository.saveAll(anyList())).then(returnsFirstArg());
+
+    final Room room1 = new Room();
+    prefillRoomFields(room1);
+    room1.setOwnerId("TestUser");
+    final Room room2 = new Room();
+    prefillRoomFields(room2);
+    room2.setOwnerId("TestUser");
+    room2.setName("");
+    final List<Entity> rejectedEntities = new ArrayList<>();
+    final List<Room> createdRooms =
+        entityService.create(List.of(room1, room2), e -> rejectedEntities.add(e.getEntity()));
+
+    assertEquals(List.of(room1), createdRooms);
+    assertEquals(List.of(room2), rejectedEntities);
+    assertEquals(List.of(room1), eventListenerConfig.getRoomBulkChangeEvents().get(0).getEntities());
+    assertThrows(ValidationException.class, () -> entityService.create(List.of(room2)));
+  }
+
   @Test
   public void testChangeDetection() throws JsonProcessingException {
     final ObjectMapper objectMapper = jackson2HttpMessageConverter.getObjectMapper();
@@ -401,6 +457,7 @@ public class DefaultEntityServiceImplTest {
   public static class EventListenerConfig {
     private final List<BeforeUpdateEvent<Room>> roomBeforeUpdateEvents = new ArrayList<>();
     private final List<AfterUpdateEvent<Room>> roomAfterUpdateEvents = new ArrayList<>();
+    private final List<BulkChangeEvent<Room>> roomBulkChangeEvents = new ArrayList<>();
 
     @EventListener
     public void handleContentStateChangeEvent(final BeforeUpdateEvent<Room> event) {
@@ -412,6 +469,11 @@ public class DefaultEntityServiceImplTest {
       roomAfterUpdateEvents.add(event);
     }
 
+    @EventListener
+    public void handleRoomBulkChangeEvent(final BulkChangeEvent<Room> event) {
+      roomBulkChangeEvents.add(event);
+    }
+
     public List<BeforeUpdateEvent<Room>> getRoomBeforeUpdateEvents() {
       return roomBeforeUpdateEvents;
     }
@@ -420,9 +482,14 @@ public class DefaultEntityServiceImplTest {
       return roomAfterUpdateEvents;
     }
 
+    public List<BulkChangeEvent<Room>> getRoomBulkChangeEvents() {
+      return roomBulkChangeEvents;
+    }
+
     public void resetEvents() {
       roomBeforeUpdateEvents.clear();
       roomAfterUpdateEvents.clear();
+      roomBulkChangeEvents.clear();
     }
   }
 }
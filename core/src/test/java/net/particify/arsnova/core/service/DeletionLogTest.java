@@ -0,0 +1,73 @@
+package net.particify.arsnova.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.util.concurrent.RateLimiter;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import net.particify.arsnova.core.model.Answer;
+import net.particify.arsnova.core.model.Content;
+import net.particify.arsnova.core.model.Deletion;
+import net.particify.arsnova.core.model.Deletion.Initiator;
+import net.particify.arsnova.core.model.Room;
+import net.particify.arsnova.core.persistence.DeletionRepository;
+
+public class DeletionLogTest {
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testCascadedDeletionsAreAggregated() {
+    final DeletionRepository deletionRepository = mock(DeletionRepository.class);
+    final DeletionLog roomDeletionLog = DeletionLog.open();
+    roomDeletionLog.add(Room.class, Initiator.USER, 1);
+    for (int i = 0; i < 3; i++) {
+      final DeletionLog contentDeletionLog = DeletionLog.open();
+      contentDeletionLog.add(Content.class, Initiator.CASCADE, 1);
+      final DeletionLog answerDeletionLog = DeletionLog.open();
+      answerDeletionLog.add(Answer.class, Initiator.CASCADE, 100);
+      answerDeletionLog.close(deletionRepository);
+      contentDeletionLog.close(deletionRepository);
+    }
+    verify(deletionRepository, never()).saveAll(anyList());
+
+    roomDeletionLog.close(deletionRepository);
+
+    final ArgumentCaptor<List<Deletion>> captor = ArgumentCaptor.forClass(List.class);
+    verify(deletionRepository, times(1)).saveAll(captor.capture());
+    final List<Deletion> deletions = captor.getValue();
+    assertEquals(3, deletions.size());
+    assertEquals(Room.class, deletions.get(0).getDeletedType());
+    assertEquals(3, deletions.get(1).getCount());
+    assertEquals(300, deletions.get(2).getCount());
+  }
+
+  @Test
+  public void testJobProgressIsReportedPerChunk() {
+    final DeletionRepository deletionRepository = mock(DeletionRepository.class);
+    final List<String> progress = new ArrayList<>();
+    final DeletionLog jobDeletionLog = DeletionLog.openForJob(
+        RateLimiter.create(1000), (type, count) -> progress.add(type.getSimpleName() + ":" + count));
+    final DeletionLog contentDeletionLog = DeletionLog.open();
+    contentDeletionLog.acquireChunkPermit();
+    contentDeletionLog.add(Content.class, Initiator.CASCADE, 200);
+    contentDeletionLog.acquireChunkPermit();
+    contentDeletionLog.add(Content.class, Initiator.CASCADE, 50);
+    contentDeletionLog.close(deletionRepository);
+
+    assertThrows(
+        IllegalStateException.class,
+        () -> DeletionLog.openForJob(RateLimiter.create(1), (type, count) -> { }));
+    jobDeletionLog.close(deletionRepository);
+
+    assertEquals(List.of("Content:200", "Content:50"), progress);
+    verify(deletionRepository, times(1)).saveAll(anyList());
+  }
+}
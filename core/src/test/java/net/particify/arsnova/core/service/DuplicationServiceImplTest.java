@@ -0,0 +1,119 @@
+package net.particify.arsnova.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import net.particify.arsnova.core.config.properties.SystemProperties;
+import net.particify.arsnova.core.event.RoomDuplicationEvent;
+import net.particify.arsnova.core.event.RoomDuplicationProgressEvent;
+import net.particify.arsnova.core.model.Content;
+import net.particify.arsnova.core.model.ContentGroup;
+import net.particify.arsnova.core.model.Room;
+
+public class DuplicationServiceImplTest {
+  private static final String ORIGINAL_ROOM_ID = "room1";
+  private static final String DUPLICATE_ROOM_ID = "room2";
+
+  private ContentGroupService contentGroupService;
+  private ContentService contentService;
+  private ApplicationEventPublisher eventPublisher;
+  private DuplicationServiceImpl duplicationService;
+
+  @BeforeEach
+  public void setUp() {
+    contentGroupService = mock(ContentGroupService.class);
+    contentService = mock(ContentService.class);
+    duplicationService = new DuplicationServiceImpl(
+        mock(RoomService.class),
+        mock(RoomSettingsService.class),
+        contentGroupService,
+        contentService,
+        mock(SystemProperties.class));
+    eventPublisher = mock(ApplicationEventPublisher.class);
+    duplicationService.setApplicationEventPublisher(eventPublisher);
+    when(contentService.create(anyList())).thenAnswer(invocation -> {
+      final List<Content> contents = invocation.getArgument(0);
+      contents.forEach(c -> c.setId("copy-" + c.getBody()));
+      return contents;
+    });
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testContentsAreCopiedOnceAndRemapped() {
+    final ContentGroup group1 = createContentGroup("Group 1", List.of("c1", "c2"));
+    final ContentGroup group2 = createContentGroup("Group 2", List.of("c2", "c3"));
+    when(contentGroupService.getByRoomId(ORIGINAL_ROOM_ID)).thenReturn(List.of(group1, group2));
+    when(contentService.get(List.of("c1", "c2", "c3")))
+        .thenReturn(List.of(createContent("c1"), createContent("c2"), createContent("c3")));
+
+    duplicationService.handleRoomDuplication(
+        new RoomDuplicationEvent(this, createRoom(ORIGINAL_ROOM_ID), createRoom(DUPLICATE_ROOM_ID)));
+
+    final ArgumentCaptor<List<Content>> contentCaptor = ArgumentCaptor.forClass(List.class);
+    verify(contentService, times(1)).create(contentCaptor.capture());
+    assertEquals(3, contentCaptor.getValue().size());
+    contentCaptor.getValue().forEach(c -> assertEquals(DUPLICATE_ROOM_ID, c.getRoomId()));
+
+    final ArgumentCaptor<List<ContentGroup>> groupCaptor = ArgumentCaptor.forClass(List.class);
+    verify(contentGroupService, times(1)).create(groupCaptor.capture());
+    final List<ContentGroup> groupCopies = groupCaptor.getValue();
+    assertEquals(List.of("copy-c1", "copy-c2"), groupCopies.get(0).getContentIds());
+    assertEquals(List.of("copy-c2", "copy-c3"), groupCopies.get(1).getContentIds());
+    assertEquals(DUPLICATE_ROOM_ID, groupCopies.get(1).getRoomId());
+  }
+
+  @Test
+  public void testProgressIsPublishedPerBatch() {
+    final List<String> contentIds = IntStream.range(0, 600).mapToObj(i -> "c" + i).toList();
+    when(contentGroupService.getByRoomId(ORIGINAL_ROOM_ID))
+        .thenReturn(List.of(createContentGroup("Group 1", contentIds)));
+    when(contentService.get(anyList())).thenAnswer(invocation -> invocation.<List<String>>getArgument(0).stream()
+        .map(this::createContent)
+        .toList());
+
+    duplicationService.handleRoomDuplication(
+        new RoomDuplicationEvent(this, createRoom(ORIGINAL_ROOM_ID), createRoom(DUPLICATE_ROOM_ID)));
+
+    final ArgumentCaptor<RoomDuplicationProgressEvent> eventCaptor =
+        ArgumentCaptor.forClass(RoomDuplicationProgressEvent.class);
+    verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+    final List<RoomDuplicationProgressEvent> events = eventCaptor.getAllValues();
+    assertEquals(500, events.get(0).getDuplicatedContentCount());
+    assertEquals(600, events.get(1).getDuplicatedContentCount());
+    assertEquals(600, events.get(1).getTotalContentCount());
+    assertEquals(DUPLICATE_ROOM_ID, events.get(1).getDuplicateRoom().getId());
+  }
+
+  private Room createRoom(final String id) {
+    final Room room = new Room();
+    room.setId(id);
+    return room;
+  }
+
+  private ContentGroup createContentGroup(final String name, final List<String> contentIds) {
+    final ContentGroup contentGroup = new ContentGroup(ORIGINAL_ROOM_ID, name);
+    contentGroup.setContentIds(contentIds);
+    return contentGroup;
+  }
+
+  private Content createContent(final String id) {
+    final Content content = new Content();
+    content.setId(id);
+    content.setRoomId(ORIGINAL_ROOM_ID);
+    content.setFormat(Content.Format.TEXT);
+    content.setBody(id);
+    return content;
+  }
+}
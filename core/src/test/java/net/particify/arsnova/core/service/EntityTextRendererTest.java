@@ -0,0 +1,154 @@
+package net.particify.arsnova.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import net.particify.arsnova.core.config.properties.SystemProperties;
+import net.particify.arsnova.core.model.ChoiceQuestionContent;
+import net.particify.arsnova.core.persistence.AnnouncementRepository;
+import net.particify.arsnova.core.persistence.ContentRepository;
+import net.particify.arsnova.core.persistence.RoomRepository;
+
+public class EntityTextRendererTest {
+  private FakeFormattingServer formattingServer;
+  private ChoiceQuestionContent content;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    formattingServer = new FakeFormattingServer();
+    content = new ChoiceQuestionContent();
+    content.setBody("body");
+    content.setOptions(List.of(
+        new ChoiceQuestionContent.AnswerOption("x"),
+        new ChoiceQuestionContent.AnswerOption("y")));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    formattingServer.close();
+  }
+
+  @Test
+  public void testStoredTextsAreUsedForReads() {
+    createRenderer("1").storeRenderedTexts(List.of(content));
+    createRenderer("1").addRenderedTexts(List.of(content));
+
+    assertEquals("1", content.getRenderedTexts().getRendererVersion());
+    assertEquals(3, content.getRenderedTexts().getTexts().size());
+    assertEquals("<p>body</p>", content.getRenderedBody());
+    assertEquals("<p>y</p>", content.getOptions().get(1).getRenderedLabel());
+    assertEquals(1, formattingServer.getRequests().size());
+  }
+
+  @Test
+  public void testTextsOfOutdatedRendererAreNotUsed() {
+    createRenderer("1").storeRenderedTexts(List.of(content));
+    createRenderer("2").addRenderedTexts(List.of(content));
+
+    assertEquals("<p>body</p>", content.getRenderedBody());
+    assertEquals(2, formattingServer.getRequests().size());
+  }
+
+  @Test
+  public void testStoredTextsAreReusedForWrites() {
+    createRenderer("1").storeRenderedTexts(List.of(content));
+    content.setBody("changed");
+    createRenderer("1").storeRenderedTexts(List.of(content));
+
+    assertEquals(List.of(List.of("body", "x", "y"), List.of("changed")), formattingServer.getRequests());
+    assertEquals(3, content.getRenderedTexts().getTexts().size());
+  }
+
+  @Test
+  public void testUnrenderedTextIsUsedIfRenderingFails() {
+    formattingServer.setFailing(true);
+    content.setBody("<b>body</b>");
+    createRenderer("1").addRenderedTexts(List.of(content));
+
+    assertEquals("&lt;b&gt;body&lt;/b&gt;", content.getRenderedBody());
+  }
+
+  @Test
+  public void testRendererVersionIsNotUpdatedIfRenderingFails() {
+    formattingServer.setFailing(true);
+    createRenderer("1").storeRenderedTexts(List.of(content));
+
+    assertNull(content.getRenderedTexts().getRendererVersion());
+  }
+
+  @Test
+  public void testUnrenderableEntityIsMarkedAndSkipped() {
+    final ChoiceQuestionContent brokenContent = createContent("content2", "broken");
+    content.setId("content1");
+    formattingServer.setFailingText("broken");
+    final ContentRepository contentRepository = mock(ContentRepository.class);
+    when(contentRepository.findByRenderedTextsVersionNotIn(any(), anyInt()))
+        .thenReturn(List.of(content, brokenContent));
+
+    createRerenderer("2", contentRepository).rerenderOutdatedTexts();
+
+    verify(contentRepository).findByRenderedTextsVersionNotIn(Set.of("2", "2:failed"), 50);
+    verify(contentRepository).saveAll(List.of(content, brokenContent));
+    assertEquals("2", content.getRenderedTexts().getRendererVersion());
+    assertEquals(3, content.getRenderedTexts().getTexts().size());
+    assertEquals("2:failed", brokenContent.getRenderedTexts().getRendererVersion());
+  }
+
+  @Test
+  public void testRerenderingStopsIfFormattingServiceIsUnavailable() {
+    formattingServer.setFailing(true);
+    final ContentRepository contentRepository = mock(ContentRepository.class);
+    when(contentRepository.findByRenderedTextsVersionNotIn(any(), anyInt()))
+        .thenReturn(List.of(createContent("content1", "a"), createContent("content2", "b")));
+
+    createRerenderer("2", contentRepository).rerenderOutdatedTexts();
+
+    verify(contentRepository, never()).saveAll(any());
+  }
+
+  private ChoiceQuestionContent createContent(final String id, final String body) {
+    final ChoiceQuestionContent content = new ChoiceQuestionContent();
+    content.setId(id);
+    content.setBody(body);
+    content.setOptions(List.of());
+    return content;
+  }
+
+  private EntityTextRenderer createRerenderer(final String rendererVersion, final ContentRepository contentRepository) {
+    final LeaderElection leaderElection = mock(LeaderElection.class);
+    when(leaderElection.isLeader()).thenReturn(true);
+    final EntityTextRenderer renderer = createRenderer(rendererVersion);
+    renderer.setLeaderElection(leaderElection);
+    renderer.setRerenderingSources(
+        contentRepository, mock(AnnouncementRepository.class), mock(RoomRepository.class));
+
+    return renderer;
+  }
+
+  private EntityTextRenderer createRenderer(final String rendererVersion) {
+    final SystemProperties systemProperties = formattingServer.createSystemProperties();
+    systemProperties.getFormattingService().setRenderOnWrite(true);
+    systemProperties.getFormattingService().setRendererVersion(rendererVersion);
+    final CacheManager cacheManager = new ConcurrentMapCacheManager("rendered-texts", "entity");
+    final TextRenderingService textRenderingService = new TextRenderingService(
+        systemProperties, cacheManager, new SimpleMeterRegistry());
+
+    return new EntityTextRenderer(textRenderingService, systemProperties, cacheManager);
+  }
+}
@@ -0,0 +1,122 @@
+package net.particify.arsnova.core.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import net.particify.arsnova.core.config.properties.SystemProperties;
+
+/**
+ * Local stand-in for the formatting service. Texts are rendered by wrapping
+ * them in a paragraph. Received texts are recorded per request. Latency and
+ * errors can be injected.
+ */
+public class FakeFormattingServer implements AutoCloseable {
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final HttpServer server;
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private final List<List<String>> requests = new CopyOnWriteArrayList<>();
+  private volatile boolean failing;
+  private volatile String failingText;
+  private volatile Duration latency = Duration.ZERO;
+
+  public FakeFormattingServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/render-multiple", this::handleRenderMultiple);
+    server.setExecutor(executor);
+    server.start();
+  }
+
+  public String getUrl() {
+    return "http://localhost:" + server.getAddress().getPort();
+  }
+
+  /**
+   * Creates properties for a client of this server with short timeouts.
+   */
+  public SystemProperties createSystemProperties() {
+    final SystemProperties.FormattingService.CircuitBreaker circuitBreaker =
+        new SystemProperties.FormattingService.CircuitBreaker();
+    circuitBreaker.setFailureThreshold(3);
+    circuitBreaker.setOpenDuration(Duration.ofMillis(200));
+    final SystemProperties.FormattingService formattingService = new SystemProperties.FormattingService();
+    formattingService.setEnabled(true);
+    formattingService.setHostUrl(getUrl());
+    formattingService.setRendererVersion("1");
+    formattingService.setTimeout(Duration.ofSeconds(2));
+    formattingService.setMaxConcurrentRequests(4);
+    formattingService.setCircuitBreaker(circuitBreaker);
+    final SystemProperties systemProperties = new SystemProperties();
+    systemProperties.setFormattingService(formattingService);
+
+    return systemProperties;
+  }
+
+  /**
+   * Returns the texts which were received, grouped by request.
+   */
+  public List<List<String>> getRequests() {
+    return requests;
+  }
+
+  public void setFailing(final boolean failing) {
+    this.failing = failing;
+  }
+
+  /**
+   * Lets requests fail if they contain the passed text.
+   */
+  public void setFailingText(final String failingText) {
+    this.failingText = failingText;
+  }
+
+  public void setLatency(final Duration latency) {
+    this.latency = latency;
+  }
+
+  public static String render(final String text) {
+    return "<p>" + text + "</p>";
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private void handleRenderMultiple(final HttpExchange exchange) throws IOException {
+    final JsonNode requestBody = objectMapper.readTree(exchange.getRequestBody());
+    final List<String> texts = requestBody.valueStream().map(e -> e.get("text").asText()).toList();
+    requests.add(texts);
+    try {
+      Thread.sleep(latency.toMillis());
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (failing || texts.contains(failingText)) {
+      exchange.sendResponseHeaders(500, -1);
+      exchange.close();
+      return;
+    }
+
+    final ArrayNode responseBody = objectMapper.createArrayNode();
+    texts.forEach(text -> responseBody.addObject().put("html", render(text)));
+    final byte[] response = objectMapper.writeValueAsBytes(responseBody);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, response.length);
+    try (OutputStream outputStream = exchange.getResponseBody()) {
+      outputStream.write(response);
+    }
+  }
+}
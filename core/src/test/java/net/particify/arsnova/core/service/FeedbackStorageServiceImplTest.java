@@ -0,0 +1,71 @@
+package net.particify.arsnova.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import net.particify.arsnova.core.model.Feedback;
+import net.particify.arsnova.core.model.Room;
+
+public class FeedbackStorageServiceImplTest {
+  private static final String ROOM_ID = "2da635c77f114dc48ff9179731a7782e";
+  private static final int VOTER_COUNT = 5000;
+
+  private FeedbackStorageServiceImpl feedbackStorageService;
+  private Room room;
+
+  @BeforeEach
+  public void setUp() {
+    feedbackStorageService = new FeedbackStorageServiceImpl(Mockito.mock(RoomSettingsService.class));
+    room = new Room();
+    room.setId(ROOM_ID);
+  }
+
+  @Test
+  public void testConcurrentVotesAreCounted() throws InterruptedException {
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    for (int i = 0; i < VOTER_COUNT; i++) {
+      final String userId = "user" + i;
+      final int value = i % 4;
+      executor.execute(() -> {
+        feedbackStorageService.save(room, Feedback.FEEDBACK_AWAY, userId);
+        feedbackStorageService.save(room, value, userId);
+        feedbackStorageService.getByRoom(room);
+      });
+    }
+    executor.shutdown();
+    executor.awaitTermination(1, TimeUnit.MINUTES);
+
+    final int expectedCount = VOTER_COUNT / 4;
+    assertEquals(new Feedback(expectedCount, expectedCount, expectedCount, expectedCount),
+        feedbackStorageService.getByRoom(room));
+  }
+
+  @Test
+  public void testVoteOfUserIsReturned() {
+    feedbackStorageService.save(room, Feedback.FEEDBACK_OK, "user1");
+    feedbackStorageService.save(room, Feedback.FEEDBACK_SLOWER, "user1");
+
+    assertEquals(Feedback.FEEDBACK_SLOWER, feedbackStorageService.getByRoomAndUserId(room, "user1"));
+    assertNull(feedbackStorageService.getByRoomAndUserId(room, "user2"));
+    assertSame(room, feedbackStorageService.findByRoomId(ROOM_ID));
+  }
+
+  @Test
+  public void testResetRemovesVotesFromCounts() {
+    feedbackStorageService.save(room, Feedback.FEEDBACK_OK, "user1");
+    feedbackStorageService.save(room, Feedback.FEEDBACK_AWAY, "user2");
+
+    assertEquals(2, feedbackStorageService.cleanVotesByRoom(room, 0).size());
+    assertEquals(new Feedback(0, 0, 0, 0), feedbackStorageService.getByRoom(room));
+    assertEquals(List.of(), feedbackStorageService.cleanVotesByRoom(room, 0));
+  }
+}
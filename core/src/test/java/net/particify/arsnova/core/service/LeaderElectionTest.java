@@ -0,0 +1,48 @@
+package net.particify.arsnova.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import net.particify.arsnova.core.persistence.InMemoryLeaseRepository;
+
+public class LeaderElectionTest {
+  private SimpleMeterRegistry meterRegistry;
+  private LeaderElection node1;
+  private LeaderElection node2;
+
+  @BeforeEach
+  public void setUp() {
+    final InMemoryLeaseRepository leaseRepository = new InMemoryLeaseRepository();
+    meterRegistry = new SimpleMeterRegistry();
+    node1 = new LeaderElection(leaseRepository, meterRegistry);
+    node2 = new LeaderElection(leaseRepository, new SimpleMeterRegistry());
+  }
+
+  @Test
+  public void testOnlyOneNodeIsLeader() {
+    node1.renewLease();
+    node2.renewLease();
+    node1.renewLease();
+
+    assertTrue(node1.isLeader());
+    assertFalse(node2.isLeader());
+    assertEquals(1, meterRegistry.get("arsnova.scheduling.lease.held").gauge().value());
+    assertEquals(1, meterRegistry.get("arsnova.scheduling.lease.acquired").counter().count());
+  }
+
+  @Test
+  public void testLeaseIsHandedOverOnShutdown() {
+    node1.renewLease();
+    node2.renewLease();
+    node1.destroy();
+    node2.renewLease();
+
+    assertFalse(node1.isLeader());
+    assertTrue(node2.isLeader());
+  }
+}
@@ -0,0 +1,142 @@
+package net.particify.arsnova.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import net.particify.arsnova.core.model.Answer;
+import net.particify.arsnova.core.model.ChoiceAnswer;
+import net.particify.arsnova.core.model.ChoiceQuestionContent;
+import net.particify.arsnova.core.model.Content;
+
+public class LeaderboardEngineTest {
+  private static final String CONTENT_GROUP_ID = "contentgroup";
+  private static final String CONTENT_ID = "content";
+
+  private LeaderboardEngine engine;
+  private Content content;
+
+  @BeforeEach
+  public void setUp() {
+    engine = new LeaderboardEngine();
+    content = new ChoiceQuestionContent();
+    content.setId(CONTENT_ID);
+  }
+
+  @Test
+  public void testUsersWithSameScoreShareRank() {
+    final LeaderboardEngine.Ranking ranking = loadBoard(Map.of("a", 30, "b", 20, "c", 20, "d", 10)).getRanking();
+
+    assertEquals(
+        List.of(
+            new LeaderboardEngine.Standing(1, "a", 30),
+            new LeaderboardEngine.Standing(2, "b", 20),
+            new LeaderboardEngine.Standing(2, "c", 20),
+            new LeaderboardEngine.Standing(4, "d", 10)),
+        ranking.getPage(0, Integer.MAX_VALUE));
+    assertEquals(new LeaderboardEngine.Standing(2, "c", 20), ranking.getStanding("c"));
+    assertNull(ranking.getStanding("e"));
+  }
+
+  @Test
+  public void testPageIsLimited() {
+    final LeaderboardEngine.Ranking ranking = loadBoard(Map.of("a", 30, "b", 20, "c", 10)).getRanking();
+
+    assertEquals(List.of(new LeaderboardEngine.Standing(2, "b", 20)), ranking.getPage(1, 1));
+    assertEquals(List.of(), ranking.getPage(5, 10));
+  }
+
+  @Test
+  public void testRecordedAnswersUpdateRanking() {
+    final LeaderboardEngine.Board board = loadBoard(Map.of("a", 30, "b", 20));
+    final List<Answer> answers = List.of(createAnswer("b", 1, 15), createAnswer("c", 2, 50));
+    engine.beginRecording(answers);
+    engine.completeRecording(answers, answers);
+
+    assertEquals(new LeaderboardEngine.Standing(1, "b", 35), board.getRanking().getStanding("b"));
+    assertEquals(2, board.getRanking().size());
+  }
+
+  @Test
+  public void testRecordedAnswersMoveUsersInRanking() {
+    final LeaderboardEngine.Board board = loadBoard(Map.of("a", 30, "b", 20, "c", 10));
+    final List<Answer> answers = List.of(createAnswer("c", 1, 25));
+    engine.beginRecording(answers);
+    engine.completeRecording(answers, answers);
+
+    assertEquals(
+        List.of(
+            new LeaderboardEngine.Standing(1, "c", 35),
+            new LeaderboardEngine.Standing(2, "a", 30),
+            new LeaderboardEngine.Standing(3, "b", 20)),
+        board.getRanking().getPage(0, Integer.MAX_VALUE));
+    assertEquals(new LeaderboardEngine.Standing(2, "a", 30), board.getRanking().getStanding("a"));
+  }
+
+  @Test
+  public void testFailedAnswersDoNotUpdateRanking() {
+    final LeaderboardEngine.Board board = loadBoard(Map.of("a", 30));
+    final List<Answer> answers = List.of(createAnswer("a", 1, 15), createAnswer("b", 1, 50));
+    engine.beginRecording(answers);
+    engine.completeRecording(answers, answers.subList(0, 1));
+
+    assertEquals(new LeaderboardEngine.Standing(1, "a", 45), board.getRanking().getStanding("a"));
+    assertNull(board.getRanking().getStanding("b"));
+  }
+
+  @Test
+  public void testBoardLoadedWhileWritingIsNotKept() {
+    final AtomicInteger loadCount = new AtomicInteger();
+    final List<Answer> answers = List.of(createAnswer("a", 1, 15));
+    engine.beginRecording(answers);
+    engine.get(CONTENT_GROUP_ID, () -> {
+      loadCount.incrementAndGet();
+      return new LeaderboardEngine.Board(List.of(content));
+    });
+    engine.completeRecording(answers, answers);
+    engine.get(CONTENT_GROUP_ID, () -> {
+      loadCount.incrementAndGet();
+      return new LeaderboardEngine.Board(List.of(content));
+    });
+
+    assertEquals(2, loadCount.get());
+  }
+
+  @Test
+  public void testContentUpdateForcesReload() {
+    final AtomicInteger loadCount = new AtomicInteger();
+    engine.get(CONTENT_GROUP_ID, () -> {
+      loadCount.incrementAndGet();
+      return new LeaderboardEngine.Board(List.of(content));
+    });
+    engine.invalidateContent(CONTENT_ID);
+    engine.get(CONTENT_GROUP_ID, () -> {
+      loadCount.incrementAndGet();
+      return new LeaderboardEngine.Board(List.of(content));
+    });
+
+    assertEquals(2, loadCount.get());
+  }
+
+  private LeaderboardEngine.Board loadBoard(final Map<String, Integer> scores) {
+    return engine.get(CONTENT_GROUP_ID, () -> {
+      final LeaderboardEngine.Board board = new LeaderboardEngine.Board(List.of(content));
+      board.addScores(scores);
+      return board;
+    });
+  }
+
+  private Answer createAnswer(final String creatorId, final int round, final int points) {
+    final ChoiceAnswer answer = new ChoiceAnswer();
+    answer.setContentId(CONTENT_ID);
+    answer.setCreatorId(creatorId);
+    answer.setRound(round);
+    answer.setPoints(points);
+    return answer;
+  }
+}
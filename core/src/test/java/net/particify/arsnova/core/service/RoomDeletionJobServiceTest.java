@@ -0,0 +1,144 @@
+package net.particify.arsnova.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+import net.particify.arsnova.core.event.BeforeDeletionEvent;
+import net.particify.arsnova.core.event.CascadeDeletionEvent;
+import net.particify.arsnova.core.event.RoomDeletionProgressEvent;
+import net.particify.arsnova.core.model.Answer;
+import net.particify.arsnova.core.model.Content;
+import net.particify.arsnova.core.model.Deletion.Initiator;
+import net.particify.arsnova.core.model.Room;
+import net.particify.arsnova.core.model.RoomDeletionJob;
+import net.particify.arsnova.core.persistence.DeletionRepository;
+import net.particify.arsnova.core.persistence.RoomDeletionJobRepository;
+import net.particify.arsnova.core.persistence.RoomRepository;
+
+public class RoomDeletionJobServiceTest {
+  private static final String ROOM_ID = "room";
+
+  private RoomDeletionJobRepository roomDeletionJobRepository;
+  private RoomRepository roomRepository;
+  private ApplicationEventPublisher eventPublisher;
+  private LeaderElection leaderElection;
+  private RoomDeletionJobService roomDeletionJobService;
+  private final List<Object> publishedEvents = new ArrayList<>();
+
+  @BeforeEach
+  public void setUp() {
+    roomDeletionJobRepository = mock(RoomDeletionJobRepository.class);
+    roomRepository = mock(RoomRepository.class);
+    eventPublisher = mock(ApplicationEventPublisher.class);
+    leaderElection = mock(LeaderElection.class);
+    when(leaderElection.isLeader()).thenReturn(true);
+    roomDeletionJobService = new RoomDeletionJobService(
+        roomDeletionJobRepository, roomRepository, mock(DeletionRepository.class));
+    roomDeletionJobService.setApplicationEventPublisher(eventPublisher);
+    roomDeletionJobService.setLeaderElection(leaderElection);
+    doAnswer(invocation -> publishedEvents.add(invocation.getArgument(0)))
+        .when(eventPublisher).publishEvent(any(ApplicationEvent.class));
+  }
+
+  @Test
+  public void testJobIsPersistedBeforeRoomDeletion() {
+    final Room room = new Room();
+    room.setId(ROOM_ID);
+
+    roomDeletionJobService.handleRoomDeletion(new BeforeDeletionEvent<>(this, room));
+
+    final ArgumentCaptor<RoomDeletionJob> captor = ArgumentCaptor.forClass(RoomDeletionJob.class);
+    verify(roomDeletionJobRepository).save(captor.capture());
+    assertEquals(ROOM_ID, captor.getValue().getRoomId());
+  }
+
+  @Test
+  public void testProgressIsPersistedPerChunk() {
+    final RoomDeletionJob job = new RoomDeletionJob(ROOM_ID);
+    when(roomDeletionJobRepository.findAll()).thenReturn(List.of(job));
+    doAnswer(invocation -> {
+      publishedEvents.add(invocation.getArgument(0));
+      final DeletionLog deletionLog = DeletionLog.open();
+      deletionLog.add(Content.class, Initiator.CASCADE, 2);
+      deletionLog.add(Answer.class, Initiator.CASCADE, 200);
+      deletionLog.close(mock(DeletionRepository.class));
+      return null;
+    }).when(eventPublisher).publishEvent(any(CascadeDeletionEvent.class));
+
+    roomDeletionJobService.processJobs();
+
+    verify(roomDeletionJobRepository, times(2)).save(job);
+    verify(roomDeletionJobRepository).delete(job);
+    assertEquals(Map.of("Content", 2, "Answer", 200), job.getDeletedCounts());
+    final CascadeDeletionEvent<?> cascadeDeletionEvent = (CascadeDeletionEvent<?>) publishedEvents.get(0);
+    assertEquals(ROOM_ID, cascadeDeletionEvent.getEntity().getId());
+    final List<RoomDeletionProgressEvent> progressEvents = publishedEvents.stream()
+        .filter(RoomDeletionProgressEvent.class::isInstance)
+        .map(RoomDeletionProgressEvent.class::cast)
+        .toList();
+    assertEquals(2, progressEvents.size());
+    assertEquals(Map.of("Content", 2), progressEvents.get(0).getDeletedCounts());
+  }
+
+  @Test
+  public void testFailedJobIsKeptForNextRun() {
+    final RoomDeletionJob job = new RoomDeletionJob(ROOM_ID);
+    when(roomDeletionJobRepository.findAll()).thenReturn(List.of(job));
+    doThrow(new IllegalStateException()).when(eventPublisher).publishEvent(any(CascadeDeletionEvent.class));
+
+    roomDeletionJobService.processJobs();
+
+    verify(roomDeletionJobRepository, never()).delete(job);
+  }
+
+  @Test
+  public void testJobIsNotProcessedWhileRoomExists() {
+    final RoomDeletionJob job = new RoomDeletionJob(ROOM_ID);
+    when(roomDeletionJobRepository.findAll()).thenReturn(List.of(job));
+    when(roomRepository.existsById(ROOM_ID)).thenReturn(true);
+
+    roomDeletionJobService.processJobs();
+
+    verify(eventPublisher, never()).publishEvent(any(CascadeDeletionEvent.class));
+    verify(roomDeletionJobRepository, never()).delete(job);
+  }
+
+  @Test
+  public void testJobIsDiscardedIfRoomHasNotBeenDeleted() {
+    final RoomDeletionJob job = new RoomDeletionJob(ROOM_ID);
+    job.setCreationTimestamp(new Date(System.currentTimeMillis() - 60 * 60 * 1000L));
+    when(roomDeletionJobRepository.findAll()).thenReturn(List.of(job));
+    when(roomRepository.existsById(ROOM_ID)).thenReturn(true);
+
+    roomDeletionJobService.processJobs();
+
+    verify(eventPublisher, never()).publishEvent(any(CascadeDeletionEvent.class));
+    verify(roomDeletionJobRepository).delete(job);
+  }
+
+  @Test
+  public void testJobsAreOnlyProcessedByLeader() {
+    when(leaderElection.isLeader()).thenReturn(false);
+
+    roomDeletionJobService.processJobs();
+
+    verify(roomDeletionJobRepository, never()).findAll();
+  }
+}
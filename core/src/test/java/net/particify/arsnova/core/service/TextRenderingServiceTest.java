@@ -0,0 +1,112 @@
+package net.particify.arsnova.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import net.particify.arsnova.core.model.TextRenderingOptions;
+
+public class TextRenderingServiceTest {
+  private FakeFormattingServer formattingServer;
+  private TextRenderingService textRenderingService;
+  private TextRenderingOptions options;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    formattingServer = new FakeFormattingServer();
+    meterRegistry = new SimpleMeterRegistry();
+    textRenderingService = new TextRenderingService(
+        formattingServer.createSystemProperties(), new ConcurrentMapCacheManager("rendered-texts"), meterRegistry);
+    options = new TextRenderingOptions();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    formattingServer.close();
+  }
+
+  @Test
+  public void testTextsAreRenderedWithSingleRequest() {
+    final List<String> renderedTexts = textRenderingService.renderTexts(
+        inputs("a", "b", null, "", "a"));
+
+    assertEquals(Arrays.asList("<p>a</p>", "<p>b</p>", null, null, "<p>a</p>"), renderedTexts);
+    assertEquals(List.of(List.of("a", "b")), formattingServer.getRequests());
+  }
+
+  @Test
+  public void testOnlyUncachedTextsAreSent() {
+    textRenderingService.renderTexts(inputs("a", "b"));
+    final List<String> renderedTexts = textRenderingService.renderTexts(inputs("b", "c", "a"));
+
+    assertEquals(List.of("<p>b</p>", "<p>c</p>", "<p>a</p>"), renderedTexts);
+    assertEquals(List.of(List.of("a", "b"), List.of("c")), formattingServer.getRequests());
+  }
+
+  @Test
+  public void testLargeBatchesAreSplitAndMerged() {
+    final String[] texts = IntStream.range(0, 250).mapToObj(String::valueOf).toArray(String[]::new);
+    final List<String> renderedTexts = textRenderingService.renderTexts(inputs(texts));
+
+    assertEquals(Arrays.stream(texts).map(FakeFormattingServer::render).toList(), renderedTexts);
+    assertEquals(3, formattingServer.getRequests().size());
+  }
+
+  @Test
+  public void testFailedRenderingIsNotCached() {
+    formattingServer.setFailing(true);
+    final List<String> failedTexts = textRenderingService.renderTexts(inputs("a"));
+    formattingServer.setFailing(false);
+    final List<String> renderedTexts = textRenderingService.renderTexts(inputs("a"));
+
+    assertNull(failedTexts.get(0));
+    assertEquals(List.of("<p>a</p>"), renderedTexts);
+  }
+
+  @Test
+  public void testSlowRenderingIsAborted() {
+    formattingServer.setLatency(Duration.ofSeconds(5));
+    final long start = System.nanoTime();
+    final List<String> renderedTexts = textRenderingService.renderTexts(inputs("a"));
+
+    assertNull(renderedTexts.get(0));
+    assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(4)) < 0);
+  }
+
+  @Test
+  public void testCircuitBreakerSuspendsRequests() throws InterruptedException {
+    formattingServer.setFailing(true);
+    for (int i = 0; i < 3; i++) {
+      textRenderingService.renderTexts(inputs("a" + i));
+    }
+    textRenderingService.renderTexts(inputs("b"));
+
+    assertEquals(CircuitBreaker.State.OPEN, textRenderingService.getCircuitBreakerState());
+    assertEquals(3, formattingServer.getRequests().size());
+    assertEquals(1, meterRegistry.get("arsnova.formatting.requests.rejected").counter().count());
+
+    formattingServer.setFailing(false);
+    Thread.sleep(300);
+    final List<String> renderedTexts = textRenderingService.renderTexts(inputs("c"));
+
+    assertEquals(List.of("<p>c</p>"), renderedTexts);
+    assertEquals(CircuitBreaker.State.CLOSED, textRenderingService.getCircuitBreakerState());
+    assertEquals(0, meterRegistry.get("arsnova.circuitbreaker.state").gauge().value());
+  }
+
+  private List<TextRenderingService.RenderingInput> inputs(final String... texts) {
+    return Arrays.stream(texts).map(text -> new TextRenderingService.RenderingInput(text, options)).toList();
+  }
+}
@@ -2,25 +2,37 @@ package net.particify.arsnova.core.websocket.handler;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import net.particify.arsnova.core.config.properties.MessageBrokerProperties;
 import net.particify.arsnova.core.model.Feedback;
 import net.particify.arsnova.core.model.Room;
 import net.particify.arsnova.core.model.RoomSettings;
 import net.particify.arsnova.core.service.FeedbackStorageService;
 import net.particify.arsnova.core.service.RoomSettingsService;
+import net.particify.arsnova.core.websocket.ThrottledTopicPublisher;
 import net.particify.arsnova.core.websocket.message.CreateFeedback;
 import net.particify.arsnova.core.websocket.message.CreateFeedbackPayload;
 import net.particify.arsnova.core.websocket.message.FeedbackChanged;
+import net.particify.arsnova.core.websocket.message.FeedbackReset;
+import net.particify.arsnova.core.websocket.message.ResetFeedback;
+import net.particify.arsnova.core.websocket.message.ResetFeedbackPayload;
 
 @ExtendWith(SpringExtension.class)
 public class FeedbackCommandHandlerTest {
@@ -28,6 +40,9 @@ public class FeedbackCommandHandlerTest {
   @MockitoBean
   private RabbitTemplate messagingTemplate;
 
+  @MockitoBean
+  private TaskScheduler taskScheduler;
+
   @MockitoBean
   private FeedbackStorageService feedbackStorage;
 
@@ -44,7 +59,12 @@ public class FeedbackCommandHandlerTest {
 
   @BeforeEach
   public void setUp() {
-    this.commandHandler = new FeedbackCommandHandler(messagingTemplate, feedbackStorage, roomSettingsService);
+    final MessageBrokerProperties messageBrokerProperties = new MessageBrokerProperties();
+    messageBrokerProperties.setPublishing(new MessageBrokerProperties.Publishing());
+    messageBrokerProperties.getPublishing().setMaxFrequency(2);
+    final ThrottledTopicPublisher topicPublisher = new ThrottledTopicPublisher(
+        messagingTemplate, taskScheduler, messageBrokerProperties, new SimpleMeterRegistry());
+    this.commandHandler = new FeedbackCommandHandler(topicPublisher, feedbackStorage, roomSettingsService);
   }
 
   @Test
@@ -70,4 +90,65 @@ public class FeedbackCommandHandlerTest {
     assertThat(topicCaptor.getValue()).isEqualTo("amq.topic");
     assertThat(keyCaptor.getValue()).isEqualTo(roomId + ".feedback.stream");
   }
+
+  @Test
+  public void coalesceFeedbackWithinInterval() {
+    final RoomSettings roomSettings = new RoomSettings();
+    roomSettings.setSurveyEnabled(true);
+    final Room r = getTestRoom();
+    final String roomId = r.getId();
+
+    Mockito.when(roomSettingsService.getByRoomId(roomId)).thenReturn(roomSettings);
+    Mockito.when(feedbackStorage.getByRoom(r)).thenReturn(new Feedback(0, 1, 0, 0));
+
+    for (int i = 0; i < 3; i++) {
+      final CreateFeedbackPayload createFeedbackPayload = new CreateFeedbackPayload(roomId, "user" + i, 1);
+      final CreateFeedback createFeedback = new CreateFeedback();
+      createFeedback.setPayload(createFeedbackPayload);
+      commandHandler.handle(createFeedback);
+    }
+
+    final ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(messagingTemplate, times(1)).convertAndSend(any(String.class), any(String.class), any(Object.class));
+    verify(taskScheduler, times(1)).schedule(taskCaptor.capture(), any(Instant.class));
+
+    taskCaptor.getValue().run();
+    verify(messagingTemplate, times(2)).convertAndSend(any(String.class), any(String.class), any(Object.class));
+  }
+
+  @Test
+  public void resetIsNotReplacedByPendingFeedback() {
+    final RoomSettings roomSettings = new RoomSettings();
+    roomSettings.setSurveyEnabled(true);
+    final Room r = getTestRoom();
+    final String roomId = r.getId();
+
+    Mockito.when(roomSettingsService.getByRoomId(roomId)).thenReturn(roomSettings);
+    Mockito.when(feedbackStorage.getByRoom(r)).thenReturn(new Feedback(0, 1, 0, 0));
+
+    for (int i = 0; i < 2; i++) {
+      final CreateFeedback createFeedback = new CreateFeedback();
+      createFeedback.setPayload(new CreateFeedbackPayload(roomId, "user" + i, 1));
+      commandHandler.handle(createFeedback);
+    }
+    final ResetFeedback resetFeedback = new ResetFeedback();
+    resetFeedback.setPayload(new ResetFeedbackPayload(roomId));
+    commandHandler.handle(resetFeedback);
+    for (int i = 0; i < 2; i++) {
+      final CreateFeedback createFeedback = new CreateFeedback();
+      createFeedback.setPayload(new CreateFeedbackPayload(roomId, "user" + i, 1));
+      commandHandler.handle(createFeedback);
+    }
+
+    final ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(taskScheduler, times(1)).schedule(taskCaptor.capture(), any(Instant.class));
+    taskCaptor.getValue().run();
+
+    final String routingKey = roomId + ".feedback.stream";
+    final InOrder inOrder = Mockito.inOrder(messagingTemplate);
+    inOrder.verify(messagingTemplate, times(2))
+        .convertAndSend(eq("amq.topic"), eq(routingKey), any(FeedbackChanged.class));
+    inOrder.verify(messagingTemplate).convertAndSend(eq("amq.topic"), eq(routingKey), any(FeedbackReset.class));
+    inOrder.verify(messagingTemplate).convertAndSend(eq("amq.topic"), eq(routingKey), any(FeedbackChanged.class));
+  }
 }